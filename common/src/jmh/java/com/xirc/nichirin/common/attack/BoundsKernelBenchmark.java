@@ -0,0 +1,103 @@
+package com.xirc.nichirin.common.attack;
+
+import com.xirc.nichirin.common.util.BoundsKernel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.decoration.ArmorStand;
+import net.minecraft.world.phys.AABB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One hit box tested against a whole crowd: the packed overlap kernel versus reading each
+ * entity's live bounding box, plus a full broadphase query (grid gather, kernel, live check
+ * of the survivors) on an already built snapshot. The crowd's boxes were allocated in order,
+ * so the live scan runs with better locality here than over a real level's heap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundsKernelBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int entities;
+
+    private Crowd crowd;
+    private BoundsKernel.Packed bounds;
+    private int[] out;
+    private AABB box;
+    private EntityBroadphase broadphase;
+    private final List<LivingEntity> results = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        crowd = new Crowd(entities, 1, 42);
+        box = crowd.queries[0];
+        bounds = new BoundsKernel.Packed(entities);
+        for (ArmorStand entity : crowd.entities) {
+            bounds.add(entity.getBoundingBox());
+        }
+        out = new int[entities];
+
+        // Built once here - the game time stays put, so queries reuse the snapshot
+        broadphase = EntityBroadphase.get(crowd.level);
+        broadphase.query(box, (Entity) null, results);
+
+        // All three must agree, or the timings compare different work
+        int kernel = packedKernel();
+        int live = liveBoxScan();
+        if (kernel != live || results.size() != live) {
+            throw new IllegalStateException("Scans disagree: kernel " + kernel + ", live " + live
+                    + ", broadphase " + results.size());
+        }
+    }
+
+    /**
+     * Every row through the packed kernel
+     */
+    @Benchmark
+    public int packedKernel() {
+        return BoundsKernel.overlapping(bounds, box, 0, out);
+    }
+
+    /**
+     * The scan the kernel replaces, an AABB.intersects per entity
+     */
+    @Benchmark
+    public int liveBoxScan() {
+        int n = 0;
+        ArmorStand[] crowdEntities = crowd.entities;
+        for (int row = 0; row < crowdEntities.length; row++) {
+            if (crowdEntities[row].getBoundingBox().intersects(box)) {
+                out[n++] = row;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * The query hit volumes run, narrowed by the grid before the kernel
+     */
+    @Benchmark
+    public int broadphaseQuery() {
+        results.clear();
+        broadphase.query(box, (Entity) null, results);
+        return results.size();
+    }
+}
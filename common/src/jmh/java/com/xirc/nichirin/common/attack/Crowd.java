@@ -0,0 +1,82 @@
+package com.xirc.nichirin.common.attack;
+
+import com.xirc.nichirin.testutil.MinecraftTest;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.AbortableIterationConsumer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.decoration.ArmorStand;
+import net.minecraft.world.level.entity.EntitySectionStorage;
+import net.minecraft.world.level.entity.EntityTypeTest;
+import net.minecraft.world.level.entity.Visibility;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A crowd of real armor stands in a mocked server level, for the hit query benchmarks.
+ * The level only answers its game time and entity list; the entities are also filed into
+ * vanilla entity sections so the per-attack scan the broadphase replaced can be replayed.
+ */
+final class Crowd {
+
+    private static final EntityTypeTest<Entity, LivingEntity> LIVING = EntityTypeTest.forClass(LivingEntity.class);
+
+    final ServerLevel level;
+    final ArmorStand[] entities;
+    final AABB[] queries;
+    // Read by the mocked level, advanced by the benchmarks to start a new tick
+    long gameTime = 0;
+
+    private final EntitySectionStorage<Entity> sections = new EntitySectionStorage<>(Entity.class, section -> Visibility.TICKING);
+
+    Crowd(int count, int queryCount, long seed) {
+        MinecraftTest.bootstrap();
+        level = mock(ServerLevel.class);
+        when(level.getGameTime()).thenAnswer(invocation -> gameTime);
+
+        // Same density at every size, about one entity per 16 square blocks
+        Random random = new Random(seed);
+        double side = Math.sqrt(count * 16.0);
+        entities = new ArmorStand[count];
+        List<Entity> all = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ArmorStand entity = new ArmorStand(EntityType.ARMOR_STAND, level);
+            entity.setPos(random.nextDouble() * side - side / 2, 64 + random.nextInt(3), random.nextDouble() * side - side / 2);
+            entities[i] = entity;
+            all.add(entity);
+            sections.getOrCreateSection(SectionPos.asLong(entity.blockPosition())).add(entity);
+        }
+        when(level.getAllEntities()).thenReturn(all);
+
+        // Attack sized boxes centred on random members of the crowd
+        queries = new AABB[queryCount];
+        for (int i = 0; i < queryCount; i++) {
+            Vec3 center = entities[random.nextInt(count)].position();
+            queries[i] = new AABB(center, center).inflate(2.0, 1.5, 2.0);
+        }
+    }
+
+    /**
+     * A hit query as attacks ran it before the broadphase - level.getEntitiesOfClass,
+     * walking the entity sections the box touches into a fresh list
+     */
+    List<LivingEntity> sectionScan(AABB box, Entity except) {
+        List<LivingEntity> result = new ArrayList<>();
+        sections.getEntities(LIVING, box, entity -> {
+            if (entity != except && entity.isAlive()) {
+                result.add(entity);
+            }
+            return AbortableIterationConsumer.Continuation.CONTINUE;
+        });
+        return result;
+    }
+}
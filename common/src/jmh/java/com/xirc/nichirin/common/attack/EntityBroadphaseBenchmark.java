@@ -0,0 +1,66 @@
+package com.xirc.nichirin.common.attack;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.AABB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One tick of concurrent attack hit queries, each scanning the level itself versus
+ * sharing the level's broadphase grid. The broadphase side pays its snapshot build every tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityBroadphaseBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int entities;
+
+    // Hit queries in the tick, a few attacks each sweeping several boxes
+    @Param({"10", "50"})
+    public int queries;
+
+    private Crowd crowd;
+
+    @Setup
+    public void setUp() {
+        crowd = new Crowd(entities, queries, 42);
+    }
+
+    /**
+     * What every attack did before: its own level.getEntitiesOfClass
+     */
+    @Benchmark
+    public void perAttackScans(Blackhole blackhole) {
+        for (AABB box : crowd.queries) {
+            blackhole.consume(crowd.sectionScan(box, null));
+        }
+    }
+
+    /**
+     * The same queries through the shared grid, rebuilt once for the new tick
+     */
+    @Benchmark
+    public void sharedBroadphase(Blackhole blackhole) {
+        crowd.gameTime++;
+        for (AABB box : crowd.queries) {
+            blackhole.consume(EntityBroadphase.getEntities(crowd.level, box, (Entity) null));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.xirc.nichirin.common.attack;
+
+import net.minecraft.world.entity.LivingEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of the lag compensation history: one tick of recording and a batch of rewound
+ * hit lookups. The memory bound (the frame arrays once every frame is full) is printed at
+ * the end of each trial; gc.alloc.rate.norm of recordTick should be ~0 once warmed up.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityHistoryBenchmark {
+
+    private static final int LOOKUPS = 50;
+    // Mid-window rewind, between two recorded frames
+    private static final float REWIND_TICKS = 5.5f;
+
+    @Param({"100", "1000", "10000"})
+    public int entities;
+
+    private Crowd crowd;
+    private EntityHistory history;
+    private LivingEntity[] targets;
+
+    @Setup
+    public void setUp() {
+        crowd = new Crowd(entities, 0, 42);
+        history = EntityHistory.forLevel(crowd.level);
+        // Fill the whole ring so frames are at their steady state size
+        for (int i = 0; i < EntityHistory.HISTORY_TICKS; i++) {
+            crowd.gameTime++;
+            history.record();
+        }
+
+        Random random = new Random(7);
+        targets = new LivingEntity[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            targets[i] = crowd.entities[random.nextInt(entities)];
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        long bytes = history.getFootprintBytes();
+        System.out.printf("%nEntityHistory footprint at %d entities: %d bytes (%d per entity)%n",
+                entities, bytes, bytes / entities);
+    }
+
+    /**
+     * The end of level tick recording while combat is active
+     */
+    @Benchmark
+    public void recordTick() {
+        crowd.gameTime++;
+        history.record();
+    }
+
+    /**
+     * Rewound boxes for a tick's worth of hit checks
+     */
+    @Benchmark
+    public void rewoundLookups(Blackhole blackhole) {
+        for (LivingEntity target : targets) {
+            blackhole.consume(EntityHistory.boxAt(target, REWIND_TICKS));
+        }
+        blackhole.consume(EntityHistory.maxDisplacement(crowd.level, REWIND_TICKS));
+    }
+}
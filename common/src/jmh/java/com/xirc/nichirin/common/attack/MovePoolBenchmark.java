@@ -0,0 +1,74 @@
+package com.xirc.nichirin.common.attack;
+
+import com.xirc.nichirin.common.attack.component.IPooledMove;
+import com.xirc.nichirin.common.attack.moves.thunder.DistantThunderAttack;
+import com.xirc.nichirin.common.attack.moves.thunder.HeatLightningAttack;
+import com.xirc.nichirin.common.attack.moves.thunder.ThunderClapFlashAttack;
+import com.xirc.nichirin.testutil.MinecraftTest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Allocation per cast with and without the per-level move pool.
+ * Read gc.alloc.rate.norm (bytes per cast) from the gc profiler: the pooled cast should be ~0.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovePoolBenchmark {
+
+    // Forms with and without their own collections
+    @Param({"thunder_clap_flash", "distant_thunder", "heat_lightning"})
+    public String form;
+
+    private Class<IPooledMove> type;
+    private Supplier<IPooledMove> factory;
+    private MovePool pool;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        MinecraftTest.bootstrap();
+        factory = switch (form) {
+            case "thunder_clap_flash" -> ThunderClapFlashAttack::new;
+            case "distant_thunder" -> DistantThunderAttack::new;
+            case "heat_lightning" -> HeatLightningAttack::new;
+            default -> throw new IllegalArgumentException(form);
+        };
+        type = (Class<IPooledMove>) factory.get().getClass();
+        pool = new MovePool();
+    }
+
+    /**
+     * What every cast did before: a new attack object and its collections
+     */
+    @Benchmark
+    public IPooledMove newInstancePerCast() {
+        return factory.get();
+    }
+
+    /**
+     * A cast taking a reset instance from the level's pool, handed back when the move ends
+     */
+    @Benchmark
+    public IPooledMove pooledCast() {
+        IPooledMove move = pool.acquire(type, factory);
+        pool.release(move);
+        return move;
+    }
+}
@@ -8,6 +8,12 @@ import com.xirc.nichirin.client.registry.NichirinKeybindRegistry;
 import com.xirc.nichirin.client.renderer.BreathingBarRenderer;
 import com.xirc.nichirin.client.renderer.StaminaBarRenderer;
 import com.xirc.nichirin.common.advancement.NichirinCriteriaTriggers;
+import com.xirc.nichirin.common.attack.CombatBudget;
+import com.xirc.nichirin.common.attack.EntityBroadphase;
+import com.xirc.nichirin.common.attack.EntityHistory;
+import com.xirc.nichirin.common.attack.LineOfSight;
+import com.xirc.nichirin.common.attack.LingeringHitManager;
+import com.xirc.nichirin.common.attack.MoveScheduler;
 import com.xirc.nichirin.common.attack.moveset.AbstractMoveset;
 import com.xirc.nichirin.common.data.MovesetRegistry;
 import com.xirc.nichirin.common.data.BreathingStyleSyncPacket;
@@ -15,6 +21,7 @@ import com.xirc.nichirin.common.data.PlayerDataProvider;
 import com.xirc.nichirin.common.event.BreathingEventHandler;
 import com.xirc.nichirin.common.event.StaminaEventHandler;
 import com.xirc.nichirin.common.event.ThunderBreathingUnlockHandler;
+import com.xirc.nichirin.common.system.NichirinPlayerState;
 import com.xirc.nichirin.common.util.KatanaInputHandler;
 import com.xirc.nichirin.registry.*;
 import dev.architectury.platform.Platform;
@@ -46,6 +53,7 @@ public final class BreathOfNichirin {
         CREATIVE_TAB_REGISTRY.register();
         NichirinMoveRegistry.init();
         NichirinPacketRegistry.init();
+        NichirinVfxRegistry.init();
         NichirinParticleRegistry.init();
         NicirinSoundRegistry.init();
         ThunderBreathingUnlockHandler.register();
@@ -56,12 +64,19 @@ public final class BreathOfNichirin {
 
 
         MovesetRegistry.init();
+        NichirinPlayerState.register(); // Before other clone handlers, so they see the copied state
         PlayerDataProvider.register();
         BreathingStyleSyncPacket.register();
         NichirinCriteriaTriggers.init();
 
         // Initialize input handler (should be safe for both sides)
         KatanaInputHandler.register();
+        CombatBudget.register();
+        MoveScheduler.register();
+        LineOfSight.register();
+        EntityHistory.register();
+        LingeringHitManager.register();
+        EntityBroadphase.register(); // After every level tick that queries it, so its snapshot is dropped last
         BreathingEventHandler.register();
         StaminaEventHandler.register();
 
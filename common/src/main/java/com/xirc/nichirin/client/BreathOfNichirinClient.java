@@ -6,7 +6,6 @@ import com.xirc.nichirin.client.handler.BigGuiKeyHandler;
 import com.xirc.nichirin.client.registry.NichirinKeybindRegistry;
 import com.xirc.nichirin.client.renderer.BreathingBarRenderer;
 import com.xirc.nichirin.client.renderer.StaminaBarRenderer;
-import com.xirc.nichirin.common.attack.MoveExecutor;
 import com.xirc.nichirin.registry.NichirinParticleRegistry;
 import dev.architectury.event.events.client.ClientTickEvent;
 import dev.architectury.registry.client.particle.ParticleProviderRegistry;
@@ -14,6 +13,8 @@ import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
+import com.xirc.nichirin.client.particle.NichirinParticleManager;
+import com.xirc.nichirin.client.particle.ShockedStatusEmitter;
 import com.xirc.nichirin.client.particle.ThunderParticleProvider;
 
 @Environment(EnvType.CLIENT)
@@ -43,11 +44,13 @@ public class BreathOfNichirinClient {
         AttackWheelHandler.register();
         NichirinKeybindRegistry.init();
         AnimationRegistryHelper.preloadAnimations();
-        MoveExecutor.registerClientHandler();
         registerParticles();
+        NichirinParticleManager.register();
+        ShockedStatusEmitter.register();
         // In your client mod initializer
         BreathingBarRenderer.register();
         StaminaBarRenderer.register();
+        ClientGaugePredictor.register();
 
         System.out.println("DEBUG: Client initialization complete");
 
@@ -0,0 +1,109 @@
+package com.xirc.nichirin.client;
+
+import com.xirc.nichirin.client.gui.BreathingBarHUD;
+import com.xirc.nichirin.client.gui.StaminaBarHUD;
+import com.xirc.nichirin.common.system.GaugeRegen;
+import com.xirc.nichirin.common.system.PlayerGaugeStore;
+import com.xirc.nichirin.common.system.PlayerStateSync;
+import dev.architectury.event.events.client.ClientTickEvent;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.Minecraft;
+
+/**
+ * Runs the gauge regen model locally from the last authoritative snapshot,
+ * so the server only has to send stamina and breath when they are used or reconfigured.
+ */
+@Environment(EnvType.CLIENT)
+public class ClientGaugePredictor {
+
+    // Last received snapshot fields, indexed like PlayerStateSync
+    private static final float[] fields = {100f, 100f, 1.2f, 60, 60, 100f, 100f, 0.8f, 80, 80};
+
+    // Prediction anchors per gauge (client game ticks)
+    private static final float[] base = {100f, 100f};
+    private static final long[] baseTick = new long[2];
+    private static final long[] useTick = new long[2];
+    private static final long[] fullTick = new long[2];
+
+    /**
+     * Registers the client tick that pushes predicted values to the HUD
+     */
+    public static void register() {
+        ClientTickEvent.CLIENT_POST.register(minecraft -> {
+            if (minecraft.level == null || minecraft.player == null) return;
+
+            long now = minecraft.level.getGameTime();
+            for (int gauge = 0; gauge < 2; gauge++) {
+                // Only wake while the gauge is still regenerating
+                if (now <= fullTick[gauge]) {
+                    pushToHud(gauge);
+                }
+            }
+        });
+    }
+
+    /**
+     * Stores one snapshot field received from the server
+     */
+    public static void setField(int field, float value) {
+        fields[field] = value;
+    }
+
+    /**
+     * Re-anchors a gauge's prediction on the latest snapshot (reconciles any drift)
+     */
+    public static void resync(int gauge) {
+        long now = now();
+        int first = gauge * PlayerStateSync.FIELDS_PER_GAUGE;
+
+        base[gauge] = fields[first + PlayerStateSync.VALUE];
+        baseTick[gauge] = now;
+        useTick[gauge] = now - (long) fields[first + PlayerStateSync.SINCE_USE];
+
+        long stepsDone = GaugeRegen.stepsAt(now, useTick[gauge], delay(gauge));
+        long stepsNeeded = GaugeRegen.stepsToFull(base[gauge], max(gauge), rate(gauge));
+        fullTick[gauge] = GaugeRegen.tickForSteps(stepsDone + stepsNeeded, useTick[gauge], delay(gauge));
+
+        pushToHud(gauge);
+    }
+
+    /**
+     * Predicted current value of a gauge (see PlayerGaugeStore gauge indices)
+     */
+    public static float get(int gauge) {
+        long now = now();
+        long steps = GaugeRegen.stepsAt(now, useTick[gauge], delay(gauge))
+                - GaugeRegen.stepsAt(baseTick[gauge], useTick[gauge], delay(gauge));
+        return GaugeRegen.valueAfter(base[gauge], max(gauge), rate(gauge), steps);
+    }
+
+    public static float getMax(int gauge) {
+        return max(gauge);
+    }
+
+    private static void pushToHud(int gauge) {
+        if (gauge == PlayerGaugeStore.STAMINA) {
+            StaminaBarHUD.updateStamina(get(gauge), max(gauge));
+        } else {
+            BreathingBarHUD.updateBreath(get(gauge), max(gauge));
+        }
+    }
+
+    private static float max(int gauge) {
+        return fields[gauge * PlayerStateSync.FIELDS_PER_GAUGE + PlayerStateSync.MAX];
+    }
+
+    private static float rate(int gauge) {
+        return fields[gauge * PlayerStateSync.FIELDS_PER_GAUGE + PlayerStateSync.RATE];
+    }
+
+    private static int delay(int gauge) {
+        return (int) fields[gauge * PlayerStateSync.FIELDS_PER_GAUGE + PlayerStateSync.DELAY];
+    }
+
+    private static long now() {
+        Minecraft minecraft = Minecraft.getInstance();
+        return minecraft.level != null ? minecraft.level.getGameTime() : 0;
+    }
+}
@@ -0,0 +1,246 @@
+package com.xirc.nichirin.client.particle;
+
+import dev.architectury.event.events.client.ClientPlayerEvent;
+import dev.architectury.event.events.client.ClientTickEvent;
+import lombok.Getter;
+import lombok.Setter;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.Camera;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Vector3f;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Client-side gate for Nichirin particles. Every spawn is checked, in order, against:
+ * <ol>
+ *     <li>a global budget of spawns per tick</li>
+ *     <li>the emitter currently spawning (one effect event, the shocked crackle, ...) - under load
+ *     an even fraction of its particles is kept, and a hard cap stops runaway emitters</li>
+ *     <li>the view cone of the camera - particles clearly behind the player are dropped</li>
+ *     <li>distance LOD - beyond lodNear only a falling fraction of particles is kept</li>
+ * </ol>
+ * The budgets and the LOD fraction scale with a quality factor driven by the measured frame time.
+ * Nichirin particle types are checked in their provider; our client emitters spawn
+ * vanilla types through {@link #spawn} so they are budgeted too.
+ */
+@Environment(EnvType.CLIENT)
+public class NichirinParticleManager {
+
+    // Settings
+    @Getter @Setter
+    private static boolean enabled = true;
+    @Getter @Setter
+    private static int globalBudget = 2000; // Spawns per tick at full quality
+    @Getter @Setter
+    private static int emitterBudget = 1000; // Spawns per tick per emitter, above what any program emits (~600)
+    @Getter @Setter
+    private static double lodNear = 12.0; // Full detail within this distance
+    @Getter @Setter
+    private static double lodFar = 32.0; // Vanilla doesn't render particles spawned further than this
+    @Getter @Setter
+    private static float lodMinKeep = 0.25f; // Fraction kept at lodFar
+    @Getter @Setter
+    private static double cullMinDistance = 6.0; // Never cull closer than this, the camera may turn
+    @Getter @Setter
+    private static float targetFrameMillis = 1000f / 60;
+    @Getter @Setter
+    private static float minQuality = 0.25f;
+
+    private static final float SMOOTHING = 0.1f;
+    private static final double CULL_MARGIN = Math.toRadians(15); // Slack for drift and turning
+
+    // Emitter spawns this tick (emitter key -> count)
+    private static final Map<Object, int[]> emitterSpawns = new HashMap<>();
+    private static int[] emitterCount = null;
+    private static float emitterKeep = 0; // Fractional accumulator thinning the open emitter by quality
+    private static int spawnsThisTick = 0;
+
+    // Set while a spawn already admitted by spawn() reaches a provider
+    private static boolean admitted = false;
+
+    // Camera snapshot, refreshed every tick
+    private static boolean cameraReady = false;
+    private static double camX, camY, camZ;
+    private static float lookX, lookY, lookZ;
+    private static double cullCos;
+
+    // Fractional accumulator for LOD thinning (deterministic, no random rolls)
+    private static float lodAccumulator = 0;
+
+    @Getter
+    private static float frameMillis = 0;
+    @Getter
+    private static float quality = 1.0f;
+
+    // Counters
+    @Getter
+    private static long spawned = 0;
+    @Getter
+    private static long culledByBudget = 0;
+    @Getter
+    private static long culledByFrustum = 0;
+    @Getter
+    private static long culledByDistance = 0;
+    @Getter
+    private static long recycled = 0;
+
+    public static void register() {
+        ClientTickEvent.CLIENT_POST.register(NichirinParticleManager::tick);
+        ClientPlayerEvent.CLIENT_PLAYER_QUIT.register(player -> reset());
+    }
+
+    /**
+     * Starts spawning on behalf of a long-lived emitter; its spawns share one per-tick budget
+     */
+    public static void beginEmitter(Object key) {
+        emitterCount = emitterSpawns.computeIfAbsent(key, k -> new int[1]);
+        emitterKeep = 0;
+    }
+
+    /**
+     * Starts spawning one event (an effect, a teleport trail) with a budget of its own
+     */
+    public static void beginEvent() {
+        emitterCount = new int[1];
+        emitterKeep = 0;
+    }
+
+    public static void endEmitter() {
+        emitterCount = null;
+    }
+
+    /**
+     * Spawns a particle of any type if it passes the checks
+     */
+    public static void spawn(Level level, ParticleOptions particle, double x, double y, double z,
+                             double xSpeed, double ySpeed, double zSpeed) {
+        if (!admit(x, y, z)) return;
+
+        admitted = true;
+        try {
+            level.addParticle(particle, x, y, z, xSpeed, ySpeed, zSpeed);
+        } finally {
+            admitted = false;
+        }
+    }
+
+    /**
+     * Check for Nichirin particle providers; spawns coming through {@link #spawn} pass straight through
+     */
+    public static boolean admitProvided(double x, double y, double z) {
+        return admitted || admit(x, y, z);
+    }
+
+    /**
+     * Counts a particle instance taken from a pool instead of allocated
+     */
+    public static void countRecycled() {
+        recycled++;
+    }
+
+    /**
+     * Whether a particle at the given position may spawn, counting it if so
+     */
+    public static boolean admit(double x, double y, double z) {
+        if (!enabled) {
+            spawned++;
+            return true;
+        }
+
+        // Budgets
+        if (spawnsThisTick >= globalBudget * quality) {
+            culledByBudget++;
+            return false;
+        }
+        if (emitterCount != null) {
+            // Thin the whole emitter evenly instead of cutting off the tail of what it spawns
+            emitterKeep += quality;
+            if (emitterKeep < 1 || emitterCount[0] >= emitterBudget) {
+                culledByBudget++;
+                return false;
+            }
+            emitterKeep -= 1;
+        }
+
+        if (cameraReady) {
+            double dx = x - camX, dy = y - camY, dz = z - camZ;
+            double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+
+            // View cone (a conservative stand-in for the frustum, which isn't exposed to us)
+            if (distance > cullMinDistance && dx * lookX + dy * lookY + dz * lookZ < cullCos * distance) {
+                culledByFrustum++;
+                return false;
+            }
+
+            // Distance LOD
+            if (distance > lodNear) {
+                double t = Math.min(1.0, (distance - lodNear) / (lodFar - lodNear));
+                lodAccumulator += (float) ((1.0 - t * (1.0 - lodMinKeep)) * quality);
+                if (lodAccumulator < 1) {
+                    culledByDistance++;
+                    return false;
+                }
+                lodAccumulator -= 1;
+            }
+        }
+
+        spawnsThisTick++;
+        if (emitterCount != null) {
+            emitterCount[0]++;
+        }
+        spawned++;
+        return true;
+    }
+
+    private static void tick(Minecraft minecraft) {
+        spawnsThisTick = 0;
+        emitterSpawns.clear();
+        if (emitterCount != null) {
+            // Emitter left open - don't carry it into the next tick
+            endEmitter();
+        }
+
+        // Quality follows the smoothed frame time
+        float millis = 1000f / Math.max(1, minecraft.getFps());
+        frameMillis = frameMillis == 0 ? millis : frameMillis + (millis - frameMillis) * SMOOTHING;
+        quality = Math.max(minQuality, Math.min(1.0f, targetFrameMillis / frameMillis));
+
+        updateCamera(minecraft);
+    }
+
+    private static void updateCamera(Minecraft minecraft) {
+        Camera camera = minecraft.gameRenderer.getMainCamera();
+        cameraReady = minecraft.level != null && camera.isInitialized();
+        if (!cameraReady) return;
+
+        Vec3 position = camera.getPosition();
+        Vector3f look = camera.getLookVector();
+        camX = position.x;
+        camY = position.y;
+        camZ = position.z;
+        lookX = look.x();
+        lookY = look.y();
+        lookZ = look.z();
+
+        // Half angle of the view's diagonal, from the vertical fov and the aspect ratio
+        double aspect = (double) minecraft.getWindow().getWidth() / Math.max(1, minecraft.getWindow().getHeight());
+        double halfVertical = Math.toRadians(minecraft.options.fov().get()) / 2;
+        double halfDiagonal = Math.atan(Math.tan(halfVertical) * Math.sqrt(1 + aspect * aspect));
+        cullCos = Math.cos(Math.min(Math.PI, halfDiagonal + CULL_MARGIN));
+    }
+
+    private static void reset() {
+        emitterSpawns.clear();
+        endEmitter();
+        spawnsThisTick = 0;
+        cameraReady = false;
+        frameMillis = 0;
+        quality = 1.0f;
+    }
+}
@@ -0,0 +1,128 @@
+package com.xirc.nichirin.client.particle;
+
+import com.xirc.nichirin.common.network.ShockedStatusPacket;
+import com.xirc.nichirin.registry.NichirinParticleRegistry;
+import dev.architectury.event.events.client.ClientPlayerEvent;
+import dev.architectury.event.events.client.ClientTickEvent;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Draws the thunder crackle around shocked entities on the client.
+ * The server only syncs when an entity becomes shocked, when it stops being shocked
+ * and a periodic refresh for players who start tracking it late.
+ */
+@Environment(EnvType.CLIENT)
+public class ShockedStatusEmitter {
+
+    // Shocked entity id -> game time the status ends (Long.MAX_VALUE for infinite)
+    private static final Map<Integer, Long> shocked = new HashMap<>();
+    private static ClientLevel trackedLevel;
+
+    public static void register() {
+        ClientTickEvent.CLIENT_LEVEL_POST.register(ShockedStatusEmitter::tick);
+        ClientPlayerEvent.CLIENT_PLAYER_QUIT.register(player -> reset());
+    }
+
+    public static void set(int entityId, long startTick, int duration) {
+        shocked.put(entityId, duration == ShockedStatusPacket.INFINITE ? Long.MAX_VALUE : startTick + duration);
+    }
+
+    /**
+     * Ends the status with a final burst
+     */
+    public static void clear(int entityId) {
+        if (shocked.remove(entityId) == null || trackedLevel == null) return;
+
+        Entity entity = trackedLevel.getEntity(entityId);
+        if (entity != null) {
+            ParticleOptions thunder = NichirinParticleRegistry.THUNDER.get();
+            spawn(trackedLevel, thunder, entity.getX(), entity.getY() + entity.getBbHeight() / 2, entity.getZ(),
+                    5, 0.3, 0.3, 0.3, 0.01);
+        }
+    }
+
+    private static void tick(ClientLevel level) {
+        // Entity ids mean nothing across levels
+        if (level != trackedLevel) {
+            shocked.clear();
+            trackedLevel = level;
+        }
+        if (shocked.isEmpty()) return;
+
+        long now = level.getGameTime();
+        ParticleOptions thunder = NichirinParticleRegistry.THUNDER.get();
+        // A shocked crowd shares one particle budget
+        NichirinParticleManager.beginEmitter(ShockedStatusEmitter.class);
+        try {
+            Iterator<Map.Entry<Integer, Long>> iterator = shocked.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Integer, Long> entry = iterator.next();
+                Entity entity = level.getEntity(entry.getKey());
+                // Untracked, dead or expired without a clear (e.g. the clear packet was missed)
+                if (entity == null || entity.isRemoved() || now >= entry.getValue()) {
+                    iterator.remove();
+                    continue;
+                }
+                emit(level, thunder, entity);
+            }
+        } finally {
+            NichirinParticleManager.endEmitter();
+        }
+    }
+
+    private static void emit(ClientLevel level, ParticleOptions thunder, Entity entity) {
+        // Particles every 2 ticks to avoid overwhelming
+        if (entity.tickCount % 2 != 0) return;
+
+        RandomSource random = level.random;
+        double height = entity.getBbHeight();
+        double width = entity.getBbWidth();
+
+        // 1-3 particles at random positions around the entity
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            NichirinParticleManager.spawn(level, thunder,
+                    entity.getX() + (random.nextDouble() - 0.5) * width * 1.5,
+                    entity.getY() + random.nextDouble() * height,
+                    entity.getZ() + (random.nextDouble() - 0.5) * width * 1.5,
+                    0, 0, 0);
+        }
+
+        // Occasionally a larger burst
+        if (entity.tickCount % 10 == 0) {
+            spawn(level, thunder, entity.getX(), entity.getY() + height / 2, entity.getZ(),
+                    1, width * 0.5, height * 0.5, width * 0.5, 0.001);
+        }
+    }
+
+    /**
+     * Same spread and speed as ServerLevel.sendParticles
+     */
+    private static void spawn(ClientLevel level, ParticleOptions particle, double x, double y, double z,
+                              int count, double spreadX, double spreadY, double spreadZ, double speed) {
+        RandomSource random = level.random;
+        for (int i = 0; i < count; i++) {
+            NichirinParticleManager.spawn(level, particle,
+                    x + random.nextGaussian() * spreadX,
+                    y + random.nextGaussian() * spreadY,
+                    z + random.nextGaussian() * spreadZ,
+                    random.nextGaussian() * speed,
+                    random.nextGaussian() * speed,
+                    random.nextGaussian() * speed);
+        }
+    }
+
+    private static void reset() {
+        shocked.clear();
+        trackedLevel = null;
+    }
+}
@@ -4,8 +4,15 @@ import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.*;
 import net.minecraft.core.particles.SimpleParticleType;
 
+import java.util.ArrayDeque;
+
 public class ThunderParticleProvider implements ParticleProvider<SimpleParticleType> {
+    // Dead instances kept for reuse
+    private static final int MAX_POOLED = 256;
+
     private final SpriteSet sprites;
+    private final ArrayDeque<ThunderParticleInstance> pool = new ArrayDeque<>();
+    private ClientLevel poolLevel; // Particles are bound to their level, the pool is dropped on change
 
     public ThunderParticleProvider(SpriteSet sprites) {
         this.sprites = sprites;
@@ -15,30 +22,77 @@ public class ThunderParticleProvider implements ParticleProvider<SimpleParticleT
     public Particle createParticle(SimpleParticleType type, ClientLevel level,
                                    double x, double y, double z,
                                    double xSpeed, double ySpeed, double zSpeed) {
-        return new ThunderParticleInstance(level, x, y, z, xSpeed, ySpeed, zSpeed, this.sprites);
+        // Budget, view and distance checks - null cancels the spawn
+        if (!NichirinParticleManager.admitProvided(x, y, z)) return null;
+
+        if (level != poolLevel) {
+            pool.clear();
+            poolLevel = level;
+        }
+
+        ThunderParticleInstance particle = pool.poll();
+        if (particle != null) {
+            particle.reset(x, y, z);
+            NichirinParticleManager.countRecycled();
+            return particle;
+        }
+        return new ThunderParticleInstance(level, x, y, z, this.sprites, this);
+    }
+
+    private void release(ThunderParticleInstance particle, ClientLevel level) {
+        if (pool.size() < MAX_POOLED && level == poolLevel) {
+            pool.add(particle);
+        }
     }
 
     public static class ThunderParticleInstance extends TextureSheetParticle {
         private final SpriteSet sprites;
+        private final ThunderParticleProvider provider;
 
         protected ThunderParticleInstance(ClientLevel level, double x, double y, double z,
-                                          double xSpeed, double ySpeed, double zSpeed, SpriteSet sprites) {
-            super(level, x, y, z, xSpeed, ySpeed, zSpeed);
+                                          SpriteSet sprites, ThunderParticleProvider provider) {
+            // Position-only constructor: the velocity one rolls a random motion that is replaced anyway
+            super(level, x, y, z);
             this.sprites = sprites;
+            this.provider = provider;
+            this.hasPhysics = false; // No gravity/collision
+
+            init();
+        }
+
+        /**
+         * Brings a dead instance back to life at a new position
+         */
+        private void reset(double x, double y, double z) {
+            this.setPos(x, y, z);
+            this.xo = x;
+            this.yo = y;
+            this.zo = z;
+            this.age = 0;
+            this.removed = false;
+            this.onGround = false;
+            this.roll = 0;
+            this.oRoll = 0;
+
+            init();
+        }
+
+        private void init() {
+            // All random properties from one roll, 10 bits each (7 for the colors)
+            long bits = this.random.nextLong();
 
             // Thunder particle properties
-            this.lifetime = 20 + this.random.nextInt(20); // 1-2 seconds
-            this.quadSize = 0.15f + this.random.nextFloat() * 0.15f; // Random size
-            this.hasPhysics = false; // No gravity/collision
+            this.lifetime = 20 + (int) ((bits & 1023) % 20); // 1-2 seconds
+            this.quadSize = 0.15f + (float) unit(bits, 10) * 0.15f; // Random size
 
             // Thunder-like movement (erratic)
-            this.xd = (this.random.nextDouble() - 0.5) * 0.1;
-            this.yd = (this.random.nextDouble() - 0.5) * 0.1;
-            this.zd = (this.random.nextDouble() - 0.5) * 0.1;
+            this.xd = (unit(bits, 20) - 0.5) * 0.1;
+            this.yd = (unit(bits, 30) - 0.5) * 0.1;
+            this.zd = (unit(bits, 40) - 0.5) * 0.1;
 
             // Bright white/blue color with alpha
-            this.rCol = 0.9f + this.random.nextFloat() * 0.1f;
-            this.gCol = 0.9f + this.random.nextFloat() * 0.1f;
+            this.rCol = 0.9f + ((bits >>> 50) & 127) / 128f * 0.1f;
+            this.gCol = 0.9f + ((bits >>> 57) & 127) / 128f * 0.1f;
             this.bCol = 1.0f;
             this.alpha = 0.8f;
 
@@ -49,14 +103,21 @@ public class ThunderParticleProvider implements ParticleProvider<SimpleParticleT
         public void tick() {
             super.tick();
 
+            if (!this.isAlive()) {
+                // The engine unlinks it right after this tick, so it can be reused from the next spawn on
+                provider.release(this, this.level);
+                return;
+            }
+
             // Fade out over time
             this.alpha = 1.0f - ((float)this.age / (float)this.lifetime);
 
             // Erratic movement like lightning
             if (this.age % 3 == 0) {
-                this.xd += (this.random.nextDouble() - 0.5) * 0.02;
-                this.yd += (this.random.nextDouble() - 0.5) * 0.02;
-                this.zd += (this.random.nextDouble() - 0.5) * 0.02;
+                long bits = this.random.nextLong();
+                this.xd += (unit(bits, 0) - 0.5) * 0.02;
+                this.yd += (unit(bits, 10) - 0.5) * 0.02;
+                this.zd += (unit(bits, 20) - 0.5) * 0.02;
             }
 
             // Update sprite
@@ -67,5 +128,10 @@ public class ThunderParticleProvider implements ParticleProvider<SimpleParticleT
         public ParticleRenderType getRenderType() {
             return ParticleRenderType.PARTICLE_SHEET_TRANSLUCENT;
         }
+
+        // 10 random bits as a value in [0, 1)
+        private static double unit(long bits, int shift) {
+            return ((bits >>> shift) & 1023) / 1024.0;
+        }
     }
-}
\ No newline at end of file
+}
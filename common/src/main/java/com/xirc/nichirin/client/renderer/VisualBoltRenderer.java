@@ -0,0 +1,194 @@
+package com.xirc.nichirin.client.renderer;
+
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.Camera;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.particle.Particle;
+import net.minecraft.client.particle.ParticleRenderType;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Draws visual-only lightning bolts on the client, in place of LightningBolt entities.
+ * Each bolt builds its jagged geometry once from a seed and draws it every frame until it fades.
+ * Bolts live in the particle engine (like item pickup particles) so they need no loader-specific
+ * render hook, and they draw with the same render type as vanilla lightning.
+ */
+@Environment(EnvType.CLIENT)
+public class VisualBoltRenderer {
+
+    private static final int LIFETIME = 8; // Ticks
+
+    /**
+     * Adds a bolt striking the given position
+     */
+    public static void spawn(ClientLevel level, Vec3 pos, long seed) {
+        Minecraft.getInstance().particleEngine.add(new BoltParticle(level, pos, BoltGeometry.build(seed)));
+    }
+
+    /**
+     * Centerline segments of one bolt, relative to the strike point
+     */
+    private static class BoltGeometry {
+        // Same dimensions and colors as vanilla lightning
+        private static final int MAIN_SEGMENTS = 8;
+        private static final float SEGMENT_HEIGHT = 16.0f;
+        private static final float MAIN_WANDER = 5.0f;
+        private static final float BRANCH_WANDER = 15.0f;
+        private static final int BRANCH_SEGMENTS = 3;
+        private static final int MAX_BRANCHES = 3;
+        private static final int LAYERS = 4;
+        private static final float MAX_LAYER_WIDTH = 0.1f + (LAYERS - 1) * 0.2f;
+        private static final float RED = 0.45f, GREEN = 0.45f, BLUE = 0.5f;
+
+        // Per segment: x0 y0 z0 (bottom), x1 y1 z1 (top), bottom width, top width
+        private static final int STRIDE = 8;
+
+        private final float[] segments = new float[(MAIN_SEGMENTS + MAX_BRANCHES * BRANCH_SEGMENTS) * STRIDE];
+        private int count = 0;
+        // Extent of every segment, widest layer included
+        private float minX, minY, minZ, maxX, maxY, maxZ;
+
+        static BoltGeometry build(long seed) {
+            BoltGeometry geometry = new BoltGeometry();
+            RandomSource random = RandomSource.create(seed);
+
+            // Main channel, from the strike point up into the sky, thickening with height
+            float x = 0, z = 0;
+            int branches = 0;
+            for (int i = 0; i < MAIN_SEGMENTS; i++) {
+                float nextX = x + (random.nextFloat() - 0.5f) * 2 * MAIN_WANDER;
+                float nextZ = z + (random.nextFloat() - 0.5f) * 2 * MAIN_WANDER;
+                float y = i * SEGMENT_HEIGHT;
+                geometry.add(x, y, z, nextX, y + SEGMENT_HEIGHT, nextZ, 1 + i * 0.1f, 1 + (i + 1) * 0.1f);
+
+                // Branches fork off the upper joints and reach down
+                if (i >= 2 && branches < MAX_BRANCHES && random.nextInt(3) == 0) {
+                    geometry.addBranch(random, nextX, y + SEGMENT_HEIGHT, nextZ);
+                    branches++;
+                }
+                x = nextX;
+                z = nextZ;
+            }
+            return geometry;
+        }
+
+        private void addBranch(RandomSource random, float x, float y, float z) {
+            for (int i = 0; i < BRANCH_SEGMENTS; i++) {
+                float nextX = x + (random.nextFloat() - 0.5f) * 2 * BRANCH_WANDER;
+                float nextZ = z + (random.nextFloat() - 0.5f) * 2 * BRANCH_WANDER;
+                add(nextX, y - SEGMENT_HEIGHT, nextZ, x, y, z, 1, 1);
+                x = nextX;
+                y -= SEGMENT_HEIGHT;
+                z = nextZ;
+            }
+        }
+
+        private void add(float x0, float y0, float z0, float x1, float y1, float z1, float w0, float w1) {
+            int i = count++ * STRIDE;
+            segments[i] = x0;
+            segments[i + 1] = y0;
+            segments[i + 2] = z0;
+            segments[i + 3] = x1;
+            segments[i + 4] = y1;
+            segments[i + 5] = z1;
+            segments[i + 6] = w0;
+            segments[i + 7] = w1;
+
+            float pad = MAX_LAYER_WIDTH * Math.max(w0, w1);
+            minX = Math.min(minX, Math.min(x0, x1) - pad);
+            minY = Math.min(minY, Math.min(y0, y1));
+            minZ = Math.min(minZ, Math.min(z0, z1) - pad);
+            maxX = Math.max(maxX, Math.max(x0, x1) + pad);
+            maxY = Math.max(maxY, Math.max(y0, y1));
+            maxZ = Math.max(maxZ, Math.max(z0, z1) + pad);
+        }
+
+        AABB bounds(Vec3 origin) {
+            return new AABB(origin.x + minX, origin.y + minY, origin.z + minZ,
+                    origin.x + maxX, origin.y + maxY, origin.z + maxZ);
+        }
+
+        /**
+         * Draws the bolt as nested square prisms per segment, wider and fainter outwards
+         */
+        void render(VertexConsumer consumer, float ox, float oy, float oz, float alpha) {
+            for (int layer = 0; layer < LAYERS; layer++) {
+                float width = 0.1f + layer * 0.2f;
+                for (int s = 0; s < count; s++) {
+                    int i = s * STRIDE;
+                    float x0 = ox + segments[i], y0 = oy + segments[i + 1], z0 = oz + segments[i + 2];
+                    float x1 = ox + segments[i + 3], y1 = oy + segments[i + 4], z1 = oz + segments[i + 5];
+                    float w0 = width * segments[i + 6];
+                    float w1 = width * segments[i + 7];
+
+                    quad(consumer, x0, y0, z0, x1, y1, z1, w0, w1, false, false, true, false, alpha);
+                    quad(consumer, x0, y0, z0, x1, y1, z1, w0, w1, true, false, true, true, alpha);
+                    quad(consumer, x0, y0, z0, x1, y1, z1, w0, w1, true, true, false, true, alpha);
+                    quad(consumer, x0, y0, z0, x1, y1, z1, w0, w1, false, true, false, false, alpha);
+                }
+            }
+        }
+
+        // One side of a segment's prism, picked by the corner signs
+        private static void quad(VertexConsumer consumer, float x0, float y0, float z0, float x1, float y1, float z1,
+                                 float w0, float w1, boolean ax, boolean az, boolean bx, boolean bz, float alpha) {
+            consumer.vertex(x0 + (ax ? w0 : -w0), y0, z0 + (az ? w0 : -w0)).color(RED, GREEN, BLUE, alpha).endVertex();
+            consumer.vertex(x1 + (ax ? w1 : -w1), y1, z1 + (az ? w1 : -w1)).color(RED, GREEN, BLUE, alpha).endVertex();
+            consumer.vertex(x1 + (bx ? w1 : -w1), y1, z1 + (bz ? w1 : -w1)).color(RED, GREEN, BLUE, alpha).endVertex();
+            consumer.vertex(x0 + (bx ? w0 : -w0), y0, z0 + (bz ? w0 : -w0)).color(RED, GREEN, BLUE, alpha).endVertex();
+        }
+    }
+
+    /**
+     * Carrier that lets the particle engine tick and draw a bolt
+     */
+    private static class BoltParticle extends Particle {
+        private final BoltGeometry geometry;
+
+        BoltParticle(ClientLevel level, Vec3 pos, BoltGeometry geometry) {
+            super(level, pos.x, pos.y, pos.z);
+            this.geometry = geometry;
+            this.lifetime = LIFETIME;
+            this.hasPhysics = false;
+            this.gravity = 0;
+            // The default box is a fraction of a block around the strike point, so the frustum
+            // check would cull the whole bolt as soon as its base left the screen
+            setBoundingBox(geometry.bounds(pos));
+        }
+
+        @Override
+        public void tick() {
+            // Never moves; Particle.move would also re-center x/y/z on the wide box
+            if (age++ >= lifetime) {
+                remove();
+            }
+        }
+
+        @Override
+        public void render(VertexConsumer ignored, Camera camera, float partialTicks) {
+            // Flicker like vanilla lightning: solid for a moment, then flashing out
+            if (age > 2 && age % 2 == 1) return;
+
+            Vec3 cam = camera.getPosition();
+            float alpha = 0.3f * (1.0f - (age + partialTicks) / (lifetime + 1));
+
+            MultiBufferSource.BufferSource buffers = Minecraft.getInstance().renderBuffers().bufferSource();
+            geometry.render(buffers.getBuffer(RenderType.lightning()),
+                    (float) (x - cam.x), (float) (y - cam.y), (float) (z - cam.z), alpha);
+            buffers.endBatch(RenderType.lightning());
+        }
+
+        @Override
+        public ParticleRenderType getRenderType() {
+            // Drawn with its own buffer, like ItemPickupParticle
+            return ParticleRenderType.CUSTOM;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.xirc.nichirin.common.attack;
+
+import com.xirc.nichirin.BreathOfNichirin;
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import lombok.Getter;
+import lombok.Setter;
+import net.minecraft.world.level.Level;
+
+import java.util.ArrayDeque;
+
+/**
+ * Server-wide budget for Nichirin combat work. The time spent in measured sections (the move
+ * scheduler and the lingering hit volumes) is summed per server tick and smoothed, and when it
+ * runs over budget the work degrades in steps:
+ * <ol>
+ *     <li>cosmetic work (particles, sounds, visual-only bolts) is deferred to later ticks,
+ *     and dropped if it gets too stale</li>
+ *     <li>non-critical hit re-checks (hit windows, lingering volumes) are spread across ticks</li>
+ * </ol>
+ * Damage is never gated - strikes and hits that have been decided always apply.
+ * Server thread only; client side callers are passed straight through.
+ */
+public class CombatBudget {
+
+    public enum Degradation {
+        NORMAL,
+        DEFER_COSMETICS,
+        SPREAD_RECHECKS
+    }
+
+    // Thresholds
+    @Getter @Setter
+    private static boolean enabled = true;
+    @Getter @Setter
+    private static long budgetNanos = 5_000_000L; // 5 ms of the 50 ms tick
+    @Getter @Setter
+    private static double cosmeticThreshold = 0.6; // Fraction of the budget where cosmetics get deferred
+    @Getter @Setter
+    private static double recheckThreshold = 1.0; // Fraction of the budget where re-checks get spread
+    @Getter @Setter
+    private static int recheckSpread = 3; // Spread re-checks run every this many ticks
+    @Getter @Setter
+    private static int maxCosmeticDelay = 3; // Deferred cosmetics older than this are dropped
+    @Getter @Setter
+    private static int maxDeferredCosmetics = 256;
+
+    private static final double SMOOTHING = 0.2;
+
+    private static final ArrayDeque<DeferredCosmetic> deferred = new ArrayDeque<>();
+
+    private static long serverTick = 0;
+    private static long tickNanos = 0; // Measured so far this tick
+    private static long sectionStart = 0;
+    private static int sectionDepth = 0;
+
+    @Getter
+    private static long lastTickNanos = 0;
+    @Getter
+    private static double averageNanos = 0;
+    @Getter
+    private static Degradation degradation = Degradation.NORMAL;
+
+    // Counters
+    @Getter
+    private static long overBudgetTicks = 0;
+    @Getter
+    private static long degradedTicks = 0;
+    @Getter
+    private static long cosmeticsDeferred = 0;
+    @Getter
+    private static long cosmeticsDropped = 0;
+    @Getter
+    private static long rechecksDeferred = 0;
+
+    /**
+     * Registers the start of tick accounting
+     */
+    public static void register() {
+        TickEvent.SERVER_PRE.register(server -> beginTick());
+        LifecycleEvent.SERVER_STOPPED.register(server -> reset());
+    }
+
+    /**
+     * Starts a measured section. Sections may nest, only the outermost one is timed.
+     */
+    public static void begin() {
+        if (sectionDepth++ == 0) {
+            sectionStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Ends a measured section
+     */
+    public static void end() {
+        if (--sectionDepth == 0) {
+            tickNanos += System.nanoTime() - sectionStart;
+        }
+    }
+
+    /**
+     * Whether cosmetic work may run right now
+     */
+    public static boolean allowCosmetics() {
+        return !enabled || (degradation == Degradation.NORMAL
+                && tickNanos < budgetNanos * cosmeticThreshold);
+    }
+
+    /**
+     * Runs cosmetic work now, or defers it to a later tick when over budget
+     */
+    public static void cosmetic(Level level, Runnable effect) {
+        if (level.isClientSide() || allowCosmetics()) {
+            effect.run();
+            return;
+        }
+
+        if (deferred.size() >= maxDeferredCosmetics) {
+            cosmeticsDropped++;
+            return;
+        }
+        deferred.add(new DeferredCosmetic(effect, serverTick));
+        cosmeticsDeferred++;
+    }
+
+    /**
+     * Whether a non-critical re-check keyed by the given id (e.g. an entity id) should run this tick.
+     * When degraded, each key only runs every recheckSpread ticks, staggered by the key.
+     */
+    public static boolean allowRecheck(int key) {
+        if (!enabled || degradation != Degradation.SPREAD_RECHECKS) return true;
+        if (Math.floorMod(serverTick + key, recheckSpread) == 0) return true;
+
+        rechecksDeferred++;
+        return false;
+    }
+
+    private static void beginTick() {
+        lastTickNanos = tickNanos;
+        averageNanos = averageNanos * (1 - SMOOTHING) + tickNanos * SMOOTHING;
+        tickNanos = 0;
+        sectionDepth = 0;
+        serverTick++;
+
+        if (lastTickNanos > budgetNanos) {
+            overBudgetTicks++;
+        }
+
+        Degradation previous = degradation;
+        if (!enabled) {
+            degradation = Degradation.NORMAL;
+        } else if (averageNanos >= budgetNanos * recheckThreshold) {
+            degradation = Degradation.SPREAD_RECHECKS;
+        } else if (averageNanos >= budgetNanos * cosmeticThreshold) {
+            degradation = Degradation.DEFER_COSMETICS;
+        } else {
+            degradation = Degradation.NORMAL;
+        }
+
+        if (degradation != Degradation.NORMAL) {
+            degradedTicks++;
+        }
+        if (degradation != previous) {
+            BreathOfNichirin.LOGGER.debug("Nichirin combat budget: {} -> {} ({} us average)",
+                    previous, degradation, (long) (averageNanos / 1000));
+        }
+
+        runDeferred();
+    }
+
+    /**
+     * Replays deferred cosmetics while the budget allows, dropping the stale ones
+     */
+    private static void runDeferred() {
+        if (deferred.isEmpty()) return;
+
+        begin();
+        try {
+            while (!deferred.isEmpty()) {
+                DeferredCosmetic next = deferred.peek();
+                if (serverTick - next.tick > maxCosmeticDelay) {
+                    deferred.poll();
+                    cosmeticsDropped++;
+                    continue;
+                }
+                // Replay as long as this tick has headroom, even while the smoothed average is still
+                // coming down (DEFER_COSMETICS); only the heaviest stage keeps everything queued
+                if (degradation == Degradation.SPREAD_RECHECKS || tickNanos + System.nanoTime() - sectionStart
+                        >= budgetNanos * cosmeticThreshold) {
+                    break;
+                }
+                deferred.poll();
+                try {
+                    next.effect.run();
+                } catch (RuntimeException e) {
+                    BreathOfNichirin.LOGGER.error("Error in deferred combat effect", e);
+                }
+            }
+        } finally {
+            end();
+        }
+    }
+
+    private static void reset() {
+        deferred.clear();
+        tickNanos = 0;
+        lastTickNanos = 0;
+        averageNanos = 0;
+        sectionDepth = 0;
+        degradation = Degradation.NORMAL;
+    }
+
+    private record DeferredCosmetic(Runnable effect, long tick) {}
+}
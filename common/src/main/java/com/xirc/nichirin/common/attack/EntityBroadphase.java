@@ -0,0 +1,362 @@
+package com.xirc.nichirin.common.attack;
+
+import com.xirc.nichirin.common.util.BoundsKernel;
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import lombok.Getter;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Per-level spatial hash of living entities shared by every Nichirin hit query.
+ * The grid is rebuilt lazily by the first query of each game tick, so any number of
+ * concurrent attacks cost one walk over the level's entities instead of one entity
+ * section scan (and result list) each. Client levels fall back to the vanilla lookup.
+ * The snapshot also copies every entity's bounds into packed arrays, so the candidates of a
+ * query are narrowed by a batch kernel (see BoundsKernel) before any entity object is touched.
+ */
+public class EntityBroadphase {
+
+    // 4 block cells, keyed by the entity's feet position
+    private static final int CELL_SHIFT = 2;
+    // Extra room for entities that moved after the snapshot was taken this tick
+    private static final double MOVE_MARGIN = 2.0;
+
+    private static final Map<ServerLevel, EntityBroadphase> grids = new HashMap<>();
+
+    private final ServerLevel level;
+    private long builtTick = Long.MIN_VALUE;
+
+    // Snapshot of the living entities, chained per cell through nextInCell
+    private LivingEntity[] entities = new LivingEntity[64];
+    private int[] nextInCell = new int[64];
+    private int count = 0;
+    private final BoundsKernel.Packed bounds = new BoundsKernel.Packed(64);
+    // Scratch rows for the kernels - cell candidates in, matches out
+    private int[] candidates = new int[64];
+    private int[] matches = new int[64];
+    private double maxHalfWidth = 0;
+    private double maxHeight = 0;
+
+    // Open addressing cell table, entries are only valid when their stamp matches buildStamp
+    private long[] cellKeys = new long[128];
+    private int[] cellHeads = new int[128];
+    private int[] cellStamps = new int[128];
+    private int buildStamp = 0;
+
+    // Metrics
+    @Getter
+    private int queriesThisTick = 0;
+    @Getter
+    private int buildCount = 0;
+
+    private EntityBroadphase(ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Registers the end of tick snapshot release and the cleanup of unloaded levels
+     */
+    public static void register() {
+        // A quiet level may not query again for a long time - don't keep its entities reachable
+        TickEvent.SERVER_LEVEL_POST.register(level -> {
+            EntityBroadphase grid = grids.get(level);
+            if (grid != null) {
+                grid.release();
+            }
+        });
+
+        LifecycleEvent.SERVER_LEVEL_UNLOAD.register(level -> grids.remove(level));
+        LifecycleEvent.SERVER_STOPPED.register(server -> grids.clear());
+    }
+
+    /**
+     * Gets the grid of a level, creating it if needed
+     */
+    public static EntityBroadphase get(ServerLevel level) {
+        return grids.computeIfAbsent(level, EntityBroadphase::new);
+    }
+
+    /**
+     * Drop-in replacement for level.getEntitiesOfClass(LivingEntity.class, box, filter)
+     */
+    public static List<LivingEntity> getEntities(Level level, AABB box, Predicate<? super LivingEntity> filter) {
+        if (level instanceof ServerLevel serverLevel) {
+            List<LivingEntity> result = new ArrayList<>();
+            get(serverLevel).query(box, filter, result);
+            return result;
+        }
+        return level.getEntitiesOfClass(LivingEntity.class, box, filter);
+    }
+
+    /**
+     * Shorthand for the common "everything alive except the attacker" query (no filter lambda)
+     */
+    public static List<LivingEntity> getEntities(Level level, AABB box, Entity except) {
+        if (level instanceof ServerLevel serverLevel) {
+            List<LivingEntity> result = new ArrayList<>();
+            get(serverLevel).query(box, except, result);
+            return result;
+        }
+        return level.getEntitiesOfClass(LivingEntity.class, box, entity -> entity != except && entity.isAlive());
+    }
+
+    /**
+     * Living entities other than except whose feet position is within radius of the center
+     */
+    public static List<LivingEntity> getEntitiesInRadius(Level level, Vec3 center, double radius, Entity except) {
+        if (level instanceof ServerLevel serverLevel) {
+            List<LivingEntity> result = new ArrayList<>();
+            get(serverLevel).queryRadius(center, radius, except, result);
+            return result;
+        }
+        double radiusSq = radius * radius;
+        return level.getEntitiesOfClass(LivingEntity.class, new AABB(center, center).inflate(radius),
+                entity -> entity != except && entity.isAlive() && entity.position().distanceToSqr(center) <= radiusSq);
+    }
+
+    /**
+     * Adds every living entity whose bounding box intersects the box and that passes
+     * the filter to the output list. Does not allocate once the grid has warmed up.
+     */
+    public void query(AABB box, Predicate<? super LivingEntity> filter, List<LivingEntity> out) {
+        int found = narrow(box);
+        for (int i = 0; i < found; i++) {
+            LivingEntity entity = entities[matches[i]];
+            if (isLiveHit(entity, box) && filter.test(entity)) {
+                out.add(entity);
+            }
+        }
+    }
+
+    /**
+     * Adds every living entity other than except whose bounding box intersects the box
+     */
+    public void query(AABB box, Entity except, List<LivingEntity> out) {
+        int found = narrow(box);
+        for (int i = 0; i < found; i++) {
+            LivingEntity entity = entities[matches[i]];
+            if (entity != except && entity.isAlive() && isLiveHit(entity, box)) {
+                out.add(entity);
+            }
+        }
+    }
+
+    /**
+     * Adds every living entity other than except whose feet position is within radius of the center
+     */
+    public void queryRadius(Vec3 center, double radius, Entity except, List<LivingEntity> out) {
+        AABB box = new AABB(center, center).inflate(radius);
+        int gathered = gather(box);
+        if (gathered < 0) {
+            // Every row is a candidate
+            for (int i = 0; i < count; i++) {
+                candidates[i] = i;
+            }
+            gathered = count;
+        }
+        int found = BoundsKernel.withinDistance(bounds, candidates, gathered,
+                center.x, center.y, center.z, radius, MOVE_MARGIN, matches);
+
+        double radiusSq = radius * radius;
+        for (int i = 0; i < found; i++) {
+            LivingEntity entity = entities[matches[i]];
+            if (entity != except && entity.isAlive() && !entity.isRemoved()
+                    && entity.position().distanceToSqr(center) <= radiusSq) {
+                out.add(entity);
+            }
+        }
+    }
+
+    /**
+     * Runs the overlap kernel over the snapshot bounds of the box's candidates
+     * @return the number of matching rows in matches
+     */
+    private int narrow(AABB box) {
+        int gathered = gather(box);
+        if (gathered < 0) {
+            return BoundsKernel.overlapping(bounds, box, MOVE_MARGIN, matches);
+        }
+        return BoundsKernel.overlapping(bounds, candidates, gathered, box, MOVE_MARGIN, matches);
+    }
+
+    /**
+     * Collects the rows of the cells the box may reach into candidates
+     * @return the number of rows, or -1 if the box covers so many cells that every row is a candidate
+     */
+    private int gather(AABB box) {
+        ensureBuilt();
+        queriesThisTick++;
+
+        // Entities are bucketed by feet position, so widen by their extent plus the move margin
+        double padXZ = maxHalfWidth + MOVE_MARGIN;
+        int minCX = Mth.floor(box.minX - padXZ) >> CELL_SHIFT;
+        int maxCX = Mth.floor(box.maxX + padXZ) >> CELL_SHIFT;
+        int minCY = Mth.floor(box.minY - maxHeight - MOVE_MARGIN) >> CELL_SHIFT;
+        int maxCY = Mth.floor(box.maxY + MOVE_MARGIN) >> CELL_SHIFT;
+        int minCZ = Mth.floor(box.minZ - padXZ) >> CELL_SHIFT;
+        int maxCZ = Mth.floor(box.maxZ + padXZ) >> CELL_SHIFT;
+
+        // Huge boxes touch more cells than there are entities - just test them all
+        long cells = (long) (maxCX - minCX + 1) * (maxCY - minCY + 1) * (maxCZ - minCZ + 1);
+        if (cells >= count) {
+            return -1;
+        }
+
+        int gathered = 0;
+        for (int cx = minCX; cx <= maxCX; cx++) {
+            for (int cz = minCZ; cz <= maxCZ; cz++) {
+                for (int cy = minCY; cy <= maxCY; cy++) {
+                    int index = headOf(cellKey(cx, cy, cz));
+                    while (index >= 0) {
+                        candidates[gathered++] = index;
+                        index = nextInCell[index];
+                    }
+                }
+            }
+        }
+        return gathered;
+    }
+
+    private static boolean isLiveHit(LivingEntity entity, AABB box) {
+        // Checked against the live bounding box, the snapshot only narrows the candidates
+        return !entity.isRemoved() && entity.getBoundingBox().intersects(box);
+    }
+
+    /**
+     * Rebuilds the grid if it was built on an earlier tick
+     */
+    private void ensureBuilt() {
+        long now = level.getGameTime();
+        if (builtTick == now) return;
+        builtTick = now;
+        queriesThisTick = 0;
+        buildCount++;
+
+        clearSnapshot();
+
+        for (Entity entity : level.getAllEntities()) {
+            if (entity instanceof LivingEntity living && living.isAlive()) {
+                add(living);
+            }
+        }
+    }
+
+    /**
+     * Drops the snapshot at the end of the tick; the next query rebuilds it
+     */
+    private void release() {
+        builtTick = Long.MIN_VALUE;
+        clearSnapshot();
+    }
+
+    private void clearSnapshot() {
+        Arrays.fill(entities, 0, count, null);
+        count = 0;
+        bounds.clear();
+        maxHalfWidth = 0;
+        maxHeight = 0;
+        buildStamp++;
+    }
+
+    private void add(LivingEntity entity) {
+        if (count == entities.length) {
+            entities = Arrays.copyOf(entities, count * 2);
+            nextInCell = Arrays.copyOf(nextInCell, count * 2);
+            candidates = new int[count * 2];
+            matches = new int[count * 2];
+        }
+        // Keep the cell table at most half full
+        if ((count + 1) * 2 > cellKeys.length) {
+            growCells();
+        }
+
+        int index = count++;
+        entities[index] = entity;
+        bounds.add(entity.getBoundingBox());
+        maxHalfWidth = Math.max(maxHalfWidth, entity.getBbWidth() / 2.0);
+        maxHeight = Math.max(maxHeight, entity.getBbHeight());
+
+        long key = cellKey(Mth.floor(entity.getX()) >> CELL_SHIFT,
+                Mth.floor(entity.getY()) >> CELL_SHIFT,
+                Mth.floor(entity.getZ()) >> CELL_SHIFT);
+        int slot = findSlot(key);
+        if (cellStamps[slot] == buildStamp) {
+            nextInCell[index] = cellHeads[slot];
+        } else {
+            cellStamps[slot] = buildStamp;
+            cellKeys[slot] = key;
+            nextInCell[index] = -1;
+        }
+        cellHeads[slot] = index;
+    }
+
+    /**
+     * First entity of a cell, or -1
+     */
+    private int headOf(long key) {
+        int slot = findSlot(key);
+        return cellStamps[slot] == buildStamp ? cellHeads[slot] : -1;
+    }
+
+    /**
+     * Slot holding the key, or the free slot where it would go
+     */
+    private int findSlot(long key) {
+        int mask = cellKeys.length - 1;
+        int slot = hash(key) & mask;
+        while (cellStamps[slot] == buildStamp && cellKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Doubles the cell table and re-inserts the cells of the current build
+     */
+    private void growCells() {
+        long[] oldKeys = cellKeys;
+        int[] oldHeads = cellHeads;
+        int[] oldStamps = cellStamps;
+
+        cellKeys = new long[oldKeys.length * 2];
+        cellHeads = new int[oldKeys.length * 2];
+        cellStamps = new int[oldKeys.length * 2];
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldStamps[i] == buildStamp) {
+                int slot = findSlot(oldKeys[i]);
+                cellStamps[slot] = buildStamp;
+                cellKeys[slot] = oldKeys[i];
+                cellHeads[slot] = oldHeads[i];
+            }
+        }
+    }
+
+    private static long cellKey(int cx, int cy, int cz) {
+        return ((long) (cx & 0x3FFFFF) << 42) | ((long) (cz & 0x3FFFFF) << 20) | (cy & 0xFFFFF);
+    }
+
+    private static int hash(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+
+    /**
+     * Living entities in the current snapshot (0 between ticks)
+     */
+    public int getEntityCount() {
+        return count;
+    }
+}
@@ -0,0 +1,310 @@
+package com.xirc.nichirin.common.attack;
+
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import lombok.Getter;
+import lombok.Setter;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Recent bounding boxes of every living entity, used to rewind hit targets by the attacker's
+ * latency (lag compensation). Each level keeps a ring of HISTORY_TICKS frames of primitive
+ * arrays - about 70 bytes per entity per frame - recorded at the end of the level tick while
+ * a Nichirin move or lingering volume is active there, and for maxRewindTicks after the last
+ * one ends. Levels without combat cost nothing.
+ */
+public class EntityHistory {
+
+    public static final int HISTORY_TICKS = 20;
+    // Speed per rewound tick assumed when the history recorded nothing faster
+    public static final double MIN_SPEED = 1.0;
+
+    // Upper bound on how far back a hit is rewound, whatever the attacker's ping
+    @Getter @Setter
+    private static int maxRewindTicks = 10;
+    // How far behind the latest position update clients draw other entities
+    // (vanilla interpolates living entities over 3 ticks)
+    @Getter @Setter
+    private static float interpolationTicks = 3.0f;
+    @Getter @Setter
+    private static boolean enabled = true;
+
+    private static final Map<ServerLevel, EntityHistory> histories = new HashMap<>();
+
+    private final ServerLevel level;
+    private final Frame[] frames = new Frame[HISTORY_TICKS];
+    private long lastCombatTick = Long.MIN_VALUE;
+
+    private EntityHistory(ServerLevel level) {
+        this.level = level;
+        for (int i = 0; i < HISTORY_TICKS; i++) {
+            frames[i] = new Frame();
+        }
+    }
+
+    /**
+     * Registers the end of level tick recording and the cleanup of unloaded levels
+     */
+    public static void register() {
+        TickEvent.SERVER_LEVEL_POST.register(level -> {
+            if (!enabled) return;
+
+            EntityHistory history = histories.get(level);
+            if (MoveScheduler.hasMoves(level) || LingeringHitManager.hasVolumes(level)) {
+                history = forLevel(level);
+                history.lastCombatTick = level.getGameTime();
+            }
+            // Keep recording long enough after combat for the last hits to rewind into
+            if (history != null && level.getGameTime() - history.lastCombatTick <= maxRewindTicks) {
+                history.record();
+            }
+        });
+
+        LifecycleEvent.SERVER_LEVEL_UNLOAD.register(level -> histories.remove(level));
+        LifecycleEvent.SERVER_STOPPED.register(server -> histories.clear());
+    }
+
+    /**
+     * Gets or creates the history of a level
+     */
+    static EntityHistory forLevel(ServerLevel level) {
+        return histories.computeIfAbsent(level, EntityHistory::new);
+    }
+
+    /**
+     * Ticks an attacker's hits are rewound by, capped. The attacker saw the world as it was
+     * one way trip (half the round trip time) ago, plus the client's interpolation delay.
+     */
+    public static float rewindTicks(LivingEntity attacker) {
+        if (!enabled || !(attacker instanceof ServerPlayer player)) return 0;
+        return Math.min(maxRewindTicks, player.latency / 2.0f / 50.0f + interpolationTicks);
+    }
+
+    /**
+     * Bounding box of an entity the given number of ticks ago, interpolated between
+     * recorded ticks. Falls back to the current box when there is no history.
+     */
+    public static AABB boxAt(LivingEntity entity, float ticksAgo) {
+        if (ticksAgo <= 0 || !(entity.level() instanceof ServerLevel serverLevel)) {
+            return entity.getBoundingBox();
+        }
+        EntityHistory history = histories.get(serverLevel);
+        return history != null ? history.lookup(entity, ticksAgo) : entity.getBoundingBox();
+    }
+
+    /**
+     * How far any entity may be from where it was the given number of ticks ago - the fastest
+     * step recorded over that window (knockback, launches, dashes) for every rewound tick.
+     * Rewound hit searches are widened by this so fast targets stay in the broadphase.
+     */
+    public static double maxDisplacement(Level level, float ticksAgo) {
+        if (ticksAgo <= 0) return 0;
+
+        double speed = MIN_SPEED;
+        if (level instanceof ServerLevel serverLevel) {
+            EntityHistory history = histories.get(serverLevel);
+            if (history != null) {
+                speed = Math.max(speed, history.maxStep(ticksAgo));
+            }
+        }
+        return Mth.ceil(ticksAgo) * speed;
+    }
+
+    /**
+     * Records the boxes of this tick; package-private for the benchmarks
+     */
+    void record() {
+        long tick = level.getGameTime();
+        Frame previous = frames[(int) Math.floorMod(tick - 1, HISTORY_TICKS)];
+        boolean hasPrevious = previous.tick == tick - 1;
+        Frame frame = frames[(int) Math.floorMod(tick, HISTORY_TICKS)];
+        frame.begin(tick);
+
+        for (Entity entity : level.getAllEntities()) {
+            if (entity instanceof LivingEntity living && living.isAlive()) {
+                AABB box = living.getBoundingBox();
+                frame.add(living.getId(), box);
+                if (hasPrevious) {
+                    int row = previous.find(living.getId());
+                    if (row >= 0) {
+                        frame.maxStep = Math.max(frame.maxStep, previous.distanceTo(row, box));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fastest step recorded over the window; the step into the current tick isn't recorded
+     * yet, so the window reaches one frame further back to estimate it
+     */
+    private double maxStep(float ticksAgo) {
+        long now = level.getGameTime();
+        double max = 0;
+        for (long tick = now - Mth.ceil(ticksAgo); tick < now; tick++) {
+            Frame frame = frames[(int) Math.floorMod(tick, HISTORY_TICKS)];
+            if (frame.tick == tick) {
+                max = Math.max(max, frame.maxStep);
+            }
+        }
+        return max;
+    }
+
+    private AABB lookup(LivingEntity entity, float ticksAgo) {
+        // Recorded frames hold the state at the end of their tick, the live box is the present
+        long now = level.getGameTime();
+        double target = now - ticksAgo;
+        long older = Mth.lfloor(target);
+        float t = (float) (target - older);
+
+        double[] a = new double[6];
+        double[] b = new double[6];
+        if (!read(entity, older, a)) {
+            // Not recorded that far back (new entity or history gap)
+            return entity.getBoundingBox();
+        }
+        if (!read(entity, older + 1, b)) {
+            System.arraycopy(a, 0, b, 0, 6);
+        }
+
+        return new AABB(
+                Mth.lerp(t, a[0], b[0]), Mth.lerp(t, a[1], b[1]), Mth.lerp(t, a[2], b[2]),
+                Mth.lerp(t, a[3], b[3]), Mth.lerp(t, a[4], b[4]), Mth.lerp(t, a[5], b[5]));
+    }
+
+    /**
+     * Reads an entity's box at a tick into out
+     * @return false if it was not recorded
+     */
+    private boolean read(LivingEntity entity, long tick, double[] out) {
+        if (tick >= level.getGameTime()) {
+            AABB box = entity.getBoundingBox();
+            out[0] = box.minX;
+            out[1] = box.minY;
+            out[2] = box.minZ;
+            out[3] = box.maxX;
+            out[4] = box.maxY;
+            out[5] = box.maxZ;
+            return true;
+        }
+
+        Frame frame = frames[(int) Math.floorMod(tick, HISTORY_TICKS)];
+        if (frame.tick != tick) return false;
+
+        int row = frame.find(entity.getId());
+        if (row < 0) return false;
+        System.arraycopy(frame.boxes, row * 6, out, 0, 6);
+        return true;
+    }
+
+    /**
+     * Bytes held by the frame arrays, excluding array headers
+     */
+    public long getFootprintBytes() {
+        long bytes = 0;
+        for (Frame frame : frames) {
+            bytes += frame.ids.length * 4L + frame.boxes.length * 8L + frame.indexIds.length * 12L;
+        }
+        return bytes;
+    }
+
+    /**
+     * Boxes of one tick, with a stamped id index (cleared by bumping the stamp)
+     */
+    private static class Frame {
+        long tick = Long.MIN_VALUE;
+        int count = 0;
+        double maxStep = 0; // Largest distance an entity moved since the previous tick
+        int[] ids = new int[64];
+        double[] boxes = new double[64 * 6];
+
+        int[] indexIds = new int[128];
+        int[] indexRows = new int[128];
+        int[] indexStamps = new int[128];
+        int stamp = 0;
+
+        void begin(long tick) {
+            this.tick = tick;
+            count = 0;
+            maxStep = 0;
+            stamp++;
+        }
+
+        /**
+         * Largest per-axis distance between a recorded box and another box
+         */
+        double distanceTo(int row, AABB box) {
+            int offset = row * 6;
+            double distance = Math.abs(boxes[offset] - box.minX);
+            distance = Math.max(distance, Math.abs(boxes[offset + 1] - box.minY));
+            distance = Math.max(distance, Math.abs(boxes[offset + 2] - box.minZ));
+            distance = Math.max(distance, Math.abs(boxes[offset + 3] - box.maxX));
+            distance = Math.max(distance, Math.abs(boxes[offset + 4] - box.maxY));
+            return Math.max(distance, Math.abs(boxes[offset + 5] - box.maxZ));
+        }
+
+        void add(int id, AABB box) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                boxes = Arrays.copyOf(boxes, count * 2 * 6);
+            }
+            // Keep the index at most half full
+            if ((count + 1) * 2 > indexIds.length) {
+                growIndex();
+            }
+
+            int row = count++;
+            ids[row] = id;
+            int offset = row * 6;
+            boxes[offset] = box.minX;
+            boxes[offset + 1] = box.minY;
+            boxes[offset + 2] = box.minZ;
+            boxes[offset + 3] = box.maxX;
+            boxes[offset + 4] = box.maxY;
+            boxes[offset + 5] = box.maxZ;
+
+            int slot = slotOf(id);
+            indexStamps[slot] = stamp;
+            indexIds[slot] = id;
+            indexRows[slot] = row;
+        }
+
+        int find(int id) {
+            int slot = slotOf(id);
+            return indexStamps[slot] == stamp ? indexRows[slot] : -1;
+        }
+
+        private int slotOf(int id) {
+            int mask = indexIds.length - 1;
+            int hash = id * 0x9E3779B9;
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (indexStamps[slot] == stamp && indexIds[slot] != id) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void growIndex() {
+            int size = indexIds.length * 2;
+            indexIds = new int[size];
+            indexRows = new int[size];
+            indexStamps = new int[size];
+            for (int row = 0; row < count; row++) {
+                int slot = slotOf(ids[row]);
+                indexStamps[slot] = stamp;
+                indexIds[slot] = ids[row];
+                indexRows[slot] = row;
+            }
+        }
+    }
+}
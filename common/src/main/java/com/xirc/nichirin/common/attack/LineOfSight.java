@@ -0,0 +1,278 @@
+package com.xirc.nichirin.common.attack;
+
+import dev.architectury.event.events.common.LifecycleEvent;
+import lombok.Getter;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Line of sight checks for attacks, cached per (viewer, target) for the current tick.
+ * Every attack and active frame of a tick shares the results, and the rays themselves walk
+ * the blocks with a voxel traversal that keeps the last chunk section at hand, so a batch of
+ * rays from one viewer mostly reads from the same few sections.
+ * Same rules as LivingEntity.hasLineOfSight: eye to eye, collision shapes, 128 block limit.
+ */
+public class LineOfSight {
+
+    private static final double MAX_DISTANCE = 128.0;
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+
+    private static final byte VISIBLE = 1;
+    private static final byte BLOCKED = 2;
+
+    private static final Map<ServerLevel, LineOfSight> caches = new HashMap<>();
+
+    private final ServerLevel level;
+    private long cacheTick = Long.MIN_VALUE;
+
+    // Open addressing (viewer id, target id) -> result, valid while the stamp matches
+    private long[] keys = new long[256];
+    private byte[] results = new byte[256];
+    private int[] stamps = new int[256];
+    private int stamp = 0;
+    private int size = 0;
+
+    // Section of the last block read by a ray
+    private int sectionX;
+    private int sectionY;
+    private int sectionZ;
+    private boolean sectionCached = false;
+    private boolean sectionLoaded;
+    private LevelChunkSection section;
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+    // Metrics of the last finished tick
+    @Getter
+    private int lookupsLastTick = 0;
+    @Getter
+    private int raycastsLastTick = 0;
+    private int lookups = 0;
+    private int raycasts = 0;
+
+    private LineOfSight(ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Registers the cleanup of unloaded levels
+     */
+    public static void register() {
+        LifecycleEvent.SERVER_LEVEL_UNLOAD.register(level -> caches.remove(level));
+        LifecycleEvent.SERVER_STOPPED.register(server -> caches.clear());
+    }
+
+    /**
+     * Gets the cache of a level, creating it if needed
+     */
+    public static LineOfSight get(ServerLevel level) {
+        return caches.computeIfAbsent(level, LineOfSight::new);
+    }
+
+    /**
+     * Cached replacement for viewer.hasLineOfSight(target)
+     */
+    public static boolean canSee(LivingEntity viewer, Entity target) {
+        if (viewer.level() instanceof ServerLevel serverLevel) {
+            return get(serverLevel).check(viewer, target);
+        }
+        return viewer.hasLineOfSight(target);
+    }
+
+    /**
+     * Removes every target the viewer cannot see (one batch of rays from the viewer's eyes)
+     */
+    public static void retainVisible(LivingEntity viewer, List<? extends Entity> targets) {
+        if (targets.isEmpty()) return;
+
+        if (viewer.level() instanceof ServerLevel serverLevel) {
+            LineOfSight cache = get(serverLevel);
+            targets.removeIf(target -> !cache.check(viewer, target));
+        } else {
+            targets.removeIf(target -> !viewer.hasLineOfSight(target));
+        }
+    }
+
+    /**
+     * Share of lookups in the last tick that did not need a raycast
+     */
+    public float getHitRate() {
+        return lookupsLastTick == 0 ? 0 : 1.0f - (float) raycastsLastTick / lookupsLastTick;
+    }
+
+    private boolean check(LivingEntity viewer, Entity target) {
+        if (target.level() != level) return false;
+
+        beginTick();
+        lookups++;
+
+        long key = ((long) viewer.getId() << 32) | (target.getId() & 0xFFFFFFFFL);
+        int slot = findSlot(key);
+        if (stamps[slot] == stamp) {
+            return results[slot] == VISIBLE;
+        }
+
+        Vec3 from = viewer.getEyePosition();
+        Vec3 to = target.getEyePosition();
+        boolean visible = to.distanceToSqr(from) <= MAX_DISTANCE * MAX_DISTANCE
+                && raycast(from, to, CollisionContext.of(viewer));
+        raycasts++;
+
+        // The table may have grown, look the slot up again
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+            slot = findSlot(key);
+        }
+        stamps[slot] = stamp;
+        keys[slot] = key;
+        results[slot] = visible ? VISIBLE : BLOCKED;
+        size++;
+        return visible;
+    }
+
+    /**
+     * Drops the previous tick's results the first time the cache is used in a tick
+     */
+    private void beginTick() {
+        long now = level.getGameTime();
+        if (cacheTick == now) return;
+        cacheTick = now;
+
+        lookupsLastTick = lookups;
+        raycastsLastTick = raycasts;
+        lookups = 0;
+        raycasts = 0;
+
+        stamp++;
+        size = 0;
+        // Blocks may have changed since last tick
+        sectionCached = false;
+        section = null;
+    }
+
+    /**
+     * Walks every block the segment passes through (Amanatides-Woo) and tests
+     * the collision shapes in them
+     * @return true if nothing blocks the segment
+     */
+    private boolean raycast(Vec3 from, Vec3 to, CollisionContext context) {
+        double dx = to.x - from.x;
+        double dy = to.y - from.y;
+        double dz = to.z - from.z;
+
+        int x = Mth.floor(from.x);
+        int y = Mth.floor(from.y);
+        int z = Mth.floor(from.z);
+        int endX = Mth.floor(to.x);
+        int endY = Mth.floor(to.y);
+        int endZ = Mth.floor(to.z);
+
+        int stepX = dx > 0 ? 1 : dx < 0 ? -1 : 0;
+        int stepY = dy > 0 ? 1 : dy < 0 ? -1 : 0;
+        int stepZ = dz > 0 ? 1 : dz < 0 ? -1 : 0;
+
+        // Ray parameter (0..1) at which the next boundary on each axis is crossed, and per block
+        double deltaX = stepX == 0 ? Double.MAX_VALUE : 1.0 / Math.abs(dx);
+        double deltaY = stepY == 0 ? Double.MAX_VALUE : 1.0 / Math.abs(dy);
+        double deltaZ = stepZ == 0 ? Double.MAX_VALUE : 1.0 / Math.abs(dz);
+        double maxX = stepX == 0 ? Double.MAX_VALUE : (stepX > 0 ? x + 1 - from.x : from.x - x) * deltaX;
+        double maxY = stepY == 0 ? Double.MAX_VALUE : (stepY > 0 ? y + 1 - from.y : from.y - y) * deltaY;
+        double maxZ = stepZ == 0 ? Double.MAX_VALUE : (stepZ > 0 ? z + 1 - from.z : from.z - z) * deltaZ;
+
+        while (true) {
+            if (blocks(x, y, z, from, to, context)) return false;
+            if (x == endX && y == endY && z == endZ) return true;
+
+            if (maxX < maxY && maxX < maxZ) {
+                if (maxX > 1.0) return true;
+                x += stepX;
+                maxX += deltaX;
+            } else if (maxY < maxZ) {
+                if (maxY > 1.0) return true;
+                y += stepY;
+                maxY += deltaY;
+            } else {
+                if (maxZ > 1.0) return true;
+                z += stepZ;
+                maxZ += deltaZ;
+            }
+        }
+    }
+
+    private boolean blocks(int x, int y, int z, Vec3 from, Vec3 to, CollisionContext context) {
+        BlockState state = blockAt(x, y, z);
+        if (state == null) return true; // Unloaded - don't hit through it
+        if (state.isAir()) return false;
+
+        cursor.set(x, y, z);
+        VoxelShape shape = state.getCollisionShape(level, cursor, context);
+        return !shape.isEmpty() && shape.clip(from, to, cursor) != null;
+    }
+
+    /**
+     * Block state from the cached chunk section
+     * @return the state, or null if the chunk is not loaded
+     */
+    private BlockState blockAt(int x, int y, int z) {
+        int sx = x >> 4;
+        int sy = y >> 4;
+        int sz = z >> 4;
+        if (!sectionCached || sx != sectionX || sy != sectionY || sz != sectionZ) {
+            sectionCached = true;
+            sectionX = sx;
+            sectionY = sy;
+            sectionZ = sz;
+
+            LevelChunk chunk = level.getChunkSource().getChunkNow(sx, sz);
+            sectionLoaded = chunk != null;
+            int index = level.getSectionIndexFromSectionY(sy);
+            section = chunk != null && index >= 0 && index < chunk.getSectionsCount()
+                    ? chunk.getSection(index) : null;
+        }
+
+        if (!sectionLoaded) return null;
+        if (section == null || section.hasOnlyAir()) return AIR;
+        return section.getBlockState(x & 15, y & 15, z & 15);
+    }
+
+    private int findSlot(long key) {
+        int mask = keys.length - 1;
+        int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        while (stamps[slot] == stamp && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        byte[] oldResults = results;
+        int[] oldStamps = stamps;
+
+        keys = new long[oldKeys.length * 2];
+        results = new byte[oldKeys.length * 2];
+        stamps = new int[oldKeys.length * 2];
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldStamps[i] == stamp) {
+                int slot = findSlot(oldKeys[i]);
+                stamps[slot] = stamp;
+                keys[slot] = oldKeys[i];
+                results[slot] = oldResults[i];
+            }
+        }
+    }
+}
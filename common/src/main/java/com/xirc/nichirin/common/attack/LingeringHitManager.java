@@ -0,0 +1,218 @@
+package com.xirc.nichirin.common.attack;
+
+import com.xirc.nichirin.BreathOfNichirin;
+import com.xirc.nichirin.common.util.DynamicAabbTree;
+import com.xirc.nichirin.common.util.EntityHitSet;
+import com.xirc.nichirin.common.util.HitVolume;
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import lombok.Getter;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * Per-level manager of hit volumes that stay in the world for a while - lingering slashes,
+ * storm zones, dash trails. The volumes live in a dynamic AABB tree and each tick every
+ * living entity is tested against the tree once, instead of every volume scanning the world.
+ * Volumes are removed by the manager when they expire.
+ */
+public class LingeringHitManager {
+
+    private static final Map<ServerLevel, LingeringHitManager> managers = new HashMap<>();
+
+    private final ServerLevel level;
+    private final DynamicAabbTree<LingeringHit> tree = new DynamicAabbTree<>();
+    private final PriorityQueue<LingeringHit> byExpiry =
+            new PriorityQueue<>(Comparator.comparingLong(hit -> hit.expireTick));
+
+    // Hits found while walking the tree, applied afterwards so callbacks may spawn volumes
+    private final List<LingeringHit> pendingVolumes = new ArrayList<>();
+    private final List<LivingEntity> pendingTargets = new ArrayList<>();
+
+    // Metrics
+    @Getter
+    private int hitsLastTick = 0;
+
+    private LingeringHitManager(ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Registers the level tick and the cleanup of unloaded levels
+     */
+    public static void register() {
+        TickEvent.SERVER_LEVEL_POST.register(level -> {
+            LingeringHitManager manager = managers.get(level);
+            if (manager != null) {
+                CombatBudget.begin();
+                try {
+                    manager.tick();
+                } finally {
+                    CombatBudget.end();
+                }
+            }
+        });
+
+        LifecycleEvent.SERVER_LEVEL_UNLOAD.register(level -> managers.remove(level));
+        LifecycleEvent.SERVER_STOPPED.register(server -> managers.clear());
+    }
+
+    /**
+     * Gets the manager of a level, creating it if needed
+     */
+    public static LingeringHitManager get(ServerLevel level) {
+        return managers.computeIfAbsent(level, LingeringHitManager::new);
+    }
+
+    /**
+     * Places a volume that hits every living entity entering it once
+     * @param owner entity that is never hit by the volume
+     * @param durationTicks ticks the volume stays active
+     * @param onHit called for each entity in the volume until it returns true (the entity was hit)
+     */
+    public static LingeringHit spawn(ServerLevel level, LivingEntity owner, HitVolume volume, int durationTicks,
+                                     Predicate<LivingEntity> onHit) {
+        return spawn(level, owner, volume, durationTicks, new EntityHitSet(), onHit);
+    }
+
+    /**
+     * Places a volume that shares its hit set with other volumes (e.g. the segments of one trail)
+     */
+    public static LingeringHit spawn(ServerLevel level, LivingEntity owner, HitVolume volume, int durationTicks,
+                                     EntityHitSet hits, Predicate<LivingEntity> onHit) {
+        LingeringHitManager manager = get(level);
+        LingeringHit hit = new LingeringHit(manager, owner, volume,
+                level.getGameTime() + durationTicks, hits, onHit);
+        hit.proxy = manager.tree.insert(volume.getBounds(), hit);
+        manager.byExpiry.add(hit);
+        return hit;
+    }
+
+    /**
+     * Checks if any volume is active in a level
+     */
+    public static boolean hasVolumes(ServerLevel level) {
+        LingeringHitManager manager = managers.get(level);
+        return manager != null && !manager.tree.isEmpty();
+    }
+
+    /**
+     * Volumes currently active in this level
+     */
+    public int getVolumeCount() {
+        return tree.size();
+    }
+
+    private void tick() {
+        long now = level.getGameTime();
+        hitsLastTick = 0;
+
+        // Expire (discarded volumes are already out of the tree)
+        while (!byExpiry.isEmpty() && byExpiry.peek().expireTick <= now) {
+            LingeringHit expired = byExpiry.poll();
+            expired.removeFromTree();
+        }
+        if (tree.isEmpty()) return;
+
+        // Inverted query: each living entity is tested against the tree once
+        for (Entity entity : level.getAllEntities()) {
+            if (!(entity instanceof LivingEntity living) || !living.isAlive()) continue;
+            if (!tree.overlapsRoot(living.getBoundingBox())) continue;
+            // Over budget, each entity is only tested every few ticks
+            if (!CombatBudget.allowRecheck(living.getId())) continue;
+
+            tree.query(living.getBoundingBox(), (proxy, hit) -> {
+                if (living != hit.owner && !hit.hits.contains(living)
+                        && hit.volume.intersects(living.getBoundingBox())) {
+                    pendingVolumes.add(hit);
+                    pendingTargets.add(living);
+                }
+            });
+        }
+
+        for (int i = 0; i < pendingVolumes.size(); i++) {
+            LingeringHit hit = pendingVolumes.get(i);
+            LivingEntity target = pendingTargets.get(i);
+            // Volumes sharing a hit set may have reached the same target already
+            if (hit.proxy < 0 || hit.hits.contains(target)) continue;
+
+            try {
+                // Only confirmed hits are recorded, a rejected target is tested again next tick
+                if (hit.onHit.test(target)) {
+                    hit.hits.add(target);
+                    hitsLastTick++;
+                }
+            } catch (RuntimeException e) {
+                BreathOfNichirin.LOGGER.error("Error in lingering hit callback, removing the volume", e);
+                hit.discard();
+            }
+        }
+        pendingVolumes.clear();
+        pendingTargets.clear();
+    }
+
+    /**
+     * Handle to a placed volume
+     */
+    public static class LingeringHit {
+        private final LingeringHitManager manager;
+        @Getter
+        private final LivingEntity owner;
+        @Getter
+        private HitVolume volume;
+        @Getter
+        private final long expireTick;
+        @Getter
+        private final EntityHitSet hits;
+        private final Predicate<LivingEntity> onHit;
+        private int proxy = -1;
+
+        private LingeringHit(LingeringHitManager manager, LivingEntity owner, HitVolume volume, long expireTick,
+                             EntityHitSet hits, Predicate<LivingEntity> onHit) {
+            this.manager = manager;
+            this.owner = owner;
+            this.volume = volume;
+            this.expireTick = expireTick;
+            this.hits = hits;
+            this.onHit = onHit;
+        }
+
+        /**
+         * Moves or resizes the volume (for expanding or following hitboxes)
+         */
+        public void setVolume(HitVolume volume) {
+            this.volume = volume;
+            if (proxy >= 0) {
+                manager.tree.update(proxy, volume.getBounds());
+            }
+        }
+
+        public boolean isActive() {
+            return proxy >= 0;
+        }
+
+        /**
+         * Removes the volume before it expires
+         */
+        public void discard() {
+            removeFromTree();
+            manager.byExpiry.remove(this);
+        }
+
+        private void removeFromTree() {
+            if (proxy >= 0) {
+                manager.tree.remove(proxy);
+                proxy = -1;
+            }
+        }
+    }
+}
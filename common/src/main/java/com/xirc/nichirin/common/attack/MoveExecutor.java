@@ -1,60 +1,72 @@
 package com.xirc.nichirin.common.attack;
 
-import com.xirc.nichirin.client.gui.CooldownHUD;
-import com.xirc.nichirin.common.attack.component.AbstractBreathingAttack;
+import com.xirc.nichirin.BreathOfNichirin;
+import com.xirc.nichirin.common.attack.component.ActiveMoveAdapter;
+import com.xirc.nichirin.common.attack.component.IActiveMove;
+import com.xirc.nichirin.common.attack.component.IPooledMove;
+import com.xirc.nichirin.common.system.NichirinPlayerState;
+import com.xirc.nichirin.common.system.PlayerStateSync;
 import com.xirc.nichirin.registry.NichirinMoveRegistry;
-import dev.architectury.networking.NetworkManager;
-import io.netty.buffer.Unpooled;
-import net.minecraft.network.FriendlyByteBuf;
-import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.level.Level;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Generic attack executor - knows nothing about specific breathing styles
  */
 public class MoveExecutor {
 
-    // Store active attacks - using thread-safe collections
-    private static final ConcurrentHashMap<Player, List<Object>> activeAttacks = new ConcurrentHashMap<>();
-
-    // Packet ID for cooldown display
-    private static final ResourceLocation COOLDOWN_PACKET_ID = new ResourceLocation("nichirin", "cooldown_display");
+    /**
+     * Gets a move instance for a new cast - reused from the level's pool on the server
+     */
+    public static <T extends IPooledMove> T obtain(Player player, Class<T> type, Supplier<T> factory) {
+        if (player.level() instanceof ServerLevel serverLevel) {
+            return MoveScheduler.get(serverLevel).getPool().acquire(type, factory);
+        }
+        return factory.get();
+    }
 
     /**
      * Execute any attack with metadata lookup
      */
     public static void executeAttack(Player player, Object attack, String movesetId, String moveId) {
+        IActiveMove move = ActiveMoveAdapter.of(attack);
+        if (move == null) return;
+
         // Get move info from registry for the display name
         NichirinMoveRegistry.MoveInfo moveInfo = NichirinMoveRegistry.getMove(movesetId, moveId);
         String displayName = moveInfo != null ? moveInfo.displayName : attack.getClass().getSimpleName();
 
-        // Get cooldown from the attack object
-        int cooldown = getCooldownForAttack(attack);
-
-        // Execute with proper display name
-        executeAttackInternal(player, attack, displayName, cooldown);
+        // Execute with proper display name and the attack's own cooldown
+        executeAttackInternal(player, move, displayName, move.getCooldown());
     }
 
     /**
      * Execute an attack with explicit name and cooldown
      */
     public static void executeAttackWithInfo(Player player, Object attack, String displayName, int cooldown) {
-        executeAttackInternal(player, attack, displayName, cooldown);
+        IActiveMove move = ActiveMoveAdapter.of(attack);
+        if (move == null) return;
+
+        executeAttackInternal(player, move, displayName, cooldown);
     }
 
     /**
      * Internal execution method
      */
-    private static void executeAttackInternal(Player player, Object attack, String displayName, int cooldown) {
-        if (!isAttackActive(attack)) {
-            startAttack(player, attack);
-            trackAttack(player, attack);
+    private static void executeAttackInternal(Player player, IActiveMove move, String displayName, int cooldown) {
+        if (!move.isActive()) {
+            try {
+                move.start(player);
+            } catch (RuntimeException e) {
+                // Called from item use and packet handlers - a broken move must not take them down
+                BreathOfNichirin.LOGGER.error("Error starting attack {}, dropping it", displayName, e);
+                return;
+            }
+            trackAttack(player, move);
 
             // Send cooldown to client if on server
             if (!player.level().isClientSide && player instanceof ServerPlayer serverPlayer && cooldown > 0) {
@@ -63,48 +75,6 @@ public class MoveExecutor {
         }
     }
 
-    /**
-     * Generic method to check if attack is active
-     */
-    private static boolean isAttackActive(Object attack) {
-        try {
-            var isActiveMethod = attack.getClass().getMethod("isActive");
-            return (boolean) isActiveMethod.invoke(attack);
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    /**
-     * Generic method to start an attack
-     */
-    private static void startAttack(Player player, Object attack) {
-        try {
-            // Try different start method signatures
-            try {
-                var startMethod = attack.getClass().getMethod("start", Player.class, Level.class);
-                startMethod.invoke(attack, player, player.level());
-            } catch (NoSuchMethodException e1) {
-                var startMethod = attack.getClass().getMethod("start", Player.class);
-                startMethod.invoke(attack, player);
-            }
-        } catch (Exception e) {
-            System.err.println("Could not start attack: " + attack.getClass().getName());
-        }
-    }
-
-    /**
-     * Generic method to get cooldown from attack
-     */
-    private static int getCooldownForAttack(Object attack) {
-        try {
-            var getCooldownMethod = attack.getClass().getMethod("getCooldown");
-            return (int) getCooldownMethod.invoke(attack);
-        } catch (Exception e) {
-            return 0;
-        }
-    }
-
     /**
      * Execute a move by name with cooldown
      */
@@ -119,117 +89,62 @@ public class MoveExecutor {
     }
 
     /**
-     * Send cooldown display info to client
+     * Queue cooldown display info for the end-of-tick player state bundle
      */
     private static void sendCooldownToClient(ServerPlayer player, String moveName, int cooldownTicks) {
-        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
-        buf.writeUtf(moveName);
-        buf.writeInt(cooldownTicks);
-
-        NetworkManager.sendToPlayer(player, COOLDOWN_PACKET_ID, buf);
-    }
-
-    /**
-     * Register the client-side packet handler (call this in client init)
-     */
-    public static void registerClientHandler() {
-        NetworkManager.registerReceiver(NetworkManager.Side.S2C, COOLDOWN_PACKET_ID, (buf, context) -> {
-            String moveName = buf.readUtf();
-            int cooldownTicks = buf.readInt();
-
-            context.queue(() -> {
-                // Display the cooldown on client
-                CooldownHUD.setCooldown(moveName, cooldownTicks);
-            });
-        });
+        PlayerStateSync.queueCooldown(player, moveName, cooldownTicks);
     }
 
     /**
-     * Tick all active attacks for a player
-     * FIXED: Create a copy for safe iteration
+     * Tick attacks started on the client side.
+     * Server-side attacks are driven by their level's MoveScheduler instead.
      */
     public static void tickAttacks(Player player) {
-        var attacks = activeAttacks.get(player);
-        if (attacks != null) {
-            // Create a copy to avoid concurrent modification
-            List<Object> attacksCopy = new ArrayList<>(attacks);
-            List<Object> toRemove = new ArrayList<>();
-
-            for (Object attack : attacksCopy) {
-                try {
-                    boolean shouldRemove = !tickAndCheckActive(player, attack);
-
-                    if (shouldRemove) {
-                        toRemove.add(attack);
-                    }
-                } catch (Exception e) {
-                    // Remove if we can't tick it
-                    System.err.println("Error ticking attack: " + e.getMessage());
-                    toRemove.add(attack);
-                }
-            }
-
-            // Remove all inactive attacks
-            attacks.removeAll(toRemove);
+        if (!player.level().isClientSide) return;
 
-            // Clean up empty lists
-            if (attacks.isEmpty()) {
-                activeAttacks.remove(player);
-            }
-        }
-    }
-
-    /**
-     * Tick an attack and return whether it's still active
-     */
-    private static boolean tickAndCheckActive(Player player, Object attack) throws Exception {
-        // Try to tick the attack
-        if (attack instanceof AbstractBreathingAttack<?, ?> breathing) {
-            breathing.tick(player);
-            return breathing.isActive();
-        } else {
-            // Try reflection for other types
+        List<IActiveMove> attacks = NichirinPlayerState.of(player).getActiveAttacks();
+        attacks.removeIf(attack -> {
             try {
-                var tickMethod = attack.getClass().getMethod("tick");
-                tickMethod.invoke(attack);
-            } catch (NoSuchMethodException e) {
-                // Try with player parameter
-                var tickMethod = attack.getClass().getMethod("tick", Player.class);
-                tickMethod.invoke(attack, player);
+                attack.tick(player);
+                return !attack.isActive();
+            } catch (RuntimeException e) {
+                // Remove if we can't tick it
+                BreathOfNichirin.LOGGER.error("Error ticking attack, dropping it", e);
+                return true;
             }
-
-            var isActiveMethod = attack.getClass().getMethod("isActive");
-            return (boolean) isActiveMethod.invoke(attack);
-        }
+        });
     }
 
     /**
      * Track an attack for a player
      */
-    private static void trackAttack(Player player, Object attack) {
-        activeAttacks.computeIfAbsent(player, k -> new ArrayList<>()).add(attack);
+    private static void trackAttack(Player player, IActiveMove attack) {
+        // Active attacks are stored on the player, so they go away with it on respawn
+        NichirinPlayerState.of(player).getActiveAttacks().add(attack);
+
+        if (player.level() instanceof ServerLevel serverLevel) {
+            MoveScheduler.get(serverLevel).schedule(player, attack);
+        }
     }
 
     /**
      * Clear all attacks for a player (on death, disconnect, etc.)
      */
     public static void clearAttacks(Player player) {
-        activeAttacks.remove(player);
+        NichirinPlayerState.of(player).getActiveAttacks().clear();
     }
 
     /**
      * Check if a player has any active attacks
      */
     public static boolean hasActiveAttacks(Player player) {
-        var attacks = activeAttacks.get(player);
-        return attacks != null && !attacks.isEmpty();
+        return !NichirinPlayerState.of(player).getActiveAttacks().isEmpty();
     }
 
     /**
      * Get the number of active attacks for a player
      */
     public static int getActiveAttackCount(Player player) {
-        var attacks = activeAttacks.get(player);
-        return attacks != null ? attacks.size() : 0;
+        return NichirinPlayerState.of(player).getActiveAttacks().size();
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.xirc.nichirin.common.attack;
+
+import com.xirc.nichirin.common.attack.component.IPooledMove;
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Free lists of finished move instances for one level, keyed by move class.
+ * Casts take an instance from here and MoveScheduler hands it back when the move ends,
+ * so sustained combat reuses the same objects instead of allocating new ones.
+ */
+public class MovePool {
+
+    // Upper bound of idle instances kept per move class
+    private static final int MAX_IDLE_PER_TYPE = 16;
+
+    private final Map<Class<?>, ArrayDeque<IPooledMove>> idle = new HashMap<>();
+
+    // Metrics
+    @Getter
+    private long created = 0;
+    @Getter
+    private long reused = 0;
+
+    /**
+     * Takes a reset instance of the given move class, creating one if none is idle
+     */
+    public <T extends IPooledMove> T acquire(Class<T> type, Supplier<T> factory) {
+        ArrayDeque<IPooledMove> free = idle.get(type);
+        IPooledMove move = free != null ? free.poll() : null;
+        if (move == null) {
+            created++;
+            return factory.get();
+        }
+
+        reused++;
+        move.reset();
+        return type.cast(move);
+    }
+
+    /**
+     * Returns a finished move to the pool
+     */
+    public void release(IPooledMove move) {
+        ArrayDeque<IPooledMove> free = idle.computeIfAbsent(move.getClass(), type -> new ArrayDeque<>());
+        if (free.size() < MAX_IDLE_PER_TYPE) {
+            move.reset(); // Drop entity references while idle
+            free.push(move);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.xirc.nichirin.common.attack;
+
+import com.xirc.nichirin.BreathOfNichirin;
+import com.xirc.nichirin.common.attack.component.IActiveMove;
+import com.xirc.nichirin.common.attack.component.IPooledMove;
+import com.xirc.nichirin.common.system.NichirinPlayerState;
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import lombok.Getter;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.player.Player;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-level scheduler that drives active moves from the server level tick.
+ * Moves are kept in a two-level hierarchical timing wheel and only woken on the tick
+ * they asked for (see {@link IActiveMove#ticksUntilWake()}), so a move that acts every
+ * 40 ticks costs nothing in between.
+ */
+public class MoveScheduler {
+
+    // Wheel geometry: 64 one-tick slots, then 64 slots of 64 ticks (4096 ticks), then overflow
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int INNER_SPAN = SLOTS;
+    private static final int OUTER_SPAN = SLOTS * SLOTS;
+
+    private static final Map<ServerLevel, MoveScheduler> schedulers = new HashMap<>();
+
+    private final ServerLevel level;
+    private final Entry[] inner = new Entry[SLOTS];
+    private final Entry[] outer = new Entry[SLOTS];
+    private Entry overflow;
+    private Entry freeEntries; // Recycled wheel nodes
+    private long currentTick;
+
+    // Finished move instances of this level, reused by later casts
+    @Getter
+    private final MovePool pool = new MovePool();
+
+    // Metrics
+    @Getter
+    private int scheduledCount = 0;
+    @Getter
+    private int movesTickedLastTick = 0;
+
+    private MoveScheduler(ServerLevel level) {
+        this.level = level;
+        this.currentTick = level.getGameTime();
+    }
+
+    /**
+     * Registers the level tick that drives every scheduler
+     */
+    public static void register() {
+        TickEvent.SERVER_LEVEL_POST.register(level -> {
+            MoveScheduler scheduler = schedulers.get(level);
+            if (scheduler != null) {
+                CombatBudget.begin();
+                try {
+                    scheduler.tick();
+                } finally {
+                    CombatBudget.end();
+                }
+            }
+        });
+
+        LifecycleEvent.SERVER_LEVEL_UNLOAD.register(level -> schedulers.remove(level));
+        LifecycleEvent.SERVER_STOPPED.register(server -> schedulers.clear());
+    }
+
+    /**
+     * Gets the scheduler of a level, creating it if needed
+     */
+    public static MoveScheduler get(ServerLevel level) {
+        return schedulers.computeIfAbsent(level, MoveScheduler::new);
+    }
+
+    /**
+     * Checks if any move is running in a level
+     */
+    public static boolean hasMoves(ServerLevel level) {
+        MoveScheduler scheduler = schedulers.get(level);
+        return scheduler != null && scheduler.scheduledCount > 0;
+    }
+
+    /**
+     * Moves ticked across all levels during the last server tick
+     */
+    public static int getTotalMovesTicked() {
+        int total = 0;
+        for (MoveScheduler scheduler : schedulers.values()) {
+            total += scheduler.movesTickedLastTick;
+        }
+        return total;
+    }
+
+    /**
+     * Moves currently waiting in any level's wheel
+     */
+    public static int getTotalScheduled() {
+        int total = 0;
+        for (MoveScheduler scheduler : schedulers.values()) {
+            total += scheduler.scheduledCount;
+        }
+        return total;
+    }
+
+    /**
+     * Schedules a started move, first woken on the next tick
+     */
+    public void schedule(Player player, IActiveMove move) {
+        Entry entry = freeEntries;
+        if (entry != null) {
+            freeEntries = entry.next;
+            entry.next = null;
+        } else {
+            entry = new Entry();
+        }
+
+        entry.player = player;
+        entry.move = move;
+        entry.wakeTick = currentTick + 1;
+        insert(entry);
+        scheduledCount++;
+    }
+
+    /**
+     * Advances the wheel to the level's game time, waking every move that is due
+     */
+    private void tick() {
+        long now = level.getGameTime();
+        movesTickedLastTick = 0;
+
+        while (currentTick < now) {
+            currentTick++;
+
+            // Pull the next block of entries down one level when it starts
+            if ((currentTick & (OUTER_SPAN - 1)) == 0) {
+                Entry list = overflow;
+                overflow = null;
+                reinsert(list);
+            }
+            if ((currentTick & (INNER_SPAN - 1)) == 0) {
+                int slot = (int) (currentTick >> SLOT_BITS) & SLOT_MASK;
+                Entry list = outer[slot];
+                outer[slot] = null;
+                reinsert(list);
+            }
+
+            int slot = (int) currentTick & SLOT_MASK;
+            Entry entry = inner[slot];
+            inner[slot] = null;
+            while (entry != null) {
+                Entry next = entry.next;
+                entry.next = null;
+                if (entry.wakeTick == currentTick) {
+                    run(entry);
+                } else {
+                    insert(entry);
+                }
+                entry = next;
+            }
+        }
+    }
+
+    /**
+     * Wakes one move and reschedules it if it is still running
+     */
+    private void run(Entry entry) {
+        Player player = entry.player;
+        List<IActiveMove> owned = NichirinPlayerState.of(player).getActiveAttacks();
+
+        // Dropped by MoveExecutor.clearAttacks, or the player respawned or left
+        if (player.isRemoved() || !owned.contains(entry.move)) {
+            finish(owned, entry);
+            return;
+        }
+
+        // The player changed dimension - continue in their new level's wheel
+        if (player.level() != level && player.level() instanceof ServerLevel newLevel) {
+            IActiveMove move = entry.move;
+            recycle(entry);
+            get(newLevel).schedule(player, move);
+            return;
+        }
+
+        boolean active;
+        try {
+            entry.move.tick(player);
+            active = entry.move.isActive();
+        } catch (RuntimeException e) {
+            BreathOfNichirin.LOGGER.error("Error ticking attack, dropping it", e);
+            active = false;
+        }
+        movesTickedLastTick++;
+
+        if (!active) {
+            finish(owned, entry);
+            return;
+        }
+
+        entry.wakeTick = currentTick + Math.max(1, entry.move.ticksUntilWake());
+        insert(entry);
+    }
+
+    /**
+     * Stops tracking a move and returns it to the pool if it supports reuse.
+     * A move dropped while still running is stopped first, so it undoes what it set up
+     * (e.g. invulnerability, lingering volumes) before its instance is reset and reused.
+     */
+    private void finish(List<IActiveMove> owned, Entry entry) {
+        IActiveMove move = entry.move;
+        owned.remove(move);
+        recycle(entry);
+        try {
+            if (move.isActive()) {
+                move.stop();
+            }
+        } catch (RuntimeException e) {
+            BreathOfNichirin.LOGGER.error("Error stopping dropped attack", e);
+        }
+        if (move instanceof IPooledMove pooled) {
+            pool.release(pooled);
+        }
+    }
+
+    private void recycle(Entry entry) {
+        scheduledCount--;
+        entry.player = null;
+        entry.move = null;
+        entry.next = freeEntries;
+        freeEntries = entry;
+    }
+
+    private void reinsert(Entry list) {
+        while (list != null) {
+            Entry next = list.next;
+            list.next = null;
+            insert(list);
+            list = next;
+        }
+    }
+
+    /**
+     * Puts an entry in the finest wheel level that covers its wake tick
+     */
+    private void insert(Entry entry) {
+        if (entry.wakeTick <= currentTick) {
+            entry.wakeTick = currentTick + 1;
+        }
+
+        long wake = entry.wakeTick;
+        if ((wake >> SLOT_BITS) == (currentTick >> SLOT_BITS)) {
+            int slot = (int) wake & SLOT_MASK;
+            entry.next = inner[slot];
+            inner[slot] = entry;
+        } else if ((wake >> (SLOT_BITS * 2)) == (currentTick >> (SLOT_BITS * 2))) {
+            int slot = (int) (wake >> SLOT_BITS) & SLOT_MASK;
+            entry.next = outer[slot];
+            outer[slot] = entry;
+        } else {
+            entry.next = overflow;
+            overflow = entry;
+        }
+    }
+
+    /**
+     * One scheduled move (intrusive singly linked list node)
+     */
+    private static class Entry {
+        Player player;
+        IActiveMove move;
+        long wakeTick;
+        Entry next;
+    }
+}
@@ -1,10 +1,15 @@
 package com.xirc.nichirin.common.attack.component;
 
+import com.xirc.nichirin.common.attack.EntityBroadphase;
+import com.xirc.nichirin.common.attack.LingeringHitManager;
+import com.xirc.nichirin.common.util.EntityHitSet;
+import com.xirc.nichirin.common.util.HitVolume;
 import lombok.Getter;
 import lombok.Setter;
 import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.world.damagesource.DamageSource;
@@ -125,10 +130,16 @@ public abstract class AbstractBlitzAttack extends AbstractBreathingAttack {
     @Override
     public void onStart(Player user, Level world) {
         super.onStart(user, world);
-        activeHitboxes.clear();
+        discardHitboxes();
         hitboxesGenerated = 0;
     }
 
+    @Override
+    public void onEnd(Player user, Level world) {
+        super.onEnd(user, world);
+        discardHitboxes();
+    }
+
     @Override
     protected boolean shouldPerform() {
         // Generate hitboxes at intervals
@@ -165,6 +176,20 @@ public abstract class AbstractBlitzAttack extends AbstractBreathingAttack {
 
         // Immediately check for hits with the new hitbox
         checkHitbox(user, world, hitbox);
+
+        // Persistent hitboxes are handed to the level's lingering volumes, which test
+        // them against moving entities once per tick instead of rescanning the world here
+        if (persistentHitboxes && world instanceof ServerLevel serverLevel) {
+            hitbox.lingering = LingeringHitManager.spawn(serverLevel, user, createVolume(hitbox),
+                    hitboxDuration + 1, hitbox.hitEntities, target -> {
+                        // Targets that fail validation aren't recorded, so they are tested again
+                        if (!validateHit(user, target, hitbox)) return false;
+
+                        hitTarget(user, target);
+                        applyHitboxEffects(user, target, hitbox);
+                        return true;
+                    });
+        }
     }
 
     @Override
@@ -177,6 +202,7 @@ public abstract class AbstractBlitzAttack extends AbstractBreathingAttack {
 
             // Remove expired hitboxes
             if (!persistentHitboxes || hitbox.age > hitboxDuration) {
+                hitbox.discardLingering();
                 it.remove();
                 continue;
             }
@@ -184,10 +210,13 @@ public abstract class AbstractBlitzAttack extends AbstractBreathingAttack {
             // Update hitbox properties
             if (expandingHitboxes) {
                 hitbox.size += expansionRate;
+                if (hitbox.lingering != null) {
+                    hitbox.lingering.setVolume(createVolume(hitbox));
+                }
             }
 
-            // Check for hits with persistent hitboxes
-            if (persistentHitboxes) {
+            // Check for hits with persistent hitboxes (client side, or without a lingering volume)
+            if (persistentHitboxes && hitbox.lingering == null) {
                 checkHitbox(user, world, hitbox);
             }
 
@@ -224,14 +253,14 @@ public abstract class AbstractBlitzAttack extends AbstractBreathingAttack {
                 hitbox.position.z + hitbox.size
         );
 
-        List<LivingEntity> targets = world.getEntitiesOfClass(LivingEntity.class, bounds,
-                entity -> entity != user && entity.isAlive() && !hitbox.hitEntities.contains(entity.getUUID()));
+        List<LivingEntity> targets = EntityBroadphase.getEntities(world, bounds,
+                entity -> entity != user && entity.isAlive() && !hitbox.hitEntities.contains(entity));
 
         for (LivingEntity target : targets) {
             // Custom hit validation
             if (validateHit(user, target, hitbox)) {
                 hitTarget(user, target);
-                hitbox.hitEntities.add(target.getUUID());
+                hitbox.hitEntities.add(target);
 
                 // Apply hitbox-specific effects
                 applyHitboxEffects(user, target, hitbox);
@@ -239,6 +268,20 @@ public abstract class AbstractBlitzAttack extends AbstractBreathingAttack {
         }
     }
 
+    /**
+     * Volume covered by a hitbox
+     */
+    protected HitVolume createVolume(ActiveHitbox hitbox) {
+        return HitVolume.box(hitbox.position, HitVolume.Basis.WORLD, hitbox.size, hitbox.size, hitbox.size);
+    }
+
+    private void discardHitboxes() {
+        for (ActiveHitbox hitbox : activeHitboxes) {
+            hitbox.discardLingering();
+        }
+        activeHitboxes.clear();
+    }
+
     /**
      * Validate if a target should be hit by a hitbox
      */
@@ -287,7 +330,9 @@ public abstract class AbstractBlitzAttack extends AbstractBreathingAttack {
         private final int index;
         private final int createdAt;
         private int age = 0;
-        private final Set<UUID> hitEntities = new HashSet<>();
+        private final EntityHitSet hitEntities = new EntityHitSet();
+        @Nullable
+        private LingeringHitManager.LingeringHit lingering; // Server side volume of a persistent hitbox
 
         public ActiveHitbox(Vec3 position, float size, int index, int createdAt) {
             this.position = position;
@@ -295,5 +340,12 @@ public abstract class AbstractBlitzAttack extends AbstractBreathingAttack {
             this.index = index;
             this.createdAt = createdAt;
         }
+
+        private void discardLingering() {
+            if (lingering != null) {
+                lingering.discard();
+                lingering = null;
+            }
+        }
     }
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.xirc.nichirin.common.attack.component;
 
+import com.xirc.nichirin.common.attack.EntityBroadphase;
+import com.xirc.nichirin.common.attack.LineOfSight;
+import com.xirc.nichirin.common.util.EntityHitSet;
 import com.xirc.nichirin.common.util.enums.MoveClass;
 import lombok.Getter;
 import lombok.Setter;
@@ -23,7 +26,7 @@ import java.util.*;
  * Highly customizable through builder pattern.
  */
 @Getter
-public abstract class AbstractBreathingAttack<T extends AbstractBreathingAttack<T, A>, A extends IBreathingAttacker<A, ?>> {
+public abstract class AbstractBreathingAttack<T extends AbstractBreathingAttack<T, A>, A extends IBreathingAttacker<A, ?>> implements IActiveMove {
 
     // Timing
     private int cooldown = 1;
@@ -82,8 +85,7 @@ public abstract class AbstractBreathingAttack<T extends AbstractBreathingAttack<
     private int currentTick = 0;
     @Setter
     private int hitCount = 0;
-    @Setter
-    private Set<UUID> hitEntities = new HashSet<>();
+    private final EntityHitSet hitEntities = new EntityHitSet();
     @Setter
     private boolean active = false;
     @Setter
@@ -242,6 +244,7 @@ public abstract class AbstractBreathingAttack<T extends AbstractBreathingAttack<
     /**
      * Called every tick by the player performing the attack
      */
+    @Override
     public void tick(Player player) {
         if (active && currentUser != null) {
             Level world = player.level();
@@ -257,6 +260,7 @@ public abstract class AbstractBreathingAttack<T extends AbstractBreathingAttack<
     /**
      * Starts the breathing attack
      */
+    @Override
     public void start(Player player) {
         if (active) return;
 
@@ -278,6 +282,7 @@ public abstract class AbstractBreathingAttack<T extends AbstractBreathingAttack<
     /**
      * Stops the breathing attack
      */
+    @Override
     public void stop() {
         if (!active || currentUser == null) return;
 
@@ -372,7 +377,7 @@ public abstract class AbstractBreathingAttack<T extends AbstractBreathingAttack<
      */
     protected void hitTarget(Player user, LivingEntity target) {
         // Check if already hit (for non-multi-hit attacks)
-        if (!multiHit && hitEntities.contains(target.getUUID())) {
+        if (!multiHit && hitEntities.contains(target)) {
             return;
         }
 
@@ -403,7 +408,7 @@ public abstract class AbstractBreathingAttack<T extends AbstractBreathingAttack<
         }
 
         // Track hit
-        hitEntities.add(target.getUUID());
+        hitEntities.add(target);
         hitCount++;
     }
 
@@ -428,9 +433,13 @@ public abstract class AbstractBreathingAttack<T extends AbstractBreathingAttack<
      * Gets entities in range
      */
     protected List<LivingEntity> getTargetsInRange(Player user, Level world) {
-        return world.getEntitiesOfClass(LivingEntity.class,
+        List<LivingEntity> targets = EntityBroadphase.getEntities(world,
                 user.getBoundingBox().inflate(range),
-                entity -> entity != user && entity.isAlive() && user.hasLineOfSight(entity));
+                entity -> entity != user && entity.isAlive());
+
+        // One batch of rays from the user's eyes, shared with other attacks this tick
+        LineOfSight.retainVisible(user, targets);
+        return targets;
     }
 
     /**
@@ -1,6 +1,9 @@
 package com.xirc.nichirin.common.attack.component;
 
+import com.xirc.nichirin.common.attack.LineOfSight;
 import com.xirc.nichirin.common.attack.actions.PlayerAnimationAction;
+import com.xirc.nichirin.common.util.EntityHitSet;
+import com.xirc.nichirin.common.util.HitVolume;
 import com.xirc.nichirin.common.util.StaminaManager;
 import com.xirc.nichirin.common.util.enums.MoveClass;
 import lombok.Getter;
@@ -15,7 +18,6 @@ import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Nullable;
 
@@ -88,8 +90,7 @@ public abstract class AbstractSimpleAttack<T extends AbstractSimpleAttack<T, A>,
     private boolean active = false;
     @Setter
     private boolean hitConnected = false;
-    @Setter
-    private Set<UUID> hitEntities = new HashSet<>();
+    private final EntityHitSet hitEntities = new EntityHitSet();
     @Setter
     private MoveClass moveClass;
     private Player Player;
@@ -325,23 +326,16 @@ public abstract class AbstractSimpleAttack<T extends AbstractSimpleAttack<T, A>,
         Vec3 lookDir = user.getLookAngle();
         Vec3 hitboxCenter = userPos.add(lookDir.scale(range)).add(hitboxOffset);
 
-        AABB hitbox = new AABB(
-                hitboxCenter.x - hitboxSize,
-                hitboxCenter.y - hitboxSize,
-                hitboxCenter.z - hitboxSize,
-                hitboxCenter.x + hitboxSize,
-                hitboxCenter.y + hitboxSize,
-                hitboxCenter.z + hitboxSize
-        );
+        // Cube turned to face the look direction
+        HitVolume hitbox = HitVolume.box(hitboxCenter, HitVolume.Basis.of(user), hitboxSize, hitboxSize, hitboxSize);
 
-        List<LivingEntity> targets = world.getEntitiesOfClass(LivingEntity.class, hitbox,
-                entity -> entity != user && entity.isAlive() &&
-                        (piercing || !hitEntities.contains(entity.getUUID())));
+        List<LivingEntity> targets = hitbox.getEntitiesSeenBy(user);
 
         for (LivingEntity target : targets) {
+            if (!piercing && hitEntities.contains(target)) continue;
             if (validateHit(user, target)) {
                 hitTarget(user, target);
-                hitEntities.add(target.getUUID());
+                hitEntities.add(target);
                 hitConnected = true;
             }
         }
@@ -351,7 +345,8 @@ public abstract class AbstractSimpleAttack<T extends AbstractSimpleAttack<T, A>,
      * Validates if a target can be hit
      */
     protected boolean validateHit(Player user, LivingEntity target) {
-        return user.hasLineOfSight(target);
+        // Cached for the tick, so later active frames and other attacks reuse the raycast
+        return LineOfSight.canSee(user, target);
     }
 
     /**
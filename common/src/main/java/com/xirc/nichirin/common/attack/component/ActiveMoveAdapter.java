@@ -0,0 +1,154 @@
+package com.xirc.nichirin.common.attack.component;
+
+import com.xirc.nichirin.BreathOfNichirin;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Wraps attack objects that don't implement {@link IActiveMove}.
+ * Their start/tick/isActive/getCooldown methods are looked up once per class and bound
+ * as method handles, so ticking an adapted attack never goes through reflection.
+ */
+public class ActiveMoveAdapter implements IActiveMove {
+
+    // Bindings are resolved the first time each class is seen
+    private static final ClassValue<Binding> BINDINGS = new ClassValue<>() {
+        @Override
+        protected Binding computeValue(Class<?> type) {
+            return Binding.resolve(type);
+        }
+    };
+
+    private final Object attack;
+    private final Binding binding;
+
+    private ActiveMoveAdapter(Object attack, Binding binding) {
+        this.attack = attack;
+        this.binding = binding;
+    }
+
+    /**
+     * Gets the attack as an active move, wrapping it if needed
+     * @return the move, or null if the attack has no usable start/tick/isActive methods
+     */
+    public static IActiveMove of(Object attack) {
+        if (attack instanceof IActiveMove move) {
+            return move;
+        }
+
+        Binding binding = BINDINGS.get(attack.getClass());
+        return binding != null ? new ActiveMoveAdapter(attack, binding) : null;
+    }
+
+    @Override
+    public void start(Player player) {
+        try {
+            if (binding.startWithLevel) {
+                binding.start.invokeExact(attack, player, player.level());
+            } else {
+                binding.start.invokeExact(attack, player);
+            }
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not start attack " + attack.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public void tick(Player player) {
+        try {
+            if (binding.tickWithPlayer) {
+                binding.tick.invokeExact(attack, player);
+            } else {
+                binding.tick.invokeExact(attack);
+            }
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not tick attack " + attack.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public boolean isActive() {
+        try {
+            return (boolean) binding.isActive.invokeExact(attack);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not query attack " + attack.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public int getCooldown() {
+        if (binding.getCooldown == null) return 0;
+
+        try {
+            return (int) binding.getCooldown.invokeExact(attack);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not query attack " + attack.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (binding.stop == null) return;
+
+        try {
+            binding.stop.invokeExact(attack);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not stop attack " + attack.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Method handles of one attack class, erased to Object receivers for invokeExact
+     */
+    private static class Binding {
+        MethodHandle start;
+        boolean startWithLevel;
+        MethodHandle tick;
+        boolean tickWithPlayer;
+        MethodHandle isActive;
+        MethodHandle getCooldown; // Optional
+        MethodHandle stop; // Optional
+
+        static Binding resolve(Class<?> type) {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Binding binding = new Binding();
+
+            // Try the same signatures MoveExecutor used to probe for
+            binding.start = find(lookup, type, "start", void.class, Player.class, Level.class);
+            binding.startWithLevel = binding.start != null;
+            if (binding.start == null) {
+                binding.start = find(lookup, type, "start", void.class, Player.class);
+            }
+
+            binding.tick = find(lookup, type, "tick", void.class);
+            if (binding.tick == null) {
+                binding.tick = find(lookup, type, "tick", void.class, Player.class);
+                binding.tickWithPlayer = binding.tick != null;
+            }
+
+            binding.isActive = find(lookup, type, "isActive", boolean.class);
+            binding.getCooldown = find(lookup, type, "getCooldown", int.class);
+            binding.stop = find(lookup, type, "stop", void.class);
+
+            if (binding.start == null || binding.tick == null || binding.isActive == null) {
+                BreathOfNichirin.LOGGER.error("Attack type {} has no usable start/tick/isActive methods", type.getName());
+                return null;
+            }
+            return binding;
+        }
+
+        private static MethodHandle find(MethodHandles.Lookup lookup, Class<?> type, String name,
+                                         Class<?> returnType, Class<?>... parameters) {
+            try {
+                MethodHandle handle = lookup.findVirtual(type, name, MethodType.methodType(returnType, parameters));
+                return handle.asType(handle.type().changeParameterType(0, Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return null;
+            }
+        }
+    }
+}
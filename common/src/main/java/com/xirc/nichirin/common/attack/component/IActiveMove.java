@@ -0,0 +1,46 @@
+package com.xirc.nichirin.common.attack.component;
+
+import net.minecraft.world.entity.player.Player;
+
+/**
+ * Contract for anything MoveExecutor can start and tick.
+ * Attack types outside this mod are wrapped by {@link ActiveMoveAdapter}.
+ */
+public interface IActiveMove {
+
+    /**
+     * Starts the move for the player
+     */
+    void start(Player player);
+
+    /**
+     * Ticks the move (called every tick while it is tracked)
+     */
+    void tick(Player player);
+
+    /**
+     * Checks if the move is currently running
+     */
+    boolean isActive();
+
+    /**
+     * Gets the cooldown in ticks shown after the move is used
+     */
+    int getCooldown();
+
+    /**
+     * Ends the move before it finished on its own (dropped by clearAttacks, or the player left).
+     * Only called while the move is still active, so it must undo anything the move set up.
+     */
+    default void stop() {
+        // Override if the move changes state outside itself
+    }
+
+    /**
+     * Ticks until the move next needs {@link #tick} (1 = every tick).
+     * Moves that return more than 1 must derive their timing from game time, not from tick calls.
+     */
+    default int ticksUntilWake() {
+        return 1;
+    }
+}
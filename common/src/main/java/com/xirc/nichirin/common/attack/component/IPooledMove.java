@@ -0,0 +1,13 @@
+package com.xirc.nichirin.common.attack.component;
+
+/**
+ * An active move whose instances are reused across casts (see MovePool).
+ * All configuration must be immutable; only cast state may change.
+ */
+public interface IPooledMove extends IActiveMove {
+
+    /**
+     * Clears all cast state so the instance can be started again
+     */
+    void reset();
+}
@@ -16,8 +16,8 @@ public class SimplePhysicalAttacker implements IPhysicalAttacker<SimplePhysicalA
 
     public SimplePhysicalAttacker(Player player) {
         this.player = player;
-        // Initialize stamina system with default values
-        this.staminaSystem = new StaminaSystem(player, 100.0f, 2.0f, 20);
+        // Stamina lives in the shared gauge store, regenerated by its server tick pass
+        this.staminaSystem = new StaminaSystem(player);
     }
 
     @Override
@@ -39,11 +39,4 @@ public class SimplePhysicalAttacker implements IPhysicalAttacker<SimplePhysicalA
     public SimplePhysicalAttacker getThis() {
         return this;
     }
-
-    /**
-     * Ticks the attacker, updating stamina regeneration
-     */
-    public void tick() {
-        staminaSystem.tick();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,256 @@
+package com.xirc.nichirin.common.attack.core;
+
+import com.xirc.nichirin.common.attack.CombatBudget;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Declarative schedule of a move, compiled once into sorted event arrays.
+ * Ticks are counted from the end of windup (tick 1 = first active tick), so a timeline
+ * does not change when a move's windup is tuned. One interpreter ({@link #run}) executes
+ * every move, and {@link #nextEventTick} tells the scheduler which ticks can be skipped.
+ */
+public final class MoveTimeline {
+
+    /**
+     * Event tracks. Strikes and particle bursts are handed to the move,
+     * sounds, velocity and effects are applied by the interpreter itself.
+     * Particle bursts and sounds are cosmetic and may be deferred under load.
+     */
+    public enum Track {
+        HIT_WINDOW,
+        STRIKE,
+        PARTICLE_BURST,
+        SOUND,
+        VELOCITY,
+        EFFECT;
+
+        private static final Track[] VALUES = values();
+    }
+
+    /**
+     * Receives the move-specific events of a timeline
+     */
+    public interface Handler {
+        /**
+         * Called on each tick of a hit window (only for the current tick, missed ticks are not replayed).
+         * Under server load some ticks inside a window are skipped (see CombatBudget), so checks
+         * should cover what happened since the previous call.
+         */
+        default void onHitWindow(int tick) {}
+
+        /**
+         * Called for the n-th strike of the move (0 based)
+         */
+        default void onStrike(int index) {}
+
+        /**
+         * Called for the n-th particle burst of the move (0 based).
+         * The burst may be deferred under load, after the move has ended and gone back to its pool,
+         * so it is returned with everything it needs captured now rather than read from the move.
+         * @return the burst to play, or null for none
+         */
+        default Runnable onParticleBurst(int index) {
+            return null;
+        }
+    }
+
+    // Arg of the last tick of a hit window
+    private static final int WINDOW_END = 1;
+
+    // Compiled events, sorted by tick (ties keep declaration order)
+    private final int[] ticks;
+    private final byte[] tracks;
+    private final int[] args; // Strike/burst index, payload index for sound/velocity/effect, WINDOW_END on hit windows
+    private final Object[] payloads;
+
+    private MoveTimeline(int[] ticks, byte[] tracks, int[] args, Object[] payloads) {
+        this.ticks = ticks;
+        this.tracks = tracks;
+        this.args = args;
+        this.payloads = payloads;
+    }
+
+    /**
+     * Runs every event in (fromExclusive, toInclusive]
+     */
+    public void run(int fromExclusive, int toInclusive, Player user, Handler handler) {
+        for (int i = firstAfter(fromExclusive); i < ticks.length && ticks[i] <= toInclusive; i++) {
+            switch (Track.VALUES[tracks[i]]) {
+                case HIT_WINDOW -> {
+                    // Hit windows are checked against the present only. Over budget, checks inside
+                    // a window are spread out, but the last tick of a window always runs.
+                    if (ticks[i] == toInclusive && (args[i] == WINDOW_END || CombatBudget.allowRecheck(user.getId()))) {
+                        handler.onHitWindow(ticks[i]);
+                    }
+                }
+                case STRIKE -> handler.onStrike(args[i]);
+                case PARTICLE_BURST -> {
+                    Runnable burst = handler.onParticleBurst(args[i]);
+                    if (burst != null) {
+                        CombatBudget.cosmetic(user.level(), burst);
+                    }
+                }
+                case SOUND -> {
+                    // Level and position as of now, the sound may be deferred
+                    SoundCue cue = (SoundCue) payloads[args[i]];
+                    Level level = user.level();
+                    double x = user.getX(), y = user.getY(), z = user.getZ();
+                    CombatBudget.cosmetic(level, () -> level.playSound(null, x, y, z,
+                            cue.sound(), SoundSource.PLAYERS, cue.volume(), cue.pitch()));
+                }
+                case VELOCITY -> {
+                    user.setDeltaMovement(user.getDeltaMovement().add((Vec3) payloads[args[i]]));
+                    user.hurtMarked = true; // Sync to the client
+                }
+                case EFFECT -> {
+                    EffectCue cue = (EffectCue) payloads[args[i]];
+                    user.addEffect(new MobEffectInstance(cue.effect(), cue.duration(), cue.amplifier(),
+                            false, true));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tick of the first event after the given tick
+     * @return the tick, or Integer.MAX_VALUE if nothing is left
+     */
+    public int nextEventTick(int after) {
+        int i = firstAfter(after);
+        return i < ticks.length ? ticks[i] : Integer.MAX_VALUE;
+    }
+
+    public int getEventCount() {
+        return ticks.length;
+    }
+
+    /**
+     * Index of the first event with a tick greater than the given one
+     */
+    private int firstAfter(int tick) {
+        int low = 0;
+        int high = ticks.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ticks[mid] <= tick) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private record SoundCue(SoundEvent sound, float volume, float pitch) {}
+
+    private record EffectCue(MobEffect effect, int duration, int amplifier) {}
+
+    /**
+     * Builder for timelines (ticks are relative to the end of windup)
+     */
+    public static class Builder {
+        private final List<long[]> events = new ArrayList<>();
+        private final List<Object> payloads = new ArrayList<>();
+        private int strikes = 0;
+        private int bursts = 0;
+
+        /**
+         * Hit detection on every tick from start to end (inclusive)
+         */
+        public Builder hitWindow(int start, int end) {
+            for (int tick = start; tick <= end; tick++) {
+                add(tick, Track.HIT_WINDOW, tick == end ? WINDOW_END : 0);
+            }
+            return this;
+        }
+
+        public Builder strikeAt(int tick) {
+            add(tick, Track.STRIKE, strikes++);
+            return this;
+        }
+
+        /**
+         * Strikes starting at a tick, repeated every interval ticks
+         */
+        public Builder strikeEvery(int start, int interval, int count) {
+            for (int i = 0; i < count; i++) {
+                strikeAt(start + i * interval);
+            }
+            return this;
+        }
+
+        public Builder particlesAt(int tick) {
+            add(tick, Track.PARTICLE_BURST, bursts++);
+            return this;
+        }
+
+        /**
+         * Particle bursts from start to end (inclusive), every interval ticks
+         */
+        public Builder particlesEvery(int start, int interval, int end) {
+            for (int tick = start; tick <= end; tick += interval) {
+                particlesAt(tick);
+            }
+            return this;
+        }
+
+        public Builder sound(int tick, SoundEvent sound, float volume, float pitch) {
+            add(tick, Track.SOUND, payload(new SoundCue(sound, volume, pitch)));
+            return this;
+        }
+
+        /**
+         * Adds to the user's velocity
+         */
+        public Builder velocity(int tick, Vec3 velocity) {
+            add(tick, Track.VELOCITY, payload(velocity));
+            return this;
+        }
+
+        /**
+         * Applies an effect to the user
+         */
+        public Builder effect(int tick, MobEffect effect, int duration, int amplifier) {
+            add(tick, Track.EFFECT, payload(new EffectCue(effect, duration, amplifier)));
+            return this;
+        }
+
+        public MoveTimeline build() {
+            long[][] sorted = events.toArray(new long[0][]);
+            // Stable sort keeps the declaration order of events on the same tick
+            Arrays.sort(sorted, (a, b) -> Long.compare(a[0], b[0]));
+
+            int[] ticks = new int[sorted.length];
+            byte[] tracks = new byte[sorted.length];
+            int[] args = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                ticks[i] = (int) sorted[i][0];
+                tracks[i] = (byte) sorted[i][1];
+                args[i] = (int) sorted[i][2];
+            }
+            return new MoveTimeline(ticks, tracks, args, payloads.toArray());
+        }
+
+        private void add(int tick, Track track, int arg) {
+            if (tick < 1) {
+                throw new IllegalArgumentException("Timeline events must be after windup (tick >= 1): " + tick);
+            }
+            events.add(new long[]{tick, track.ordinal(), arg});
+        }
+
+        private int payload(Object payload) {
+            payloads.add(payload);
+            return payloads.size() - 1;
+        }
+    }
+}
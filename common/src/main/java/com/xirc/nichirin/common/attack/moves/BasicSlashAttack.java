@@ -2,6 +2,8 @@ package com.xirc.nichirin.common.attack.moves;
 
 import com.xirc.nichirin.common.attack.component.AbstractSimpleAttack;
 import com.xirc.nichirin.common.attack.component.IPhysicalAttacker;
+import com.xirc.nichirin.common.util.EntityHitSet;
+import com.xirc.nichirin.common.util.HitVolume;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -10,12 +12,9 @@ import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Basic slash attack for all sword weapons.
@@ -26,7 +25,7 @@ public class BasicSlashAttack<A extends IPhysicalAttacker<A, ?>> extends Abstrac
     // State tracking
     private int tickCount = 0;
     private boolean hasHit = false;
-    private Set<LivingEntity> hitEntities = new HashSet<>();
+    private final EntityHitSet hitEntities = new EntityHitSet();
 
     public BasicSlashAttack() {
         withInfo(
@@ -87,18 +86,11 @@ public class BasicSlashAttack<A extends IPhysicalAttacker<A, ?>> extends Abstrac
         Vec3 lookDir = user.getLookAngle();
         Vec3 hitboxCenter = userPos.add(lookDir.scale(getRange())).add(getHitboxOffset());
 
-        // Create hitbox
-        AABB hitbox = new AABB(
-                hitboxCenter.x - getHitboxSize(),
-                hitboxCenter.y - getHitboxSize(),
-                hitboxCenter.z - getHitboxSize(),
-                hitboxCenter.x + getHitboxSize(),
-                hitboxCenter.y + getHitboxSize(),
-                hitboxCenter.z + getHitboxSize()
-        );
+        // Cube turned to face the look direction
+        HitVolume hitbox = HitVolume.box(hitboxCenter, HitVolume.Basis.of(user), getHitboxSize(), getHitboxSize(), getHitboxSize());
 
         // Find targets
-        List<LivingEntity> targets = world.getEntitiesOfClass(LivingEntity.class, hitbox,
+        List<LivingEntity> targets = hitbox.getEntitiesSeenBy(user,
                 entity -> entity != user && entity.isAlive() && !hitEntities.contains(entity));
 
         if (!targets.isEmpty()) {
@@ -1,5 +1,7 @@
 package com.xirc.nichirin.common.attack.moves;
 
+import com.xirc.nichirin.common.attack.component.IActiveMove;
+import com.xirc.nichirin.common.util.HitVolume;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvent;
@@ -8,7 +10,6 @@ import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
 import java.util.*;
@@ -16,7 +17,7 @@ import java.util.*;
 /**
  * Double slash attack that creates an X pattern with two diagonal slashes
  */
-public class DoubleSlashAttack {
+public class DoubleSlashAttack implements IActiveMove {
 
     // Configuration
     private final int startup;
@@ -133,6 +134,7 @@ public class DoubleSlashAttack {
         }
     }
 
+    @Override
     public void start(Player player) {
 
         // Only run on server side
@@ -156,6 +158,7 @@ public class DoubleSlashAttack {
         }
     }
 
+    @Override
     public void tick(Player player) {
         if (!isActive) return;
 
@@ -208,18 +211,11 @@ public class DoubleSlashAttack {
         Vec3 lookDir = user.getLookAngle();
         Vec3 hitboxCenter = userPos.add(lookDir.scale(range)).add(hitboxOffset);
 
-        // Create hitbox
-        AABB hitbox = new AABB(
-                hitboxCenter.x - hitboxSize,
-                hitboxCenter.y - hitboxSize,
-                hitboxCenter.z - hitboxSize,
-                hitboxCenter.x + hitboxSize,
-                hitboxCenter.y + hitboxSize,
-                hitboxCenter.z + hitboxSize
-        );
+        // Cube turned to face the look direction
+        HitVolume hitbox = HitVolume.box(hitboxCenter, HitVolume.Basis.of(user), hitboxSize, hitboxSize, hitboxSize);
 
         // Find targets - a single target can be hit multiple times during the active window
-        List<LivingEntity> targets = world.getEntitiesOfClass(LivingEntity.class, hitbox,
+        List<LivingEntity> targets = hitbox.getEntitiesSeenBy(user,
                 entity -> entity != user && entity.isAlive() && !hitCooldowns.containsKey(entity));
 
         if (!targets.isEmpty()) {
@@ -312,6 +308,7 @@ public class DoubleSlashAttack {
         hitCount.clear();
     }
 
+    @Override
     public boolean isActive() {
         return isActive;
     }
@@ -320,6 +317,7 @@ public class DoubleSlashAttack {
         return startup + active + recovery;
     }
 
+    @Override
     public int getCooldown() {
         return cooldown;
     }
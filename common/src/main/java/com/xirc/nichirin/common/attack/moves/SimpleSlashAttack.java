@@ -1,5 +1,8 @@
 package com.xirc.nichirin.common.attack.moves;
 
+import com.xirc.nichirin.common.attack.component.IActiveMove;
+import com.xirc.nichirin.common.util.EntityHitSet;
+import com.xirc.nichirin.common.util.HitVolume;
 import lombok.Getter;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
@@ -9,17 +12,14 @@ import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Simple slash attack that doesn't depend on the complex attack system
  */
-public class SimpleSlashAttack {
+public class SimpleSlashAttack implements IActiveMove {
 
     // Configuration
     private final int startup;
@@ -40,7 +40,7 @@ public class SimpleSlashAttack {
     @Getter
     private boolean isActive = false;
     private boolean hasHit = false;
-    private final Set<LivingEntity> hitEntities = new HashSet<>();
+    private final EntityHitSet hitEntities = new EntityHitSet();
 
     public SimpleSlashAttack(int startup, int active, int recovery, int cooldown, float damage, float range,
                              float knockback, float hitboxSize, Vec3 hitboxOffset, int hitStun,
@@ -126,6 +126,7 @@ public class SimpleSlashAttack {
         }
     }
 
+    @Override
     public void start(Player player) {
 
         // Only run on server side
@@ -149,6 +150,7 @@ public class SimpleSlashAttack {
         }
     }
 
+    @Override
     public void tick(Player player) {
         if (!isActive) return;
 
@@ -179,18 +181,11 @@ public class SimpleSlashAttack {
         Vec3 lookDir = user.getLookAngle();
         Vec3 hitboxCenter = userPos.add(lookDir.scale(range)).add(hitboxOffset);
 
-        // Create hitbox
-        AABB hitbox = new AABB(
-                hitboxCenter.x - hitboxSize,
-                hitboxCenter.y - hitboxSize,
-                hitboxCenter.z - hitboxSize,
-                hitboxCenter.x + hitboxSize,
-                hitboxCenter.y + hitboxSize,
-                hitboxCenter.z + hitboxSize
-        );
+        // Cube turned to face the look direction
+        HitVolume hitbox = HitVolume.box(hitboxCenter, HitVolume.Basis.of(user), hitboxSize, hitboxSize, hitboxSize);
 
         // Find targets
-        List<LivingEntity> targets = world.getEntitiesOfClass(LivingEntity.class, hitbox,
+        List<LivingEntity> targets = hitbox.getEntitiesSeenBy(user,
                 entity -> entity != user && entity.isAlive() && !hitEntities.contains(entity));
 
         if (!targets.isEmpty()) {
@@ -262,6 +257,7 @@ public class SimpleSlashAttack {
         return startup + active + recovery;
     }
 
+    @Override
     public int getCooldown() {
         return cooldown;
     }
@@ -1,5 +1,8 @@
 package com.xirc.nichirin.common.attack.moves;
 
+import com.xirc.nichirin.common.attack.component.IActiveMove;
+import com.xirc.nichirin.common.util.EntityHitSet;
+import com.xirc.nichirin.common.util.HitVolume;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvent;
@@ -8,17 +11,14 @@ import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Second attack in the combo - a slicing motion with different particles
  */
-public class SimpleSliceAttack {
+public class SimpleSliceAttack implements IActiveMove {
 
     // Configuration
     private final int startup;
@@ -38,7 +38,7 @@ public class SimpleSliceAttack {
     private int tickCount = 0;
     private boolean isActive = false;
     private boolean hasHit = false;
-    private final Set<LivingEntity> hitEntities = new HashSet<>();
+    private final EntityHitSet hitEntities = new EntityHitSet();
 
     public SimpleSliceAttack(int startup, int active, int recovery, int cooldown, float damage, float range,
                              float knockback, float hitboxSize, Vec3 hitboxOffset, int hitStun,
@@ -124,6 +124,7 @@ public class SimpleSliceAttack {
         }
     }
 
+    @Override
     public void start(Player player) {
         System.out.println("DEBUG: SimpleSliceAttack start called");
 
@@ -148,6 +149,7 @@ public class SimpleSliceAttack {
         }
     }
 
+    @Override
     public void tick(Player player) {
         if (!isActive) return;
 
@@ -177,18 +179,11 @@ public class SimpleSliceAttack {
         Vec3 lookDir = user.getLookAngle();
         Vec3 hitboxCenter = userPos.add(lookDir.scale(range)).add(hitboxOffset);
 
-        // Create hitbox
-        AABB hitbox = new AABB(
-                hitboxCenter.x - hitboxSize,
-                hitboxCenter.y - hitboxSize,
-                hitboxCenter.z - hitboxSize,
-                hitboxCenter.x + hitboxSize,
-                hitboxCenter.y + hitboxSize,
-                hitboxCenter.z + hitboxSize
-        );
+        // Cube turned to face the look direction
+        HitVolume hitbox = HitVolume.box(hitboxCenter, HitVolume.Basis.of(user), hitboxSize, hitboxSize, hitboxSize);
 
         // Find targets
-        List<LivingEntity> targets = world.getEntitiesOfClass(LivingEntity.class, hitbox,
+        List<LivingEntity> targets = hitbox.getEntitiesSeenBy(user,
                 entity -> entity != user && entity.isAlive() && !hitEntities.contains(entity));
 
         if (!targets.isEmpty()) {
@@ -257,6 +252,7 @@ public class SimpleSliceAttack {
         hitEntities.clear();
     }
 
+    @Override
     public boolean isActive() {
         return isActive;
     }
@@ -265,6 +261,7 @@ public class SimpleSliceAttack {
         return startup + active + recovery;
     }
 
+    @Override
     public int getCooldown() {
         return cooldown;
     }
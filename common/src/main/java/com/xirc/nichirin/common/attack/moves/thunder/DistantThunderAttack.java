@@ -1,16 +1,17 @@
 package com.xirc.nichirin.common.attack.moves.thunder;
 
+import com.xirc.nichirin.common.attack.CombatBudget;
+import com.xirc.nichirin.common.attack.EntityBroadphase;
+import com.xirc.nichirin.common.attack.core.MoveTimeline;
+import com.xirc.nichirin.registry.NichirinVfxRegistry;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
-import net.minecraft.world.entity.EntityType;
-import net.minecraft.world.entity.LightningBolt;
 import net.minecraft.world.entity.LivingEntity;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -21,38 +22,37 @@ import java.util.Set;
  */
 public class DistantThunderAttack extends ThunderBreathingAttackBase {
 
-    private int strikeCount = 0;
-    private int strikeTimer = 0;
     private final Set<LivingEntity> trackedTargets = new HashSet<>();
 
+    private static final ThunderMoveDefinition DEFINITION = new ThunderMoveDefinition.Builder()
+            .withTiming(80, 15, 160) // cooldown, windup, 8 seconds duration
+            .withDamage(12.0f)
+            .withRange(20.0f) // Large AOE radius
+            .withKnockback(0.1f)
+            .withBreathCost(30.0f)
+            .withHitStun(20) // 1 second stun per strike
+            .withTimeline(new MoveTimeline.Builder()
+                    .strikeEvery(40, 40, 4) // Strike every 2 seconds
+                    .particlesEvery(5, 10, 155) // Storm effects on every 10th game tick of the attack
+                    .build())
+            .build();
+
     public DistantThunderAttack() {
-        withTiming(80, 15, 160) // cooldown, windup, 8 seconds duration
-                .withDamage(12.0f)
-                .withRange(20.0f) // Large AOE radius
-                .withKnockback(0.1f)
-                .withBreathCost(30.0f)
-                .withHitStun(20); // 1 second stun per strike
+        super(DEFINITION);
+    }
+
+    @Override
+    protected void onReset() {
+        trackedTargets.clear();
     }
 
     @Override
     protected void onStart() {
-        // Reset counters
-        strikeCount = 0;
-        strikeTimer = 0;
         trackedTargets.clear();
 
         // Find all targets in range at start
         Vec3 center = user.position();
-        AABB searchArea = new AABB(
-                center.x - range, center.y - range, center.z - range,
-                center.x + range, center.y + range, center.z + range
-        );
-
-        List<LivingEntity> targets = world.getEntitiesOfClass(LivingEntity.class, searchArea,
-                entity -> entity != user && entity.isAlive() &&
-                        entity.position().distanceTo(center) <= range);
-
-        trackedTargets.addAll(targets);
+        trackedTargets.addAll(EntityBroadphase.getEntitiesInRadius(world, center, range, user));
 
         // Ominous thunder sound
         world.playSound(null, user.getX(), user.getY(), user.getZ(),
@@ -60,40 +60,24 @@ public class DistantThunderAttack extends ThunderBreathingAttackBase {
 
         // Visual indicator - dark clouds effect
         if (world instanceof ServerLevel serverLevel) {
-            for (int i = 0; i < 50; i++) {
-                double offsetX = (world.random.nextDouble() - 0.5) * range * 2;
-                double offsetZ = (world.random.nextDouble() - 0.5) * range * 2;
-                serverLevel.sendParticles(ParticleTypes.LARGE_SMOKE,
-                        center.x + offsetX, center.y + 15, center.z + offsetZ,
-                        1, 0, -0.1, 0, 0.05);
-            }
+            CombatBudget.cosmetic(world, () -> NichirinVfxRegistry.play(serverLevel,
+                    NichirinVfxRegistry.STORM_CLOUDS, center, (float) range));
         }
     }
 
     @Override
-    protected void perform() {
-        if (world.isClientSide) return;
-
-        // Strike every 2 seconds (40 ticks)
-        strikeTimer++;
+    public void onStrike(int index) {
+        performLightningStrike();
+    }
 
-        if (strikeTimer >= 40 && strikeCount < 4) {
-            performLightningStrike();
-            strikeTimer = 0;
-            strikeCount++;
-        }
+    @Override
+    public Runnable onParticleBurst(int index) {
+        // Continuous storm effects, bound to this cast (the burst may play after the move is pooled)
+        if (!(world instanceof ServerLevel serverLevel)) return null;
 
-        // Continuous storm effects
-        if (tickCount % 10 == 0 && world instanceof ServerLevel serverLevel) {
-            Vec3 center = user.position();
-            for (int i = 0; i < 20; i++) {
-                double offsetX = (world.random.nextDouble() - 0.5) * range * 2;
-                double offsetZ = (world.random.nextDouble() - 0.5) * range * 2;
-                serverLevel.sendParticles(ParticleTypes.ELECTRIC_SPARK,
-                        center.x + offsetX, center.y + 10 + world.random.nextDouble() * 5, center.z + offsetZ,
-                        1, 0, -0.2, 0, 0.1);
-            }
-        }
+        Vec3 center = user.position();
+        float radius = range;
+        return () -> NichirinVfxRegistry.play(serverLevel, NichirinVfxRegistry.STORM_SPARKS, center, radius);
     }
 
     private void performLightningStrike() {
@@ -102,51 +86,48 @@ public class DistantThunderAttack extends ThunderBreathingAttackBase {
         // Strike all tracked targets
         for (LivingEntity target : trackedTargets) {
             if (target.isAlive() && target.position().distanceTo(user.position()) <= range) {
-                // Create visual lightning bolt (doesn't do vanilla damage)
-                LightningBolt lightning = EntityType.LIGHTNING_BOLT.create(world);
-                if (lightning != null) {
-                    lightning.moveTo(target.position());
-                    lightning.setVisualOnly(true);
-                    serverLevel.addFreshEntity(lightning);
-                }
-
-                // Apply our custom damage and effects
+                // Apply our custom damage and effects (never deferred)
                 hitTarget(target);
 
-                // Extra effects at strike location
-                serverLevel.sendParticles(ParticleTypes.ELECTRIC_SPARK,
-                        target.getX(), target.getY(), target.getZ(),
-                        50, 1.0, 2.0, 1.0, 0.5);
-
-                serverLevel.sendParticles(ParticleTypes.END_ROD,
-                        target.getX(), target.getY() + target.getBbHeight(), target.getZ(),
-                        20, 0.3, 0.3, 0.3, 0.1);
-
-                // Thunder sound at target
-                world.playSound(null, target.getX(), target.getY(), target.getZ(),
-                        SoundEvents.LIGHTNING_BOLT_IMPACT, SoundSource.PLAYERS, 0.8f, 1.0f);
+                // Visuals at the strike location, deferred under load
+                Vec3 strikePos = target.position();
+                float height = target.getBbHeight();
+                CombatBudget.cosmetic(world, () -> spawnStrikeEffects(serverLevel, strikePos, height));
             }
         }
 
         // Also strike random positions for atmosphere
+        Vec3 center = user.position();
+        CombatBudget.cosmetic(world, () -> spawnAtmosphereStrikes(serverLevel, center));
+    }
+
+    private void spawnStrikeEffects(ServerLevel serverLevel, Vec3 pos, float height) {
+        // Visual lightning bolt, drawn by clients (no entity, no vanilla damage)
+        NichirinVfxRegistry.strikeBolts(serverLevel, List.of(pos));
+
+        NichirinVfxRegistry.play(serverLevel, NichirinVfxRegistry.STRIKE_IMPACT, pos, height);
+
+        // Thunder sound at target
+        serverLevel.playSound(null, pos.x, pos.y, pos.z,
+                SoundEvents.LIGHTNING_BOLT_IMPACT, SoundSource.PLAYERS, 0.8f, 1.0f);
+    }
+
+    private void spawnAtmosphereStrikes(ServerLevel serverLevel, Vec3 center) {
+        List<Vec3> bolts = new ArrayList<>(3);
         for (int i = 0; i < 3; i++) {
-            double offsetX = (world.random.nextDouble() - 0.5) * range * 1.5;
-            double offsetZ = (world.random.nextDouble() - 0.5) * range * 1.5;
-            Vec3 strikePos = user.position().add(offsetX, 0, offsetZ);
+            double offsetX = (serverLevel.random.nextDouble() - 0.5) * range * 1.5;
+            double offsetZ = (serverLevel.random.nextDouble() - 0.5) * range * 1.5;
+            Vec3 strikePos = center.add(offsetX, 0, offsetZ);
 
             // Find ground level
-            BlockPos groundPos = world.getHeightmapPos(
+            BlockPos groundPos = serverLevel.getHeightmapPos(
                     net.minecraft.world.level.levelgen.Heightmap.Types.MOTION_BLOCKING,
                     new BlockPos((int)strikePos.x, (int)strikePos.y, (int)strikePos.z)
             );
 
-            LightningBolt lightning = EntityType.LIGHTNING_BOLT.create(world);
-            if (lightning != null) {
-                lightning.moveTo(groundPos.getX(), groundPos.getY(), groundPos.getZ());
-                lightning.setVisualOnly(true);
-                serverLevel.addFreshEntity(lightning);
-            }
+            bolts.add(Vec3.atBottomCenterOf(groundPos));
         }
+        NichirinVfxRegistry.strikeBolts(serverLevel, bolts);
     }
 
     @Override
@@ -1,7 +1,10 @@
 package com.xirc.nichirin.common.attack.moves.thunder;
 
+import com.xirc.nichirin.common.attack.EntityBroadphase;
+import com.xirc.nichirin.common.attack.core.MoveTimeline;
+import com.xirc.nichirin.common.util.EntityHitSet;
 import com.xirc.nichirin.registry.NichirinEffectRegistry;
-import net.minecraft.core.particles.ParticleTypes;
+import com.xirc.nichirin.registry.NichirinVfxRegistry;
 import net.minecraft.network.protocol.game.ClientboundSetEntityMotionPacket;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
@@ -9,8 +12,6 @@ import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.effect.MobEffectInstance;
-import net.minecraft.world.entity.EntityType;
-import net.minecraft.world.entity.LightningBolt;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
@@ -27,18 +28,33 @@ import java.util.Set;
  */
 public class HeatLightningAttack extends ThunderBreathingAttackBase {
 
-    private final Set<LivingEntity> hitEntities = new HashSet<>();
+    private final EntityHitSet hitEntities = new EntityHitSet();
     private final Map<LivingEntity, Integer> launchedEntities = new HashMap<>(); // Track with tick count
-    private final Set<LivingEntity> struckByLightning = new HashSet<>();
+    private final EntityHitSet struckByLightning = new EntityHitSet();
     private float launchPower = 1.5f;
 
+    private static final ThunderMoveDefinition DEFINITION = new ThunderMoveDefinition.Builder()
+            .withTiming(60, 8, 20) // cooldown, windup, duration
+            .withDamage(18.0f)
+            .withRange(12.0f)
+            .withKnockback(0.0f) // No horizontal knockback, just launch
+            .withBreathCost(25.0f)
+            .withHitStun(30) // Longer stun for lightning strike
+            .withTimeline(new MoveTimeline.Builder()
+                    .strikeAt(1) // The rising slash
+                    .hitWindow(1, 20) // Check for airborne targets continuously
+                    .build())
+            .build();
+
     public HeatLightningAttack() {
-        withTiming(60, 8, 20) // cooldown, windup, duration
-                .withDamage(18.0f)
-                .withRange(12.0f)
-                .withKnockback(0.0f) // No horizontal knockback, just launch
-                .withBreathCost(25.0f)
-                .withHitStun(30); // Longer stun for lightning strike
+        super(DEFINITION);
+    }
+
+    @Override
+    protected void onReset() {
+        hitEntities.clear();
+        launchedEntities.clear();
+        struckByLightning.clear();
     }
 
     @Override
@@ -53,18 +69,24 @@ public class HeatLightningAttack extends ThunderBreathingAttackBase {
     }
 
     @Override
-    protected void perform() {
-        if (world.isClientSide) return;
-
-        // Perform the rising slash on first tick
-        if (tickCount == windup + 1) {
-            performRisingSlash();
-        }
+    public void onStrike(int index) {
+        performRisingSlash();
+    }
 
-        // Check for airborne targets continuously
+    @Override
+    public void onHitWindow(int tick) {
         checkAndStrikeAirborneTargets();
     }
 
+    @Override
+    protected int nextActionTick() {
+        // Poll the hit window only while launched targets may still be struck
+        if (tickCount > windup && launchedEntities.isEmpty()) {
+            return Integer.MAX_VALUE;
+        }
+        return super.nextActionTick();
+    }
+
     private void performRisingSlash() {
         Vec3 userPos = user.position().add(0, user.getBbHeight() / 2, 0);
         Vec3 lookDir = user.getLookAngle();
@@ -75,20 +97,7 @@ public class HeatLightningAttack extends ThunderBreathingAttackBase {
             float slashHeight = 4.0f;
 
             // Vertical line of particles
-            for (int i = 0; i <= 10; i++) {
-                float progress = i / 10.0f;
-                Vec3 particlePos = slashBase.add(0, progress * slashHeight, 0);
-
-                serverLevel.sendParticles(ParticleTypes.SWEEP_ATTACK,
-                        particlePos.x, particlePos.y, particlePos.z,
-                        1, 0, 0, 0, 0);
-
-                if (i % 2 == 0) {
-                    serverLevel.sendParticles(ParticleTypes.ELECTRIC_SPARK,
-                            particlePos.x, particlePos.y, particlePos.z,
-                            5, 0.2, 0.2, 0.2, 0.05);
-                }
-            }
+            NichirinVfxRegistry.play(serverLevel, NichirinVfxRegistry.RISING_SLASH, slashBase, slashHeight);
         }
 
         // Thunder sound
@@ -106,7 +115,7 @@ public class HeatLightningAttack extends ThunderBreathingAttackBase {
                 hitboxCenter.z + hitboxSize
         );
 
-        List<LivingEntity> targets = world.getEntitiesOfClass(LivingEntity.class, hitbox,
+        List<LivingEntity> targets = EntityBroadphase.getEntities(world, hitbox,
                 entity -> entity != user && entity.isAlive() && !hitEntities.contains(entity));
 
         for (LivingEntity target : targets) {
@@ -186,13 +195,8 @@ public class HeatLightningAttack extends ThunderBreathingAttackBase {
     }
 
     private void strikeWithLightning(ServerLevel serverLevel, LivingEntity target) {
-        // Create lightning bolt at target
-        LightningBolt lightning = EntityType.LIGHTNING_BOLT.create(world);
-        if (lightning != null) {
-            lightning.moveTo(target.position());
-            lightning.setVisualOnly(true);
-            serverLevel.addFreshEntity(lightning);
-        }
+        // Create lightning bolt at target (drawn by clients, no entity)
+        NichirinVfxRegistry.strikeBolts(serverLevel, List.of(target.position()));
 
         // Extra damage while airborne (magic damage to bypass armor)
         DamageSource source = user.damageSources().magic();
@@ -208,9 +212,7 @@ public class HeatLightningAttack extends ThunderBreathingAttackBase {
         ));
 
         // Lightning particles
-        serverLevel.sendParticles(ParticleTypes.ELECTRIC_SPARK,
-                target.getX(), target.getY(), target.getZ(),
-                30, 0.5, 0.5, 0.5, 0.2);
+        NichirinVfxRegistry.play(serverLevel, NichirinVfxRegistry.LIGHTNING_HIT, target.position(), 1.0f);
 
         // Thunder sound
         world.playSound(null, target.getX(), target.getY(), target.getZ(),
@@ -1,6 +1,11 @@
 package com.xirc.nichirin.common.attack.moves.thunder;
 
+import com.xirc.nichirin.common.attack.CombatBudget;
+import com.xirc.nichirin.common.attack.core.MoveTimeline;
+import com.xirc.nichirin.common.util.EntityHitSet;
+import com.xirc.nichirin.common.util.HitVolume;
 import com.xirc.nichirin.common.util.TeleportUtil;
+import com.xirc.nichirin.registry.NichirinVfxRegistry;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -9,9 +14,7 @@ import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Seventh Form: Honoikazuchi no Kami (Flaming Thunder God)
@@ -19,23 +22,41 @@ import java.util.Set;
  */
 public class HonoikazuchiNoKamiAttack extends ThunderBreathingAttackBase {
 
-    private boolean hasExecuted = false;
-    private Set<LivingEntity> hitEntities = new HashSet<>(); // Track hit entities to avoid double hits
+    private final EntityHitSet hitEntities = new EntityHitSet(); // Track hit entities to avoid double hits
+    private Vec3 lastAreaCheck = null; // Where the previous area check was made
+
+    private static final ThunderMoveDefinition DEFINITION = new ThunderMoveDefinition.Builder()
+            .withTiming(300, 20, 60) // 15 second cooldown, longer windup and duration
+            .withDamage(50.0f) // Massive damage
+            .withRange(30.0f) // Very long dash
+            .withKnockback(2.0f) // High knockback
+            .withBreathCost(50.0f) // Half breath cost
+            .withHitStun(40) // 2 second stun
+            .withHitboxSize(4.0f) // Larger hitbox for ultimate
+            .withTimeline(new MoveTimeline.Builder()
+                    .strikeAt(1) // The ultimate dash, once windup completes
+                    .hitWindow(1, 59) // Area damage for the entire duration
+                    // Thunder God's blessing after the dash: Speed 1 for 8 seconds, brief regeneration
+                    .effect(59, MobEffects.MOVEMENT_SPEED, 160, 0)
+                    .effect(59, MobEffects.REGENERATION, 100, 1)
+                    .strikeAt(59)
+                    .build())
+            .build();
 
     public HonoikazuchiNoKamiAttack() {
-        withTiming(300, 20, 60) // 15 second cooldown, longer windup and duration
-                .withDamage(50.0f) // Massive damage
-                .withRange(30.0f) // Very long dash
-                .withKnockback(2.0f) // High knockback
-                .withBreathCost(50.0f) // Half breath cost
-                .withHitStun(40) // 2 second stun
-                .withHitboxSize(4.0f); // Larger hitbox for ultimate
+        super(DEFINITION);
+    }
+
+    @Override
+    protected void onReset() {
+        hitEntities.clear();
+        lastAreaCheck = null;
     }
 
     @Override
     protected void onStart() {
-        hasExecuted = false;
         hitEntities.clear();
+        lastAreaCheck = null;
 
         // Epic charge-up effects
         world.playSound(null, user.getX(), user.getY(), user.getZ(),
@@ -46,36 +67,21 @@ public class HonoikazuchiNoKamiAttack extends ThunderBreathingAttackBase {
     }
 
     @Override
-    protected void perform() {
-        if (world.isClientSide) return;
-
-        // Keep invulnerability during windup
-        if (tickCount <= windup) {
-            // Still in windup phase, maintain invulnerability
-            if (!user.isInvulnerable()) {
-                user.setInvulnerable(true);
-            }
-            return;
-        }
-
-        // Execute the ultimate dash once after windup completes
-        if (!hasExecuted && tickCount == windup + 1) {
+    public void onStrike(int index) {
+        if (index == 0) {
             // Remove invulnerability now that windup is complete
             user.setInvulnerable(false);
 
             executeUltimateDash();
-            hasExecuted = true;
-        }
-
-        // Check for hits in the area around the user during the entire duration
-        if (hasExecuted && tickCount > windup && tickCount < windup + duration) {
-            checkAreaDamage();
+        } else {
+            announceBlessing();
         }
+    }
 
-        // Apply speed boost after dash completes
-        if (tickCount == windup + duration - 1) {
-            applySpeedBoost();
-        }
+    @Override
+    public void onHitWindow(int tick) {
+        // Check for hits in the area around the user
+        checkAreaDamage();
     }
 
     private void executeUltimateDash() {
@@ -104,12 +110,12 @@ public class HonoikazuchiNoKamiAttack extends ThunderBreathingAttackBase {
 
         // Pre-teleport: Create dragon-like lightning effect
         options.preTeleport = entity -> {
-            createLightningDragonEffect();
+            createLightningDragonEffect(entity.position(), entity.getLookAngle());
         };
 
         // Post-teleport: Explosion effect and area damage
         options.postTeleport = entity -> {
-            createExplosionEffect();
+            createExplosionEffect(entity.position());
             // Hit all enemies in the large hitbox at destination
             checkAreaDamageAtPosition(entity.position());
         };
@@ -120,13 +126,25 @@ public class HonoikazuchiNoKamiAttack extends ThunderBreathingAttackBase {
         // If teleport was blocked, still do damage in current area
         if (!success) {
             checkAreaDamageAtPosition(startPos);
-            createExplosionEffect();
+            createExplosionEffect(user.position());
         }
     }
 
     private void checkAreaDamage() {
-        // Check for enemies in the hitbox around current position
-        checkAreaDamageAtPosition(user.position());
+        // Sweep the hitbox from the previous check to the current position,
+        // so ground covered between checks is hit as well
+        Vec3 position = user.position();
+        Vec3 from = lastAreaCheck != null ? lastAreaCheck : position;
+        lastAreaCheck = position;
+
+        double half = hitboxSize / 2;
+        List<LivingEntity> targets = HitVolume.sweep(from, position, half, half).getEntitiesSeenBy(user,
+                entity -> entity != user && entity.isAlive() && !hitEntities.contains(entity));
+
+        for (LivingEntity target : targets) {
+            hitTargetUltimate(target);
+            hitEntities.add(target);
+        }
     }
 
     private void checkAreaDamageAtPosition(Vec3 position) {
@@ -154,79 +172,43 @@ public class HonoikazuchiNoKamiAttack extends ThunderBreathingAttackBase {
         Vec3 knockbackDir = target.position().subtract(user.position()).normalize();
         target.push(knockbackDir.x * knockback, 0.5, knockbackDir.z * knockback);
 
-        // Extra particle explosion per target
+        // Extra particle explosion per target (cosmetic, deferred under load)
         if (world instanceof net.minecraft.server.level.ServerLevel serverLevel) {
-            serverLevel.sendParticles(ParticleTypes.EXPLOSION_EMITTER,
-                    target.getX(), target.getY() + 1, target.getZ(),
-                    1, 0, 0, 0, 0);
-
-            serverLevel.sendParticles(ParticleTypes.ELECTRIC_SPARK,
-                    target.getX(), target.getY() + 1, target.getZ(),
-                    100, 1.0, 1.0, 1.0, 0.5);
+            Vec3 pos = target.position().add(0, 1, 0);
+            CombatBudget.cosmetic(world, () -> NichirinVfxRegistry.play(serverLevel,
+                    NichirinVfxRegistry.ULTIMATE_HIT, pos, 1.0f));
         }
     }
 
-    private void createLightningDragonEffect() {
+    private void createLightningDragonEffect(Vec3 userPos, Vec3 lookDir) {
         if (!(world instanceof net.minecraft.server.level.ServerLevel serverLevel)) return;
 
-        Vec3 userPos = user.position();
-        Vec3 lookDir = user.getLookAngle();
+        // Positions are captured up front, the effect may be deferred under load
+        CombatBudget.cosmetic(world, () -> spawnLightningDragon(serverLevel, userPos, lookDir));
+    }
 
+    private void spawnLightningDragon(net.minecraft.server.level.ServerLevel serverLevel, Vec3 userPos, Vec3 lookDir) {
         // Create dragon-shaped particle trail
-        for (int i = 0; i < 50; i++) {
-            double progress = i / 50.0;
-            double wave = Math.sin(progress * Math.PI * 4) * 2; // Serpentine motion
-
-            Vec3 basePos = userPos.add(lookDir.scale(progress * range));
-            Vec3 offset = lookDir.cross(new Vec3(0, 1, 0)).normalize().scale(wave);
-            Vec3 particlePos = basePos.add(offset).add(0, 1 + progress * 2, 0);
-
-            serverLevel.sendParticles(ParticleTypes.ELECTRIC_SPARK,
-                    particlePos.x, particlePos.y, particlePos.z,
-                    5, 0.2, 0.2, 0.2, 0.1);
-
-            if (i % 5 == 0) {
-                serverLevel.sendParticles(ParticleTypes.END_ROD,
-                        particlePos.x, particlePos.y, particlePos.z,
-                        3, 0.3, 0.3, 0.3, 0.05);
-            }
-        }
+        NichirinVfxRegistry.play(serverLevel, NichirinVfxRegistry.THUNDER_DRAGON, userPos, lookDir, range);
 
         // Thunder roar sound
-        world.playSound(null, userPos.x, userPos.y, userPos.z,
+        serverLevel.playSound(null, userPos.x, userPos.y, userPos.z,
                 SoundEvents.ENDER_DRAGON_GROWL, SoundSource.PLAYERS, 1.5f, 2.0f);
     }
 
-    private void createExplosionEffect() {
+    private void createExplosionEffect(Vec3 pos) {
         if (!(world instanceof net.minecraft.server.level.ServerLevel serverLevel)) return;
 
-        Vec3 pos = user.position();
-
-        // Massive explosion particles
-        serverLevel.sendParticles(ParticleTypes.EXPLOSION_EMITTER,
-                pos.x, pos.y + 1, pos.z,
-                3, 0, 0, 0, 0);
-
-        // Ring of electric particles
-        for (int angle = 0; angle < 360; angle += 10) {
-            double rad = Math.toRadians(angle);
-            for (double r = 2; r < 10; r += 0.5) {
-                Vec3 ringPos = pos.add(Math.cos(rad) * r, 0.5, Math.sin(rad) * r);
-                serverLevel.sendParticles(ParticleTypes.ELECTRIC_SPARK,
-                        ringPos.x, ringPos.y, ringPos.z,
-                        1, 0, 0, 0, 0);
-            }
-        }
+        CombatBudget.cosmetic(world, () -> spawnExplosion(serverLevel, pos));
     }
 
-    private void applySpeedBoost() {
-        // Speed 1 for 8 seconds (160 ticks)
-        user.addEffect(new MobEffectInstance(MobEffects.MOVEMENT_SPEED, 160, 0, false, true));
-
-        // Also give brief regeneration as a bonus
-        user.addEffect(new MobEffectInstance(MobEffects.REGENERATION, 100, 1, false, true));
+    private void spawnExplosion(net.minecraft.server.level.ServerLevel serverLevel, Vec3 pos) {
+        // Massive explosion particles with a ring of electric particles
+        NichirinVfxRegistry.play(serverLevel, NichirinVfxRegistry.THUNDER_EXPLOSION, pos, 1.0f);
+    }
 
-        // Notification
+    private void announceBlessing() {
+        // Notification (the effects themselves are on the timeline)
         user.displayClientMessage(
                 net.minecraft.network.chat.Component.literal("Thunder God's blessing grants you speed!")
                         .withStyle(style -> style.withColor(0xFFFF00).withBold(true)),
@@ -1,6 +1,8 @@
 package com.xirc.nichirin.common.attack.moves.thunder;
 
-import net.minecraft.core.particles.ParticleTypes;
+import com.xirc.nichirin.common.attack.EntityBroadphase;
+import com.xirc.nichirin.common.attack.core.MoveTimeline;
+import com.xirc.nichirin.registry.NichirinVfxRegistry;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -18,26 +20,33 @@ import java.util.Random;
  */
 public class RiceSpiritAttack extends ThunderBreathingAttackBase {
 
-    private int slashCount = 0;
-    private int slashTimer = 0;
     private LivingEntity lockedTarget = null;
     private final Random random = new Random();
 
+    private static final ThunderMoveDefinition DEFINITION = new ThunderMoveDefinition.Builder()
+            .withTiming(40, 5, 30) // cooldown, windup, duration
+            .withDamage(8.0f) // Lower damage per slash
+            .withRange(5.0f) // Range to find enemies
+            .withKnockback(0.3f)
+            .withBreathCost(15.0f)
+            .withHitStun(20)
+            .withHitboxSize(2.0f) // Hitbox around the target
+            .withTimeline(new MoveTimeline.Builder()
+                    .strikeEvery(4, 4, 5) // 5 slashes with 0.2 second intervals
+                    .build())
+            .build();
+
     public RiceSpiritAttack() {
-        withTiming(40, 5, 30) // cooldown, windup, duration
-                .withDamage(8.0f) // Lower damage per slash
-                .withRange(5.0f) // Range to find enemies
-                .withKnockback(0.3f)
-                .withBreathCost(15.0f)
-                .withHitStun(20)
-                .withHitboxSize(2.0f); // Hitbox around the target
+        super(DEFINITION);
+    }
+
+    @Override
+    protected void onReset() {
+        lockedTarget = null;
     }
 
     @Override
     protected void onStart() {
-        // Reset counters
-        slashCount = 0;
-        slashTimer = 0;
         lockedTarget = null;
 
         // Find closest enemy within range
@@ -55,32 +64,24 @@ public class RiceSpiritAttack extends ThunderBreathingAttackBase {
     }
 
     @Override
-    protected void perform() {
-        if (world.isClientSide) return;
-
+    public void onStrike(int index) {
         // Check if we still have a valid target
         if (lockedTarget == null || !lockedTarget.isAlive() || lockedTarget.isRemoved()) {
             stop();
             return;
         }
 
-        // Execute slashes with 0.2 second intervals (4 ticks)
-        slashTimer++;
-
-        if (slashTimer % 4 == 0 && slashCount < 5) {
-            performSlash();
-            slashCount++;
-        }
+        performSlash(index);
     }
 
-    private void performSlash() {
+    private void performSlash(int slashIndex) {
         if (lockedTarget == null) return;
 
         // Get target's current position
         Vec3 targetPos = lockedTarget.position();
 
         // Add some variation to slash positions around the target
-        float angleOffset = (slashCount * 72f) + random.nextFloat() * 30f; // Distribute around target
+        float angleOffset = (slashIndex * 72f) + random.nextFloat() * 30f; // Distribute around target
         float radian = (float) Math.toRadians(angleOffset);
         float offsetDistance = 0.5f + random.nextFloat() * 0.5f;
 
@@ -90,28 +91,11 @@ public class RiceSpiritAttack extends ThunderBreathingAttackBase {
                 Math.sin(radian) * offsetDistance
         );
 
-        // Create slash visual
+        // Create slash visual, with a trail back from the target to the player
         if (world instanceof ServerLevel serverLevel) {
-            // Lightning slash effect
-            serverLevel.sendParticles(ParticleTypes.SWEEP_ATTACK,
-                    slashPos.x, slashPos.y, slashPos.z,
-                    1, 0, 0, 0, 0);
-
-            // Electric particles
-            serverLevel.sendParticles(ParticleTypes.ELECTRIC_SPARK,
-                    slashPos.x, slashPos.y, slashPos.z,
-                    15, 0.3, 0.3, 0.3, 0.1);
-
-            // Trail from player to target
             Vec3 playerPos = user.position().add(0, 1, 0);
-            int particleCount = 10;
-            for (int i = 0; i < particleCount; i++) {
-                double t = i / (double) particleCount;
-                Vec3 particlePos = playerPos.lerp(slashPos, t);
-                serverLevel.sendParticles(ParticleTypes.ELECTRIC_SPARK,
-                        particlePos.x, particlePos.y, particlePos.z,
-                        1, 0, 0, 0, 0);
-            }
+            NichirinVfxRegistry.play(serverLevel, NichirinVfxRegistry.RICE_SPIRIT_SLASH,
+                    slashPos, playerPos.subtract(slashPos), 1.0f);
         }
 
         // Play slash sound
@@ -124,9 +108,8 @@ public class RiceSpiritAttack extends ThunderBreathingAttackBase {
 
         // Visual feedback on the target
         if (world instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(ParticleTypes.ELECTRIC_SPARK,
-                    lockedTarget.getX(), lockedTarget.getY() + 1, lockedTarget.getZ(),
-                    20, 0.5, 0.5, 0.5, 0.1);
+            NichirinVfxRegistry.play(serverLevel, NichirinVfxRegistry.SPARK_HIT,
+                    lockedTarget.position().add(0, 1, 0), 1.0f);
         }
     }
 
@@ -139,7 +122,7 @@ public class RiceSpiritAttack extends ThunderBreathingAttackBase {
                 user.getX() + range, user.getY() + range, user.getZ() + range
         );
 
-        List<LivingEntity> entities = world.getEntitiesOfClass(LivingEntity.class, searchBox,
+        List<LivingEntity> entities = EntityBroadphase.getEntities(world, searchBox,
                 entity -> entity != user && entity.isAlive() && !entity.isSpectator());
 
         if (entities.isEmpty()) {
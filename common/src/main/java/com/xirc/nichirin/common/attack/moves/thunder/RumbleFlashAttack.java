@@ -1,18 +1,18 @@
 package com.xirc.nichirin.common.attack.moves.thunder;
 
-import net.minecraft.core.particles.ParticleTypes;
+import com.xirc.nichirin.common.attack.EntityBroadphase;
+import com.xirc.nichirin.common.attack.core.MoveTimeline;
+import com.xirc.nichirin.common.util.EntityHitSet;
+import com.xirc.nichirin.registry.NichirinVfxRegistry;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
-import net.minecraft.world.entity.EntityType;
-import net.minecraft.world.entity.LightningBolt;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Sixth Form: Rumble and Flash
@@ -20,15 +20,27 @@ import java.util.Set;
  */
 public class RumbleFlashAttack extends ThunderBreathingAttackBase {
 
-    private final Set<LivingEntity> struckTargets = new HashSet<>();
+    private final EntityHitSet struckTargets = new EntityHitSet();
+
+    private static final ThunderMoveDefinition DEFINITION = new ThunderMoveDefinition.Builder()
+            .withTiming(70, 10, 30) // cooldown, windup, duration
+            .withDamage(20.0f)
+            .withRange(25.0f) // Very long range
+            .withKnockback(0.5f)
+            .withBreathCost(30.0f)
+            .withHitStun(40) // 2 second stun
+            .withTimeline(new MoveTimeline.Builder()
+                    .strikeEvery(5, 5, 6) // Strike multiple times during duration
+                    .build())
+            .build();
 
     public RumbleFlashAttack() {
-        withTiming(70, 10, 30) // cooldown, windup, duration
-                .withDamage(20.0f)
-                .withRange(25.0f) // Very long range
-                .withKnockback(0.5f)
-                .withBreathCost(30.0f)
-                .withHitStun(40); // 2 second stun
+        super(DEFINITION);
+    }
+
+    @Override
+    protected void onReset() {
+        struckTargets.clear();
     }
 
     @Override
@@ -41,13 +53,8 @@ public class RumbleFlashAttack extends ThunderBreathingAttackBase {
     }
 
     @Override
-    protected void perform() {
-        if (world.isClientSide) return;
-
-        // Strike multiple times during duration
-        if (tickCount % 5 == 0) {
-            performLightningBarrage();
-        }
+    public void onStrike(int index) {
+        performLightningBarrage();
     }
 
     private void performLightningBarrage() {
@@ -60,11 +67,13 @@ public class RumbleFlashAttack extends ThunderBreathingAttackBase {
                 userPos.x + range, userPos.y + range, userPos.z + range
         );
 
-        List<LivingEntity> targets = world.getEntitiesOfClass(LivingEntity.class, searchArea,
+        List<LivingEntity> targets = EntityBroadphase.getEntities(world, searchArea,
                 entity -> entity != user && entity.isAlive() &&
                         entity.position().distanceTo(userPos) <= range &&
                         !struckTargets.contains(entity));
 
+        List<Vec3> bolts = new ArrayList<>();
+
         // Strike up to 3 targets per barrage
         int strikeCount = Math.min(3, targets.size());
         for (int i = 0; i < strikeCount; i++) {
@@ -75,14 +84,7 @@ public class RumbleFlashAttack extends ThunderBreathingAttackBase {
                 for (int j = 0; j < 3; j++) {
                     double offsetX = (world.random.nextDouble() - 0.5) * 3;
                     double offsetZ = (world.random.nextDouble() - 0.5) * 3;
-                    Vec3 strikePos = target.position().add(offsetX, 0, offsetZ);
-
-                    LightningBolt lightning = EntityType.LIGHTNING_BOLT.create(world);
-                    if (lightning != null) {
-                        lightning.moveTo(strikePos);
-                        lightning.setVisualOnly(true);
-                        serverLevel.addFreshEntity(lightning);
-                    }
+                    bolts.add(target.position().add(offsetX, 0, offsetZ));
                 }
 
                 // Apply damage with extended stun
@@ -93,13 +95,8 @@ public class RumbleFlashAttack extends ThunderBreathingAttackBase {
                 target.push(knockbackDir.x * knockback, 0.3, knockbackDir.z * knockback);
 
                 // Massive particle effects
-                serverLevel.sendParticles(ParticleTypes.ELECTRIC_SPARK,
-                        target.getX(), target.getY() + 1, target.getZ(),
-                        50, 1.0, 1.0, 1.0, 0.3);
-
-                serverLevel.sendParticles(ParticleTypes.END_ROD,
-                        target.getX(), target.getY() + target.getBbHeight(), target.getZ(),
-                        30, 0.5, 0.5, 0.5, 0.2);
+                NichirinVfxRegistry.play(serverLevel, NichirinVfxRegistry.RUMBLE_IMPACT,
+                        target.position(), target.getBbHeight());
 
                 // Thunder sounds
                 world.playSound(null, target.getX(), target.getY(), target.getZ(),
@@ -119,13 +116,11 @@ public class RumbleFlashAttack extends ThunderBreathingAttackBase {
                     Math.sin(angle) * distance
             );
 
-            LightningBolt lightning = EntityType.LIGHTNING_BOLT.create(world);
-            if (lightning != null) {
-                lightning.moveTo(envStrike);
-                lightning.setVisualOnly(true);
-                serverLevel.addFreshEntity(lightning);
-            }
+            bolts.add(envStrike);
         }
+
+        // All bolts of the barrage go out as one visual strike, drawn by clients
+        NichirinVfxRegistry.strikeBolts(serverLevel, bolts);
     }
 
     @Override
@@ -1,6 +1,9 @@
 package com.xirc.nichirin.common.attack.moves.thunder;
 
+import com.xirc.nichirin.common.attack.component.IPooledMove;
+import com.xirc.nichirin.common.attack.core.MoveTimeline;
 import com.xirc.nichirin.common.util.BreathingManager;
+import com.xirc.nichirin.common.util.HitVolume;
 import com.xirc.nichirin.registry.NichirinEffectRegistry;
 import lombok.Getter;
 import net.minecraft.network.chat.Component;
@@ -9,7 +12,6 @@ import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
 import java.util.List;
@@ -18,30 +20,69 @@ import java.util.List;
  * Base class for Thunder Breathing attacks
  * Simplified to avoid the IBreathingAttacker constraint
  */
-public abstract class ThunderBreathingAttackBase {
+public abstract class ThunderBreathingAttackBase implements IPooledMove, MoveTimeline.Handler {
 
-    // Configuration
-    protected float damage = 10.0f;
-    protected float range = 5.0f;
-    protected float knockback = 0.3f;
-    protected float breathCost = 15.0f;
-    protected int hitStun = 20; // 1 second
-    protected float hitboxSize = 2.0f; // Size 2 hitbox as specified
+    // Configuration, copied once from the shared definition
+    @Getter
+    protected final ThunderMoveDefinition definition;
+    protected final float damage;
+    protected final float range;
+    protected final float knockback;
+    protected final float breathCost;
+    protected final int hitStun;
+    protected final float hitboxSize;
 
     // Timing
     @Getter
-    protected int cooldown = 40;
-    protected int windup = 5;
-    protected int duration = 20;
+    protected final int cooldown;
+    protected final int windup;
+    protected final int duration;
+    protected final MoveTimeline timeline;
 
-    // Getters
     // State
     @Getter
     protected boolean isActive = false;
     protected int tickCount = 0;
+    protected long startTick = 0; // Game time the attack started at
+    private int timelineTick = 0; // Last timeline tick that was run
     protected Player user;
     protected Level world;
 
+    protected ThunderBreathingAttackBase(ThunderMoveDefinition definition) {
+        this.definition = definition;
+        this.damage = definition.getDamage();
+        this.range = definition.getRange();
+        this.knockback = definition.getKnockback();
+        this.breathCost = definition.getBreathCost();
+        this.hitStun = definition.getHitStun();
+        this.hitboxSize = definition.getHitboxSize();
+        this.cooldown = definition.getCooldown();
+        this.windup = definition.getWindup();
+        this.duration = definition.getDuration();
+        this.timeline = definition.getTimeline();
+    }
+
+    /**
+     * Clears cast state so the instance can be reused from the pool
+     */
+    @Override
+    public void reset() {
+        isActive = false;
+        tickCount = 0;
+        startTick = 0;
+        timelineTick = 0;
+        user = null;
+        world = null;
+        onReset();
+    }
+
+    /**
+     * Clears subclass cast state (override to drop entity references)
+     */
+    protected void onReset() {
+        // Override if needed
+    }
+
     /**
      * Start the attack
      */
@@ -49,6 +90,8 @@ public abstract class ThunderBreathingAttackBase {
         this.user = user;
         this.world = world;
         this.tickCount = 0;
+        this.startTick = world.getGameTime();
+        this.timelineTick = 0;
 
         // Check breath cost BEFORE marking as active
         if (!BreathingManager.consume(user, breathCost)) {
@@ -66,17 +109,54 @@ public abstract class ThunderBreathingAttackBase {
         onStart();
     }
 
+    @Override
+    public void start(Player user) {
+        start(user, user.level());
+    }
+
+    @Override
+    public void tick(Player player) {
+        tick();
+    }
+
+    /**
+     * Ticks until the attack next needs to run - the end of windup, the subclass's
+     * next action, or the end of the attack, whichever comes first
+     */
+    @Override
+    public int ticksUntilWake() {
+        int next = Math.min(Math.max(nextActionTick(), windup + 1), windup + duration);
+        return Math.max(1, next - tickCount);
+    }
+
     /**
-     * Tick the attack
+     * Attack tick at which the attack next has something to do.
+     * Read from the timeline if there is one, otherwise every tick.
+     */
+    protected int nextActionTick() {
+        if (timeline != null) {
+            int next = timeline.nextEventTick(tickCount - windup);
+            return next == Integer.MAX_VALUE ? next : windup + next;
+        }
+        return tickCount + 1;
+    }
+
+    /**
+     * Tick the attack (may skip ticks, see {@link #ticksUntilWake()})
      */
     public void tick() {
         if (!isActive || user == null || world == null) return;
 
-        tickCount++;
+        // Derived from game time so skipped ticks are accounted for
+        tickCount = (int) (world.getGameTime() - startTick);
 
         // Check if we're past windup
         if (tickCount > windup) {
-            perform();
+            if (timeline != null) {
+                runTimeline();
+            } else {
+                perform();
+            }
         }
 
         // Check if attack is complete
@@ -85,9 +165,24 @@ public abstract class ThunderBreathingAttackBase {
         }
     }
 
+    /**
+     * Runs the timeline events up to the current tick (server side only)
+     */
+    private void runTimeline() {
+        if (world.isClientSide) return;
+
+        int now = tickCount - windup;
+        if (now > timelineTick) {
+            int from = timelineTick;
+            timelineTick = now;
+            timeline.run(from, now, user, this);
+        }
+    }
+
     /**
      * Stop the attack
      */
+    @Override
     public void stop() {
         isActive = false;
         onStop();
@@ -157,13 +252,9 @@ public abstract class ThunderBreathingAttackBase {
      * Get entities in a hitbox
      */
     protected List<LivingEntity> getTargetsInHitbox(Vec3 center) {
-        AABB hitbox = new AABB(
-                center.x - hitboxSize/2, center.y - hitboxSize/2, center.z - hitboxSize/2,
-                center.x + hitboxSize/2, center.y + hitboxSize/2, center.z + hitboxSize/2
-        );
-
-        return world.getEntitiesOfClass(LivingEntity.class, hitbox,
-                entity -> entity != user && entity.isAlive());
+        // Targets are rewound to where the user saw them
+        HitVolume hitbox = HitVolume.box(center, HitVolume.Basis.WORLD, hitboxSize/2, hitboxSize/2, hitboxSize/2);
+        return hitbox.getEntitiesSeenBy(user);
     }
 
     /**
@@ -172,9 +263,11 @@ public abstract class ThunderBreathingAttackBase {
     protected abstract void onStart();
 
     /**
-     * Called every tick during the attack
+     * Called on every tick after windup for attacks without a timeline
      */
-    protected abstract void perform();
+    protected void perform() {
+        // Override if the definition has no timeline
+    }
 
     /**
      * Called when attack ends
@@ -183,43 +276,5 @@ public abstract class ThunderBreathingAttackBase {
         // Override if needed
     }
 
-    // Builder-style configuration methods
-    public ThunderBreathingAttackBase withDamage(float damage) {
-        this.damage = damage;
-        return this;
-    }
-
-    public ThunderBreathingAttackBase withRange(float range) {
-        this.range = range;
-        return this;
-    }
-
-    public ThunderBreathingAttackBase withBreathCost(float cost) {
-        this.breathCost = cost;
-        return this;
-    }
-
-    public ThunderBreathingAttackBase withTiming(int cooldown, int windup, int duration) {
-        this.cooldown = cooldown;
-        this.windup = windup;
-        this.duration = duration;
-        return this;
-    }
-
-    public ThunderBreathingAttackBase withKnockback(float knockback) {
-        this.knockback = knockback;
-        return this;
-    }
-
-    public ThunderBreathingAttackBase withHitStun(int stun) {
-        this.hitStun = stun;
-        return this;
-    }
-
-    public ThunderBreathingAttackBase withHitboxSize(float size) {
-        this.hitboxSize = size;
-        return this;
-    }
-
     public int getTotalDuration() { return windup + duration; }
 }
\ No newline at end of file
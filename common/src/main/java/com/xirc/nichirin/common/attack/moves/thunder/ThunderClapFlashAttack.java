@@ -1,6 +1,8 @@
 package com.xirc.nichirin.common.attack.moves.thunder;
 
+import com.xirc.nichirin.common.attack.core.MoveTimeline;
 import com.xirc.nichirin.common.network.CooldownDisplayPacket;
+import com.xirc.nichirin.common.system.NichirinPlayerState;
 import com.xirc.nichirin.common.util.TeleportUtil;
 import net.minecraft.commands.arguments.EntityAnchorArgument;
 import net.minecraft.core.particles.ParticleTypes;
@@ -9,10 +11,6 @@ import net.minecraft.sounds.SoundEvents;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * First Form: Thunderclap and Flash
  * Instant teleport dash that hits all enemies in path
@@ -22,28 +20,33 @@ public class ThunderClapFlashAttack extends ThunderBreathingAttackBase {
     // Store the starting position to look back at
     private Vec3 startPosition = null;
 
-    // Static map to track crouch state for each player
-    private static final Map<UUID, Boolean> CROUCH_DASH_MAP = new HashMap<>();
+    private static final ThunderMoveDefinition DEFINITION = new ThunderMoveDefinition.Builder()
+            .withTiming(30, 1, 15) // cooldown, windup, duration
+            .withDamage(15.0f)
+            .withRange(15.0f) // 15 block dash
+            .withKnockback(0.1f)
+            .withBreathCost(20.0f)
+            .withHitStun(20) // 1 second stun
+            .withTimeline(new MoveTimeline.Builder()
+                    .strikeAt(1) // The dash happens once, right after windup
+                    .build())
+            .build();
 
     public ThunderClapFlashAttack() {
-        // Configure the attack
-        withTiming(30, 1, 15) // cooldown, windup, duration
-                .withDamage(15.0f)
-                .withRange(15.0f) // 15 block dash
-                .withKnockback(0.1f)
-                .withBreathCost(20.0f)
-                .withHitStun(20); // 1 second stun
+        super(DEFINITION);
     }
 
     /**
      * Static method to set whether this attack should turn backwards
      */
     public static void setCrouchDash(Player player, boolean crouchDash) {
-        if (crouchDash) {
-            CROUCH_DASH_MAP.put(player.getUUID(), true);
-        } else {
-            CROUCH_DASH_MAP.remove(player.getUUID());
-        }
+        // Stored on the player since the attack instance is created after this is set
+        NichirinPlayerState.of(player).setCrouchDash(crouchDash);
+    }
+
+    @Override
+    protected void onReset() {
+        startPosition = null;
     }
 
     @Override
@@ -58,30 +61,25 @@ public class ThunderClapFlashAttack extends ThunderBreathingAttackBase {
     }
 
     @Override
-    protected void perform() {
-        if (world.isClientSide) return;
-
-        // Only execute once (on first perform tick)
-        if (tickCount == windup + 1) {
-            executeTeleportDash();
-
-            // Check if we should turn backwards IMMEDIATELY after the dash
-            Boolean shouldTurnBackwards = CROUCH_DASH_MAP.get(user.getUUID());
-
-            if (shouldTurnBackwards != null && shouldTurnBackwards && startPosition != null) {
-                // Make the player look back at their starting position RIGHT NOW
-                user.lookAt(EntityAnchorArgument.Anchor.EYES, startPosition);
-
-                // Force sync to client for immediate rotation
-                if (user instanceof ServerPlayer serverPlayer) {
-                    // Get the new rotation values after lookAt
-                    float newYaw = user.getYRot();
-                    float newPitch = user.getXRot();
-
-                    // Send position update with new rotation
-                    serverPlayer.connection.teleport(user.getX(), user.getY(), user.getZ(),
-                            newYaw, newPitch);
-                }
+    public void onStrike(int index) {
+        executeTeleportDash();
+
+        // Check if we should turn backwards IMMEDIATELY after the dash
+        boolean shouldTurnBackwards = NichirinPlayerState.of(user).isCrouchDash();
+
+        if (shouldTurnBackwards && startPosition != null) {
+            // Make the player look back at their starting position RIGHT NOW
+            user.lookAt(EntityAnchorArgument.Anchor.EYES, startPosition);
+
+            // Force sync to client for immediate rotation
+            if (user instanceof ServerPlayer serverPlayer) {
+                // Get the new rotation values after lookAt
+                float newYaw = user.getYRot();
+                float newPitch = user.getXRot();
+
+                // Send position update with new rotation
+                serverPlayer.connection.teleport(user.getX(), user.getY(), user.getZ(),
+                        newYaw, newPitch);
             }
         }
     }
@@ -108,7 +106,7 @@ public class ThunderClapFlashAttack extends ThunderBreathingAttackBase {
 
     @Override
     protected void onStop() {
-        // Always clean up the map entry
-        CROUCH_DASH_MAP.remove(user.getUUID());
+        // Always reset the crouch flag
+        NichirinPlayerState.of(user).setCrouchDash(false);
     }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.xirc.nichirin.common.attack.moves.thunder;
+
+import com.xirc.nichirin.common.attack.core.MoveTimeline;
+import lombok.Getter;
+
+/**
+ * Immutable configuration of a Thunder Breathing form, shared by every cast of it.
+ * Per-cast state lives on the (pooled) attack instance.
+ */
+@Getter
+public final class ThunderMoveDefinition {
+
+    private final float damage;
+    private final float range;
+    private final float knockback;
+    private final float breathCost;
+    private final int hitStun;
+    private final float hitboxSize;
+    private final int cooldown;
+    private final int windup;
+    private final int duration;
+    private final MoveTimeline timeline; // null = the attack ticks perform() itself
+
+    private ThunderMoveDefinition(Builder builder) {
+        this.damage = builder.damage;
+        this.range = builder.range;
+        this.knockback = builder.knockback;
+        this.breathCost = builder.breathCost;
+        this.hitStun = builder.hitStun;
+        this.hitboxSize = builder.hitboxSize;
+        this.cooldown = builder.cooldown;
+        this.windup = builder.windup;
+        this.duration = builder.duration;
+        this.timeline = builder.timeline;
+    }
+
+    /**
+     * Builder for definitions (defaults match the old attack defaults)
+     */
+    public static class Builder {
+        private float damage = 10.0f;
+        private float range = 5.0f;
+        private float knockback = 0.3f;
+        private float breathCost = 15.0f;
+        private int hitStun = 20; // 1 second
+        private float hitboxSize = 2.0f; // Size 2 hitbox as specified
+        private int cooldown = 40;
+        private int windup = 5;
+        private int duration = 20;
+        private MoveTimeline timeline = null;
+
+        public Builder withDamage(float damage) {
+            this.damage = damage;
+            return this;
+        }
+
+        public Builder withRange(float range) {
+            this.range = range;
+            return this;
+        }
+
+        public Builder withBreathCost(float cost) {
+            this.breathCost = cost;
+            return this;
+        }
+
+        public Builder withTiming(int cooldown, int windup, int duration) {
+            this.cooldown = cooldown;
+            this.windup = windup;
+            this.duration = duration;
+            return this;
+        }
+
+        public Builder withKnockback(float knockback) {
+            this.knockback = knockback;
+            return this;
+        }
+
+        public Builder withHitStun(int stun) {
+            this.hitStun = stun;
+            return this;
+        }
+
+        public Builder withHitboxSize(float size) {
+            this.hitboxSize = size;
+            return this;
+        }
+
+        public Builder withTimeline(MoveTimeline timeline) {
+            this.timeline = timeline;
+            return this;
+        }
+
+        public ThunderMoveDefinition build() {
+            return new ThunderMoveDefinition(this);
+        }
+    }
+}
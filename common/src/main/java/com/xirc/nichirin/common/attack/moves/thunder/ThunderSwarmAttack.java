@@ -1,16 +1,16 @@
 package com.xirc.nichirin.common.attack.moves.thunder;
 
-import net.minecraft.core.particles.ParticleTypes;
+import com.xirc.nichirin.common.attack.core.MoveTimeline;
+import com.xirc.nichirin.common.util.EntityHitSet;
+import com.xirc.nichirin.registry.NichirinVfxRegistry;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
-import java.util.Set;
 
 /**
  * Third Form: Thunder Swarm
@@ -18,26 +18,33 @@ import java.util.Set;
  */
 public class ThunderSwarmAttack extends ThunderBreathingAttackBase {
 
-    private int slashCount = 0;
-    private int slashTimer = 0;
-    private final Set<LivingEntity> hitEntities = new HashSet<>();
+    private final EntityHitSet hitEntities = new EntityHitSet();
     private final Random random = new Random();
 
+    private static final ThunderMoveDefinition DEFINITION = new ThunderMoveDefinition.Builder()
+            .withTiming(50, 10, 40) // cooldown, windup, duration
+            .withDamage(10.0f)
+            .withRange(8.0f) // Large area around player
+            .withKnockback(0.2f)
+            .withBreathCost(25.0f)
+            .withHitStun(20)
+            .withHitboxSize(3.0f) // Size 3 hitbox as specified
+            .withTimeline(new MoveTimeline.Builder()
+                    .strikeEvery(6, 6, 6) // 6 slashes, one every 6 ticks
+                    .build())
+            .build();
+
     public ThunderSwarmAttack() {
-        withTiming(50, 10, 40) // cooldown, windup, duration
-                .withDamage(10.0f)
-                .withRange(8.0f) // Large area around player
-                .withKnockback(0.2f)
-                .withBreathCost(25.0f)
-                .withHitStun(20)
-                .withHitboxSize(3.0f); // Size 3 hitbox as specified
+        super(DEFINITION);
+    }
+
+    @Override
+    protected void onReset() {
+        hitEntities.clear();
     }
 
     @Override
     protected void onStart() {
-        // Reset counters
-        slashCount = 0;
-        slashTimer = 0;
         hitEntities.clear();
 
         // Thunder sounds
@@ -46,17 +53,9 @@ public class ThunderSwarmAttack extends ThunderBreathingAttackBase {
     }
 
     @Override
-    protected void perform() {
-        if (world.isClientSide) return;
-
+    public void onStrike(int index) {
         // Player can move during this attack
-        // Execute slashes over time
-        slashTimer++;
-
-        if (slashTimer % 6 == 0 && slashCount < 6) {
-            performLargeSlash();
-            slashCount++;
-        }
+        performLargeSlash();
     }
 
     private void performLargeSlash() {
@@ -71,31 +70,9 @@ public class ThunderSwarmAttack extends ThunderBreathingAttackBase {
                 Math.sin(radian) * distance
         );
 
-        // Create large visual effect
+        // Create large visual effect (sweeps, spark swarm and a bolt of end rods, drawn by clients)
         if (world instanceof ServerLevel serverLevel) {
-            // Multiple sweep attacks for larger visual
-            for (int i = 0; i < 3; i++) {
-                Vec3 offset = new Vec3(
-                        (random.nextFloat() - 0.5) * 2,
-                        (random.nextFloat() - 0.5) * 2,
-                        (random.nextFloat() - 0.5) * 2
-                );
-                Vec3 particlePos = slashCenter.add(offset);
-
-                serverLevel.sendParticles(ParticleTypes.SWEEP_ATTACK,
-                        particlePos.x, particlePos.y, particlePos.z,
-                        1, 0, 0, 0, 0);
-            }
-
-            // Lots of electric particles for swarm effect
-            serverLevel.sendParticles(ParticleTypes.ELECTRIC_SPARK,
-                    slashCenter.x, slashCenter.y, slashCenter.z,
-                    30, 1.0, 1.0, 1.0, 0.2);
-
-            // Lightning bolt particle effect
-            serverLevel.sendParticles(ParticleTypes.END_ROD,
-                    slashCenter.x, slashCenter.y + 3, slashCenter.z,
-                    5, 0.1, 2.0, 0.1, 0.1);
+            NichirinVfxRegistry.play(serverLevel, NichirinVfxRegistry.THUNDER_SWARM_SLASH, slashCenter, 1.0f);
         }
 
         // Thunder sound for each slash
@@ -113,9 +90,8 @@ public class ThunderSwarmAttack extends ThunderBreathingAttackBase {
 
                 // Extra particles on hit
                 if (world instanceof ServerLevel serverLevel) {
-                    serverLevel.sendParticles(ParticleTypes.ELECTRIC_SPARK,
-                            target.getX(), target.getY() + 1, target.getZ(),
-                            15, 0.5, 0.5, 0.5, 0.1);
+                    NichirinVfxRegistry.play(serverLevel, NichirinVfxRegistry.SPARK_HIT,
+                            target.position().add(0, 1, 0), 0.75f);
                 }
             }
         }
@@ -2,30 +2,20 @@ package com.xirc.nichirin.common.attack.moveset;
 
 import com.xirc.nichirin.common.attack.MoveExecutor;
 import com.xirc.nichirin.common.attack.moves.thunder.*;
+import com.xirc.nichirin.common.system.NichirinPlayerState;
+import com.xirc.nichirin.common.system.PlayerStateSync;
 import com.xirc.nichirin.common.util.BreathingManager;
-import dev.architectury.networking.NetworkManager;
-import io.netty.buffer.Unpooled;
-import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
-import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * Thunder Breathing moveset implementation
  * All 7 forms of Thunder Breathing
  */
 public class ThunderBreathingMoveset extends AbstractMoveset {
 
-    // Track cooldowns per player per move
-    private static final Map<UUID, Map<Integer, Long>> playerCooldowns = new HashMap<>();
-
-    // Track active attacks to prevent breath consumption on failed attempts
-    private static final Map<UUID, Boolean> executingMove = new HashMap<>();
+    // Cooldowns and the executing-move flag are stored on the player (NichirinPlayerState)
 
     public ThunderBreathingMoveset() {
         super("thunder_breathing", "Thunder Breathing", createBuilder());
@@ -43,7 +33,7 @@ public class ThunderBreathingMoveset extends AbstractMoveset {
                         .withStats(8.0f, 15.0f, 30) // 30 tick cooldown (1.5 seconds)
                         .withBreathCost(20.0f)
                         .withAction(player -> {
-                            ThunderClapFlashAttack attack = new ThunderClapFlashAttack();
+                            ThunderClapFlashAttack attack = MoveExecutor.obtain(player, ThunderClapFlashAttack.class, ThunderClapFlashAttack::new);
                             MoveExecutor.executeAttack(player, attack, "thunder_breathing", "thunderclap_flash");
                         })
                 )
@@ -55,7 +45,7 @@ public class ThunderBreathingMoveset extends AbstractMoveset {
                         .withStats(8.0f, 5.0f, 40)
                         .withBreathCost(25.0f)
                         .withAction(player -> {
-                            RiceSpiritAttack attack = new RiceSpiritAttack();
+                            RiceSpiritAttack attack = MoveExecutor.obtain(player, RiceSpiritAttack.class, RiceSpiritAttack::new);
                             MoveExecutor.executeAttack(player, attack, "thunder_breathing", "rice_spirit");
                         })
                 )
@@ -67,7 +57,7 @@ public class ThunderBreathingMoveset extends AbstractMoveset {
                         .withStats(10.0f, 8.0f, 50)
                         .withBreathCost(30.0f)
                         .withAction(player -> {
-                            ThunderSwarmAttack attack = new ThunderSwarmAttack();
+                            ThunderSwarmAttack attack = MoveExecutor.obtain(player, ThunderSwarmAttack.class, ThunderSwarmAttack::new);
                             MoveExecutor.executeAttack(player, attack, "thunder_breathing", "thunder_swarm");
                         })
                 )
@@ -79,7 +69,7 @@ public class ThunderBreathingMoveset extends AbstractMoveset {
                         .withStats(8.0f, 20.0f, 80)
                         .withBreathCost(25.0f)
                         .withAction(player -> {
-                            DistantThunderAttack attack = new DistantThunderAttack();
+                            DistantThunderAttack attack = MoveExecutor.obtain(player, DistantThunderAttack.class, DistantThunderAttack::new);
                             MoveExecutor.executeAttack(player, attack, "thunder_breathing", "distant_thunder");
                         })
                 )
@@ -91,7 +81,7 @@ public class ThunderBreathingMoveset extends AbstractMoveset {
                         .withStats(14.0f, 12.0f, 60)
                         .withBreathCost(25.0f)
                         .withAction(player -> {
-                            HeatLightningAttack attack = new HeatLightningAttack();
+                            HeatLightningAttack attack = MoveExecutor.obtain(player, HeatLightningAttack.class, HeatLightningAttack::new);
                             MoveExecutor.executeAttack(player, attack, "thunder_breathing", "heat_lightning");
                         })
                 )
@@ -103,7 +93,7 @@ public class ThunderBreathingMoveset extends AbstractMoveset {
                         .withStats(16.0f, 25.0f, 70)
                         .withBreathCost(35.0f)
                         .withAction(player -> {
-                            RumbleFlashAttack attack = new RumbleFlashAttack();
+                            RumbleFlashAttack attack = MoveExecutor.obtain(player, RumbleFlashAttack.class, RumbleFlashAttack::new);
                             MoveExecutor.executeAttack(player, attack, "thunder_breathing", "rumble_flash");
                         })
                 )
@@ -115,7 +105,7 @@ public class ThunderBreathingMoveset extends AbstractMoveset {
                         .withStats(50.0f, 30.0f, 300) // 15 second cooldown
                         .withBreathCost(50.0f)
                         .withAction(player -> {
-                            HonoikazuchiNoKamiAttack attack = new HonoikazuchiNoKamiAttack();
+                            HonoikazuchiNoKamiAttack attack = MoveExecutor.obtain(player, HonoikazuchiNoKamiAttack.class, HonoikazuchiNoKamiAttack::new);
                             MoveExecutor.executeAttack(player, attack, "thunder_breathing", "honoikazuchi_no_kami");
                         })
                 );
@@ -140,18 +130,13 @@ public class ThunderBreathingMoveset extends AbstractMoveset {
             // Show cooldown message
             MoveConfiguration config = getMove(moveIndex);
             if (config != null) {
-                Map<Integer, Long> cooldowns = playerCooldowns.get(player.getUUID());
-                if (cooldowns != null) {
-                    Long cooldownEnd = cooldowns.get(moveIndex);
-                    if (cooldownEnd != null) {
-                        long remaining = (cooldownEnd - player.level().getGameTime()) / 20;
-                        player.displayClientMessage(
-                                Component.literal(config.getDisplayName() + " on cooldown! " + remaining + "s remaining")
-                                        .withStyle(style -> style.withColor(0xFFFF00)),
-                                true
-                        );
-                    }
-                }
+                long cooldownEnd = NichirinPlayerState.of(player).getMoveCooldown(moveIndex);
+                long remaining = (cooldownEnd - player.level().getGameTime()) / 20;
+                player.displayClientMessage(
+                        Component.literal(config.getDisplayName() + " on cooldown! " + remaining + "s remaining")
+                                .withStyle(style -> style.withColor(0xFFFF00)),
+                        true
+                );
             }
             return;
         }
@@ -173,14 +158,15 @@ public class ThunderBreathingMoveset extends AbstractMoveset {
         }
 
         // Mark that we're executing a move
-        executingMove.put(player.getUUID(), true);
+        NichirinPlayerState state = NichirinPlayerState.of(player);
+        state.setExecutingMove(true);
 
         // Execute the move
         super.performMove(player, moveIndex);
 
         // Check if move actually executed by seeing if breath was consumed
-        boolean moveExecuted = !executingMove.getOrDefault(player.getUUID(), false);
-        executingMove.remove(player.getUUID());
+        boolean moveExecuted = !state.isExecutingMove();
+        state.setExecutingMove(false);
 
         if (moveExecuted && config != null) {
             // Set cooldown after successful execution
@@ -190,11 +176,7 @@ public class ThunderBreathingMoveset extends AbstractMoveset {
             // Skip cooldown display for Thunder Clap Flash (index 0)
             if (!player.level().isClientSide && player instanceof ServerPlayer serverPlayer
                     && config.getCooldown() > 0 && moveIndex != 0) {  // Added moveIndex != 0 check
-                FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
-                buf.writeUtf(config.getDisplayName());
-                buf.writeInt(config.getCooldown());
-
-                NetworkManager.sendToPlayer(serverPlayer, new ResourceLocation("nichirin", "cooldown_display"), buf);
+                PlayerStateSync.queueCooldown(serverPlayer, config.getDisplayName(), config.getCooldown());
             }
         }
     }
@@ -208,16 +190,8 @@ public class ThunderBreathingMoveset extends AbstractMoveset {
             return true; // No cooldown
         }
 
-        Map<Integer, Long> cooldowns = playerCooldowns.get(player.getUUID());
-        if (cooldowns == null) {
-            return true; // No cooldowns tracked yet
-        }
-
-        Long cooldownEnd = cooldowns.get(moveIndex);
-        if (cooldownEnd == null) {
-            return true; // Move never used
-        }
-
+        // Never-used moves have a cooldown end of Long.MIN_VALUE
+        long cooldownEnd = NichirinPlayerState.of(player).getMoveCooldown(moveIndex);
         long currentTime = player.level().getGameTime();
         return currentTime >= cooldownEnd;
     }
@@ -232,8 +206,7 @@ public class ThunderBreathingMoveset extends AbstractMoveset {
         }
 
         long cooldownEnd = player.level().getGameTime() + config.getCooldown();
-        playerCooldowns.computeIfAbsent(player.getUUID(), k -> new HashMap<>())
-                .put(moveIndex, cooldownEnd);
+        NichirinPlayerState.of(player).setMoveCooldown(moveIndex, cooldownEnd);
     }
 
     @Override
@@ -260,10 +233,11 @@ public class ThunderBreathingMoveset extends AbstractMoveset {
     }
 
     /**
-     * Called when a player logs out - clean up their data
+     * Clears a player's move cooldowns
      */
     public static void cleanupPlayer(Player player) {
-        playerCooldowns.remove(player.getUUID());
-        executingMove.remove(player.getUUID());
+        NichirinPlayerState state = NichirinPlayerState.of(player);
+        state.clearMoveCooldowns();
+        state.setExecutingMove(false);
     }
 }
\ No newline at end of file
@@ -1,30 +1,27 @@
 package com.xirc.nichirin.common.data;
 
+import com.xirc.nichirin.common.system.NichirinPlayerState;
 import dev.architectury.event.events.common.EntityEvent;
 import dev.architectury.event.events.common.PlayerEvent;
 import dev.architectury.event.events.common.TickEvent;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * Provides and manages breathing style data for players
  * Uses Architectury events for cross-platform compatibility
  */
 public class PlayerDataProvider {
 
-    private static final Map<UUID, BreathingStyleData> PLAYER_DATA = new HashMap<>();
     private static final String PERSISTENT_TAG_KEY = "NichirinBreathingStyle";
 
     /**
-     * Gets or creates breathing style data for a player
+     * Gets the breathing style data stored on the player
      */
     public static BreathingStyleData getData(Player player) {
-        return PLAYER_DATA.computeIfAbsent(player.getUUID(), k -> new BreathingStyleData());
+        return NichirinPlayerState.of(player).getStyleData();
     }
 
     /**
@@ -48,8 +45,6 @@ public class PlayerDataProvider {
             if (player instanceof ServerPlayer) {
                 ServerPlayer serverPlayer = (ServerPlayer) player;
                 savePlayerData(serverPlayer);
-                // Clean up memory
-                PLAYER_DATA.remove(player.getUUID());
             }
         });
 
@@ -62,22 +57,17 @@ public class PlayerDataProvider {
             }
         });
 
-        // Handle player clone (dimension change)
+        // Handle player clone - the data itself is copied by NichirinPlayerState
         PlayerEvent.PLAYER_CLONE.register((oldPlayer, newPlayer, wasDeath) -> {
-            if (wasDeath) {
-                // Copy data from old player to new player
-                BreathingStyleData oldData = getData(oldPlayer);
-                BreathingStyleData newData = getData(newPlayer);
-                newData.copyFrom(oldData);
-
+            if (wasDeath && newPlayer instanceof ServerPlayer serverPlayer) {
                 // Save to persistent data
-                if (newPlayer instanceof ServerPlayer) {
-                    ServerPlayer serverPlayer = (ServerPlayer) newPlayer;
-                    savePlayerData(serverPlayer);
-                }
+                savePlayerData(serverPlayer);
             }
         });
 
+        // The client gets a new player object on dimension change
+        PlayerEvent.CHANGE_DIMENSION.register((player, oldLevel, newLevel) -> syncToClient(player));
+
         // Save data periodically for safety using server tick
         TickEvent.SERVER_POST.register((server) -> {
             if (server.getTickCount() % 1200 == 0) { // Every minute
@@ -97,11 +87,16 @@ public class PlayerDataProvider {
     }
 
     public static void clearData(Player player) {
-        PLAYER_DATA.remove(player.getUUID());
+        getData(player).clearMoveset();
     }
 
-    public static void clearAll() {
-        PLAYER_DATA.clear();
+    /**
+     * Clears the data of every online player (call from the server thread)
+     */
+    public static void clearAll(MinecraftServer server) {
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            clearData(player);
+        }
     }
 
     /**
@@ -122,11 +117,4 @@ public class PlayerDataProvider {
         savePlayerData(player);
         syncToClient(player);
     }
-
-    /**
-     * Clears all cached data (for mod reload/testing)
-     */
-    public static void clearCache() {
-        PLAYER_DATA.clear();
-    }
 }
\ No newline at end of file
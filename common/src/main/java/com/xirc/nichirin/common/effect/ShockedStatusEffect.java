@@ -1,11 +1,13 @@
 package com.xirc.nichirin.common.effect;
 
-import com.xirc.nichirin.registry.NichirinParticleRegistry;
-import net.minecraft.server.level.ServerLevel;
+import com.xirc.nichirin.common.network.ShockedStatusPacket;
+import com.xirc.nichirin.registry.NichirinPacketRegistry;
 import net.minecraft.world.effect.MobEffect;
 import net.minecraft.world.effect.MobEffectCategory;
+import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.attributes.AttributeMap;
 import net.minecraft.world.entity.ai.attributes.AttributeModifier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.entity.player.Player;
@@ -15,13 +17,17 @@ import java.util.UUID;
 
 /**
  * Shocked Status Effect - Applied by Thunder Breathing techniques
- * Immobilizes enemies with a 75% movement speed reduction and prevents most actions
+ * Immobilizes enemies with a 75% movement speed reduction and prevents most actions.
+ * The crackle around shocked entities is drawn by clients from a synced status, see ShockedStatusEmitter.
  */
 public class ShockedStatusEffect extends MobEffect {
 
     // UUID for the movement speed modifier
     private static final UUID MOVEMENT_MODIFIER_UUID = UUID.fromString("7107DE5E-7CE8-4030-940E-514C1F160890");
 
+    // Ticks between status refreshes sent to tracking clients
+    private static final int RESYNC_INTERVAL = 40;
+
     public ShockedStatusEffect() {
         super(MobEffectCategory.HARMFUL, 0xFFFF00); // Yellow color for thunder
 
@@ -36,7 +42,7 @@ public class ShockedStatusEffect extends MobEffect {
 
     @Override
     public boolean isDurationEffectTick(int duration, int amplifier) {
-        // Apply effect every tick for continuous particles and movement restriction
+        // Apply effect every tick for continuous movement restriction
         return true;
     }
 
@@ -64,74 +70,39 @@ public class ShockedStatusEffect extends MobEffect {
             mob.setAggressive(false);
         }
 
-        // Spawn thunder particles around the entity
-        if (!entity.level().isClientSide() && entity.level() instanceof ServerLevel serverLevel) {
-            spawnThunderParticles(serverLevel, entity);
+        // Refresh the status for players who started tracking the entity after it was shocked
+        if (!entity.level().isClientSide() && entity.tickCount % RESYNC_INTERVAL == 0) {
+            syncStatus(entity);
         }
     }
 
-    private void spawnThunderParticles(ServerLevel level, LivingEntity entity) {
-        // Spawn particles every 2 ticks to avoid overwhelming
-        if (entity.tickCount % 2 == 0) {
-            double entityHeight = entity.getBbHeight();
-            double entityWidth = entity.getBbWidth();
-
-            // Spawn 3-5 particles at random positions around the entity
-            int particleCount = 1 + level.random.nextInt(3);
-
-            for (int i = 0; i < particleCount; i++) {
-                // Random position around the entity
-                double offsetX = (level.random.nextDouble() - 0.5) * entityWidth * 1.5;
-                double offsetY = level.random.nextDouble() * entityHeight;
-                double offsetZ = (level.random.nextDouble() - 0.5) * entityWidth * 1.5;
-
-                level.sendParticles(
-                        NichirinParticleRegistry.THUNDER.get(),
-                        entity.getX() + offsetX,
-                        entity.getY() + offsetY,
-                        entity.getZ() + offsetZ,
-                        1, // count
-                        0.0, // xSpeed
-                        0.0, // ySpeed
-                        0.0, // zSpeed
-                        0.0  // speed
-                );
-            }
-
-            // Occasionally spawn a larger burst
-            if (entity.tickCount % 10 == 0) {
-                level.sendParticles(
-                        NichirinParticleRegistry.THUNDER.get(),
-                        entity.getX(),
-                        entity.getY() + entityHeight / 2,
-                        entity.getZ(),
-                        1, // count
-                        entityWidth * 0.5, // xOffset
-                        entityHeight * 0.5, // yOffset
-                        entityWidth * 0.5, // zOffset
-                        0.001 // speed
-                );
-            }
+    @Override
+    public void addAttributeModifiers(LivingEntity entity, AttributeMap attributeMap, int amplifier) {
+        super.addAttributeModifiers(entity, attributeMap, amplifier);
+
+        // Tracking clients draw the crackle themselves
+        if (!entity.level().isClientSide()) {
+            syncStatus(entity);
         }
     }
 
     @Override
-    public void removeAttributeModifiers(LivingEntity entity, net.minecraft.world.entity.ai.attributes.AttributeMap attributeMap, int amplifier) {
+    public void removeAttributeModifiers(LivingEntity entity, AttributeMap attributeMap, int amplifier) {
         super.removeAttributeModifiers(entity, attributeMap, amplifier);
 
-        // Spawn a final burst of particles when effect ends
-        if (!entity.level().isClientSide() && entity.level() instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(
-                    NichirinParticleRegistry.THUNDER.get(),
-                    entity.getX(),
-                    entity.getY() + entity.getBbHeight() / 2,
-                    entity.getZ(),
-                    5,
-                    0.3,
-                    0.3,
-                    0.3,
-                    0.01
-            );
+        // Clients spawn a final burst of particles when the effect ends. Re-applying the effect
+        // also removes the modifiers first, but the effect is still present then
+        if (!entity.level().isClientSide() && !entity.hasEffect(this)) {
+            NichirinPacketRegistry.sendToTrackingAndSelf(ShockedStatusPacket.cleared(entity.getId()), entity);
         }
     }
-}
\ No newline at end of file
+
+    private void syncStatus(LivingEntity entity) {
+        MobEffectInstance instance = entity.getEffect(this);
+        if (instance == null) return;
+
+        int duration = instance.isInfiniteDuration() ? ShockedStatusPacket.INFINITE : instance.getDuration();
+        NichirinPacketRegistry.sendToTrackingAndSelf(
+                new ShockedStatusPacket(entity.getId(), entity.level().getGameTime(), duration), entity);
+    }
+}
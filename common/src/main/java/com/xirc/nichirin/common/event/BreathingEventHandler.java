@@ -1,7 +1,6 @@
 package com.xirc.nichirin.common.event;
 
 import com.xirc.nichirin.common.util.BreathingManager;
-import dev.architectury.event.events.common.TickEvent;
 import dev.architectury.event.events.common.PlayerEvent;
 
 /**
@@ -13,13 +12,8 @@ public class BreathingEventHandler {
      * Registers all breathing-related events
      */
     public static void register() {
-        // Server-side player tick for breathing
-        TickEvent.PLAYER_POST.register(player -> {
-            if (!player.level().isClientSide) { // SERVER SIDE ONLY
-                // Tick breathing system
-                BreathingManager.tick(player);
-            }
-        });
+        // No per-tick regen pass: breath is regenerated lazily when read (see GaugeRegen)
+        // and predicted on the client by ClientGaugePredictor
 
         // Initial sync when player joins
         PlayerEvent.PLAYER_JOIN.register(player -> {
@@ -37,10 +31,7 @@ public class BreathingEventHandler {
             }
         });
 
-        // Clean up when player disconnects
-        PlayerEvent.PLAYER_QUIT.register(player -> {
-            BreathingManager.cleanupPlayer(player);
-        });
+        // Disconnect cleanup is handled by NichirinPlayerState
 
         // Restore full breath on respawn
         PlayerEvent.PLAYER_RESPAWN.register((newPlayer, conqueredEnd) -> {
@@ -1,10 +1,10 @@
 package com.xirc.nichirin.common.event;
 
+import com.xirc.nichirin.common.system.PlayerStateSync;
 import com.xirc.nichirin.common.util.StaminaManager;
 import com.xirc.nichirin.common.system.slayerabilities.PlayerDoubleJump;
 import dev.architectury.event.events.common.TickEvent;
 import dev.architectury.event.events.common.PlayerEvent;
-import net.minecraft.world.entity.player.Player;
 
 /**
  * Stamina system integration with proper server-side handling
@@ -15,16 +15,9 @@ public class StaminaEventHandler {
      * Registers all stamina-related events
      */
     public static void register() {
-        // Server-side player tick for stamina ONLY (double jump is handled by mixin)
-        TickEvent.PLAYER_POST.register(player -> {
-            if (!player.level().isClientSide) { // SERVER SIDE ONLY
-                // Tick stamina system
-                StaminaManager.tick(player);
-
-                // DON'T tick double jump here - it's already handled by the mixin!
-                // PlayerDoubleJump.tickPlayer(player); // REMOVED - prevents double ticking
-            }
-        });
+        // Send everything marked during this tick as one bundle per player (double jump is handled by mixin)
+        // Stamina and breath regen is evaluated lazily and predicted by the client
+        TickEvent.SERVER_POST.register(server -> PlayerStateSync.flush());
 
         // Initial sync when player joins
         PlayerEvent.PLAYER_JOIN.register(player -> {
@@ -45,10 +38,7 @@ public class StaminaEventHandler {
             }
         });
 
-        // Clean up when player disconnects
-        PlayerEvent.PLAYER_QUIT.register(player -> {
-            StaminaManager.cleanupPlayer(player);
-        });
+        // Disconnect cleanup is handled by NichirinPlayerState
 
         // Restore full stamina on respawn
         PlayerEvent.PLAYER_RESPAWN.register((newPlayer, conqueredEnd) -> {
@@ -5,6 +5,7 @@ import com.xirc.nichirin.common.attack.MoveExecutor;
 import com.xirc.nichirin.common.attack.moves.*;
 import com.xirc.nichirin.common.attack.moveset.AbstractMoveset;
 import com.xirc.nichirin.common.data.BreathingStyleHelper;
+import com.xirc.nichirin.common.system.NichirinPlayerState;
 import com.xirc.nichirin.common.util.AnimationUtils;
 import com.xirc.nichirin.common.util.StaminaManager;
 import net.minecraft.sounds.SoundEvents;
@@ -20,10 +21,6 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.network.chat.Component;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * THE katana - handles both basic attacks and breathing styles
  */
@@ -36,9 +33,6 @@ public class SimpleKatana extends SwordItem {
     private static final float LIGHT_ATTACK_STAMINA_COST = 5.0f;
     private static final float SPECIAL_ATTACK_STAMINA_COST = 15.0f;
 
-    // Per-player state tracking
-    private final Map<UUID, PlayerAttackState> playerStates = new HashMap<>();
-
     public SimpleKatana(Properties properties) {
         // Use Iron tier as base, 6 attack damage (3 + 3 from iron tier), -2.4 attack speed
         super(Tiers.IRON, 3, -2.4f, properties);
@@ -66,59 +60,76 @@ public class SimpleKatana extends SwordItem {
         // Do nothing - prevent any damage from being set
     }
 
-    // Create attack methods
-    private SimpleSlashAttack createLightSlash1() {
-        return new SimpleSlashAttack.Builder()
-                .withTiming(3, 7, 2)
-                .withCooldown(0)
-                .withDamage(4.0f)
-                .withRange(2.5f)
-                .withKnockback(0.3f)
-                .withHitbox(1.5f, new Vec3(0, 0, 1.0))
-                .withHitStun(15)
-                .withSounds(SoundEvents.PLAYER_ATTACK_SWEEP, SoundEvents.PLAYER_ATTACK_STRONG)
-                .build();
+    // Shared move definitions - built once, each player reuses its own instances of them
+    private static final SimpleSlashAttack.Builder LIGHT_SLASH_1 = new SimpleSlashAttack.Builder()
+            .withTiming(3, 7, 2)
+            .withCooldown(0)
+            .withDamage(4.0f)
+            .withRange(2.5f)
+            .withKnockback(0.3f)
+            .withHitbox(1.5f, new Vec3(0, 0, 1.0))
+            .withHitStun(15)
+            .withSounds(SoundEvents.PLAYER_ATTACK_SWEEP, SoundEvents.PLAYER_ATTACK_STRONG);
+
+    private static final SimpleSlashAttack.Builder LIGHT_SLASH_2 = new SimpleSlashAttack.Builder()
+            .withTiming(2, 10, 3)
+            .withCooldown(0)
+            .withDamage(5.0f)
+            .withRange(2.5f)
+            .withKnockback(0.5f)
+            .withHitbox(1.5f, new Vec3(0, 0, 1.0))
+            .withHitStun(20)
+            .withSounds(SoundEvents.PLAYER_ATTACK_SWEEP, SoundEvents.PLAYER_ATTACK_STRONG);
+
+    private static final DoubleSlashAttack.Builder DOUBLE_SLASH = new DoubleSlashAttack.Builder()
+            .withTiming(4, 16, 6)
+            .withCooldown(20)
+            .withDamage(3.5f)
+            .withRange(2.8f)
+            .withKnockback(0.4f)
+            .withHitbox(1.6f, new Vec3(0, 0, 1.0))
+            .withHitStun(12)
+            .withSlashDelay(2)
+            .withSounds(SoundEvents.PLAYER_ATTACK_SWEEP, SoundEvents.PLAYER_ATTACK_STRONG);
+
+    private static final RisingSlashAttack.Builder RISING_SLASH = new RisingSlashAttack.Builder()
+            .withTiming(5, 10, 8)
+            .withCooldown(25)
+            .withDamage(4.0f)
+            .withRange(2.5f)
+            .withLaunchPower(1.5f)
+            .withKnockback(0.2f)
+            .withHitbox(1.5f, new Vec3(0, 0.5, 1.0))
+            .withHitStun(20)
+            .withSounds(SoundEvents.PLAYER_ATTACK_SWEEP, SoundEvents.PLAYER_ATTACK_CRIT);
+
+    // Attack instances are created on first use and reset by start() on every later cast
+    private SimpleSlashAttack getLightSlash1(PlayerAttackState state) {
+        if (state.lightSlash1 == null) {
+            state.lightSlash1 = LIGHT_SLASH_1.build();
+        }
+        return state.lightSlash1;
     }
 
-    private SimpleSlashAttack createLightSlash2() {
-        return new SimpleSlashAttack.Builder()
-                .withTiming(2, 10, 3)
-                .withCooldown(0)
-                .withDamage(5.0f)
-                .withRange(2.5f)
-                .withKnockback(0.5f)
-                .withHitbox(1.5f, new Vec3(0, 0, 1.0))
-                .withHitStun(20)
-                .withSounds(SoundEvents.PLAYER_ATTACK_SWEEP, SoundEvents.PLAYER_ATTACK_STRONG)
-                .build();
+    private SimpleSlashAttack getLightSlash2(PlayerAttackState state) {
+        if (state.lightSlash2 == null) {
+            state.lightSlash2 = LIGHT_SLASH_2.build();
+        }
+        return state.lightSlash2;
     }
 
-    private DoubleSlashAttack createDoubleSlashAttack() {
-        return new DoubleSlashAttack.Builder()
-                .withTiming(4, 16, 6)
-                .withCooldown(20)
-                .withDamage(3.5f)
-                .withRange(2.8f)
-                .withKnockback(0.4f)
-                .withHitbox(1.6f, new Vec3(0, 0, 1.0))
-                .withHitStun(12)
-                .withSlashDelay(2)
-                .withSounds(SoundEvents.PLAYER_ATTACK_SWEEP, SoundEvents.PLAYER_ATTACK_STRONG)
-                .build();
+    private DoubleSlashAttack getDoubleSlashAttack(PlayerAttackState state) {
+        if (state.doubleSlash == null) {
+            state.doubleSlash = DOUBLE_SLASH.build();
+        }
+        return state.doubleSlash;
     }
 
-    private RisingSlashAttack createRisingSlashAttack() {
-        return new RisingSlashAttack.Builder()
-                .withTiming(5, 10, 8)
-                .withCooldown(25)
-                .withDamage(4.0f)
-                .withRange(2.5f)
-                .withLaunchPower(1.5f)
-                .withKnockback(0.2f)
-                .withHitbox(1.5f, new Vec3(0, 0.5, 1.0))
-                .withHitStun(20)
-                .withSounds(SoundEvents.PLAYER_ATTACK_SWEEP, SoundEvents.PLAYER_ATTACK_CRIT)
-                .build();
+    private RisingSlashAttack getRisingSlashAttack(PlayerAttackState state) {
+        if (state.risingSlash == null) {
+            state.risingSlash = RISING_SLASH.build();
+        }
+        return state.risingSlash;
     }
 
     @Override
@@ -128,7 +139,7 @@ public class SimpleKatana extends SwordItem {
         if (entity instanceof Player player && isSelected) {
             tick(player);
 
-            // Also tick any active moveset attacks
+            // Also tick client-side moveset attacks (server ones run in MoveScheduler)
             MoveExecutor.tickAttacks(player);
         }
     }
@@ -179,13 +190,13 @@ public class SimpleKatana extends SwordItem {
 
             // Execute default combo attacks
             if (isCombo && state.comboCount == 1) {
-                state.currentSlash = createLightSlash2();
+                state.currentSlash = getLightSlash2(state);
                 state.currentSlash.start(player);
                 state.comboCount = 2;
                 state.slash2CooldownUntil = currentTime + state.currentSlash.getCooldown();
                 AnimationUtils.playAnimation(player, "light_slash2");
             } else {
-                state.currentSlash = createLightSlash1();
+                state.currentSlash = getLightSlash1(state);
                 state.currentSlash.start(player);
                 state.comboCount = 1;
                 state.slash1CooldownUntil = currentTime + state.currentSlash.getCooldown();
@@ -252,11 +263,11 @@ public class SimpleKatana extends SwordItem {
             }
 
             if (isCrouching) {
-                state.currentRisingSlash = createRisingSlashAttack();
+                state.currentRisingSlash = getRisingSlashAttack(state);
                 state.currentRisingSlash.start(player);
                 state.risingSlashCooldownUntil = currentTime + state.currentRisingSlash.getCooldown();
             } else {
-                state.currentDoubleSlash = createDoubleSlashAttack();
+                state.currentDoubleSlash = getDoubleSlashAttack(state);
                 state.currentDoubleSlash.start(player);
                 state.doubleSlashCooldownUntil = currentTime + state.currentDoubleSlash.getCooldown();
             }
@@ -327,7 +338,7 @@ public class SimpleKatana extends SwordItem {
     }
 
     public void tick(Player player) {
-        PlayerAttackState state = playerStates.get(player.getUUID());
+        PlayerAttackState state = NichirinPlayerState.of(player).getAttackState();
         if (state == null) return;
 
         if (state.currentSlash != null && state.currentSlash.isActive()) {
@@ -349,25 +360,19 @@ public class SimpleKatana extends SwordItem {
                 state.comboCount = 0;
             }
         }
-
-        if (currentTime % 100 == 0) {
-            cleanupOldStates();
-        }
     }
 
+    /**
+     * Gets the attack state stored on the player, creating it on first attack
+     */
     public PlayerAttackState getOrCreatePlayerState(Player player) {
-        return playerStates.computeIfAbsent(player.getUUID(), uuid -> new PlayerAttackState());
-    }
-
-    private void cleanupOldStates() {
-        playerStates.entrySet().removeIf(entry -> {
-            PlayerAttackState state = entry.getValue();
-            boolean slashInactive = state.currentSlash == null || !state.currentSlash.isActive();
-            boolean sliceInactive = state.currentSlice == null || !state.currentSlice.isActive();
-            boolean doubleSlashInactive = state.currentDoubleSlash == null || !state.currentDoubleSlash.isActive();
-            boolean risingSlashInactive = state.currentRisingSlash == null || !state.currentRisingSlash.isActive();
-            return slashInactive && sliceInactive && doubleSlashInactive && risingSlashInactive && state.comboCount == 0;
-        });
+        NichirinPlayerState playerState = NichirinPlayerState.of(player);
+        PlayerAttackState state = playerState.getAttackState();
+        if (state == null) {
+            state = new PlayerAttackState();
+            playerState.setAttackState(state);
+        }
+        return state;
     }
 
     public static class PlayerAttackState {
@@ -378,6 +383,12 @@ public class SimpleKatana extends SwordItem {
         DoubleSlashAttack currentDoubleSlash = null;
         RisingSlashAttack currentRisingSlash = null;
 
+        // Reusable attack instances (see the shared definitions above)
+        SimpleSlashAttack lightSlash1 = null;
+        SimpleSlashAttack lightSlash2 = null;
+        DoubleSlashAttack doubleSlash = null;
+        RisingSlashAttack risingSlash = null;
+
         long slash1CooldownUntil = 0;
         long slash2CooldownUntil = 0;
         long doubleSlashCooldownUntil = 0;
@@ -0,0 +1,69 @@
+package com.xirc.nichirin.common.network;
+
+import com.xirc.nichirin.client.renderer.VisualBoltRenderer;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.List;
+
+/**
+ * Visual-only lightning strikes, drawn by the client from a seed instead of spawning
+ * LightningBolt entities on the server. One packet carries every bolt of a strike.
+ */
+public class LightningBoltPacket {
+
+    // Sky flash of vanilla lightning
+    private static final int SKY_FLASH_TICKS = 2;
+
+    private final Vec3[] strikes;
+    private final long seed;
+
+    public LightningBoltPacket(List<Vec3> strikes, long seed) {
+        this.strikes = strikes.toArray(new Vec3[0]);
+        this.seed = seed;
+    }
+
+    public LightningBoltPacket(FriendlyByteBuf buf) {
+        this.strikes = new Vec3[buf.readVarInt()];
+        for (int i = 0; i < strikes.length; i++) {
+            strikes[i] = new Vec3(buf.readDouble(), buf.readDouble(), buf.readDouble());
+        }
+        this.seed = buf.readLong();
+    }
+
+    public void toBytes(FriendlyByteBuf buf) {
+        buf.writeVarInt(strikes.length);
+        for (Vec3 strike : strikes) {
+            buf.writeDouble(strike.x);
+            buf.writeDouble(strike.y);
+            buf.writeDouble(strike.z);
+        }
+        buf.writeLong(seed);
+    }
+
+    @Environment(EnvType.CLIENT)
+    public void handleClient() {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null || strikes.length == 0) return;
+
+        RandomSource random = RandomSource.create(seed);
+        for (Vec3 strike : strikes) {
+            VisualBoltRenderer.spawn(level, strike, random.nextLong());
+        }
+
+        // What a visual-only bolt entity did on the client, once for the whole strike
+        Vec3 first = strikes[0];
+        level.setSkyFlashTime(SKY_FLASH_TICKS);
+        level.playLocalSound(first.x, first.y, first.z, SoundEvents.LIGHTNING_BOLT_THUNDER, SoundSource.WEATHER,
+                10000.0f, 0.8f + random.nextFloat() * 0.2f, false);
+        level.playLocalSound(first.x, first.y, first.z, SoundEvents.LIGHTNING_BOLT_IMPACT, SoundSource.WEATHER,
+                2.0f, 0.5f + random.nextFloat() * 0.2f, false);
+    }
+}
@@ -0,0 +1,90 @@
+package com.xirc.nichirin.common.network;
+
+import com.xirc.nichirin.client.ClientGaugePredictor;
+import com.xirc.nichirin.client.gui.CooldownHUD;
+import com.xirc.nichirin.common.system.PlayerStateSync;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bundled per-tick state for the local player: stamina and breath regen snapshots and new cooldowns.
+ * Only fields whose quantized value changed since the last bundle are written.
+ */
+public class PlayerStateSyncPacket {
+
+    // Field bits (the lower bits match PlayerStateSync field indices)
+    public static final int COOLDOWNS_BIT = 1 << PlayerStateSync.FIELD_COUNT;
+
+    private final int mask;
+    private final int[] values;
+    private final List<String> cooldownNames;
+    private final int[] cooldownTicks;
+
+    public PlayerStateSyncPacket(int mask, int[] values, List<String> cooldownNames, int[] cooldownTicks) {
+        this.mask = mask;
+        this.values = values;
+        this.cooldownNames = cooldownNames;
+        this.cooldownTicks = cooldownTicks;
+    }
+
+    public PlayerStateSyncPacket(FriendlyByteBuf buf) {
+        this.mask = buf.readVarInt();
+        this.values = new int[PlayerStateSync.FIELD_COUNT];
+        for (int field = 0; field < PlayerStateSync.FIELD_COUNT; field++) {
+            if ((mask & (1 << field)) != 0) {
+                values[field] = buf.readVarInt();
+            }
+        }
+
+        int count = (mask & COOLDOWNS_BIT) != 0 ? buf.readVarInt() : 0;
+        this.cooldownNames = new ArrayList<>(count);
+        this.cooldownTicks = new int[count];
+        for (int j = 0; j < count; j++) {
+            cooldownNames.add(buf.readUtf());
+            cooldownTicks[j] = buf.readVarInt();
+        }
+    }
+
+    public void toBytes(FriendlyByteBuf buf) {
+        buf.writeVarInt(mask);
+        for (int field = 0; field < PlayerStateSync.FIELD_COUNT; field++) {
+            if ((mask & (1 << field)) != 0) {
+                buf.writeVarInt(values[field]);
+            }
+        }
+
+        if ((mask & COOLDOWNS_BIT) != 0) {
+            buf.writeVarInt(cooldownNames.size());
+            for (int j = 0; j < cooldownNames.size(); j++) {
+                buf.writeUtf(cooldownNames.get(j));
+                buf.writeVarInt(cooldownTicks[j]);
+            }
+        }
+    }
+
+    @Environment(EnvType.CLIENT)
+    public void handleClient() {
+        for (int field = 0; field < PlayerStateSync.FIELD_COUNT; field++) {
+            if ((mask & (1 << field)) != 0) {
+                ClientGaugePredictor.setField(field, PlayerStateSync.dequantize(field, values[field]));
+            }
+        }
+
+        // Re-anchor the prediction of every gauge that received a snapshot
+        int gaugeBits = (1 << PlayerStateSync.FIELDS_PER_GAUGE) - 1;
+        for (int gauge = 0; gauge < 2; gauge++) {
+            if ((mask & (gaugeBits << (gauge * PlayerStateSync.FIELDS_PER_GAUGE))) != 0) {
+                ClientGaugePredictor.resync(gauge);
+            }
+        }
+
+        // Display the cooldowns on client
+        for (int j = 0; j < cooldownNames.size(); j++) {
+            CooldownHUD.setCooldown(cooldownNames.get(j), cooldownTicks[j]);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.xirc.nichirin.common.network;
+
+import com.xirc.nichirin.client.particle.ShockedStatusEmitter;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.network.FriendlyByteBuf;
+
+/**
+ * Tells tracking clients that an entity is shocked, so they draw the crackle themselves
+ */
+public class ShockedStatusPacket {
+
+    // Duration of an effect that never runs out
+    public static final int INFINITE = -1;
+    // Duration that clears the status
+    public static final int CLEARED = 0;
+
+    private final int entityId;
+    private final long startTick; // Level game time the duration counts from
+    private final int duration;
+
+    public ShockedStatusPacket(int entityId, long startTick, int duration) {
+        this.entityId = entityId;
+        this.startTick = startTick;
+        this.duration = duration;
+    }
+
+    public static ShockedStatusPacket cleared(int entityId) {
+        return new ShockedStatusPacket(entityId, 0, CLEARED);
+    }
+
+    public ShockedStatusPacket(FriendlyByteBuf buf) {
+        this.entityId = buf.readVarInt();
+        this.startTick = buf.readVarLong();
+        this.duration = buf.readVarInt();
+    }
+
+    public void toBytes(FriendlyByteBuf buf) {
+        buf.writeVarInt(entityId);
+        buf.writeVarLong(startTick);
+        buf.writeVarInt(duration);
+    }
+
+    @Environment(EnvType.CLIENT)
+    public void handleClient() {
+        if (duration == CLEARED) {
+            ShockedStatusEmitter.clear(entityId);
+        } else {
+            ShockedStatusEmitter.set(entityId, startTick, duration);
+        }
+    }
+}
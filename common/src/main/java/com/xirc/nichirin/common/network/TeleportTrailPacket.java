@@ -0,0 +1,186 @@
+package com.xirc.nichirin.common.network;
+
+import com.xirc.nichirin.client.particle.NichirinParticleManager;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleType;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * All particles of one teleport - departure burst, arrival burst and the trail between them -
+ * in a single packet of a few dozen bytes. Clients expand it locally from the seed,
+ * instead of the server sending one particle packet per trail sample.
+ */
+public class TeleportTrailPacket {
+
+    // Which parts are present
+    private static final int DEPARTURE_BIT = 1;
+    private static final int ARRIVAL_BIT = 1 << 1;
+    private static final int TRAIL_BIT = 1 << 2;
+
+    // Spread and speed of the bursts (same as the sendParticles call they replace)
+    private static final double BURST_SPREAD_XZ = 0.3;
+    private static final double BURST_SPREAD_Y = 0.5;
+    private static final double BURST_SPEED = 0.1;
+
+    private final Vec3 start;
+    private final Vec3 end;
+    private final long seed;
+    @Nullable
+    private final ParticleOptions departure;
+    private final int departureCount;
+    @Nullable
+    private final ParticleOptions arrival;
+    private final int arrivalCount;
+    @Nullable
+    private final ParticleOptions trail;
+    private final float density; // Trail particles per block
+
+    public TeleportTrailPacket(Vec3 start, Vec3 end, long seed,
+                               @Nullable ParticleOptions departure, int departureCount,
+                               @Nullable ParticleOptions arrival, int arrivalCount,
+                               @Nullable ParticleOptions trail, float density) {
+        this.start = start;
+        this.end = end;
+        this.seed = seed;
+        this.departure = departureCount > 0 ? departure : null;
+        this.departureCount = departureCount;
+        this.arrival = arrivalCount > 0 ? arrival : null;
+        this.arrivalCount = arrivalCount;
+        this.trail = density > 0 ? trail : null;
+        this.density = density;
+    }
+
+    public TeleportTrailPacket(FriendlyByteBuf buf) {
+        int flags = buf.readByte();
+        this.start = new Vec3(buf.readDouble(), buf.readDouble(), buf.readDouble());
+        this.end = new Vec3(buf.readDouble(), buf.readDouble(), buf.readDouble());
+        this.seed = buf.readLong();
+
+        if ((flags & DEPARTURE_BIT) != 0) {
+            this.departure = readParticle(buf);
+            this.departureCount = buf.readVarInt();
+        } else {
+            this.departure = null;
+            this.departureCount = 0;
+        }
+        if ((flags & ARRIVAL_BIT) != 0) {
+            this.arrival = readParticle(buf);
+            this.arrivalCount = buf.readVarInt();
+        } else {
+            this.arrival = null;
+            this.arrivalCount = 0;
+        }
+        if ((flags & TRAIL_BIT) != 0) {
+            this.trail = readParticle(buf);
+            this.density = buf.readFloat();
+        } else {
+            this.trail = null;
+            this.density = 0;
+        }
+    }
+
+    public void toBytes(FriendlyByteBuf buf) {
+        int flags = (departure != null ? DEPARTURE_BIT : 0)
+                | (arrival != null ? ARRIVAL_BIT : 0)
+                | (trail != null ? TRAIL_BIT : 0);
+        buf.writeByte(flags);
+        buf.writeDouble(start.x);
+        buf.writeDouble(start.y);
+        buf.writeDouble(start.z);
+        buf.writeDouble(end.x);
+        buf.writeDouble(end.y);
+        buf.writeDouble(end.z);
+        buf.writeLong(seed);
+
+        if (departure != null) {
+            writeParticle(buf, departure);
+            buf.writeVarInt(departureCount);
+        }
+        if (arrival != null) {
+            writeParticle(buf, arrival);
+            buf.writeVarInt(arrivalCount);
+        }
+        if (trail != null) {
+            writeParticle(buf, trail);
+            buf.writeFloat(density);
+        }
+    }
+
+    /**
+     * Whether the packet has anything to show
+     */
+    public boolean isEmpty() {
+        return departure == null && arrival == null && trail == null;
+    }
+
+    @Environment(EnvType.CLIENT)
+    public void handleClient() {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null) return;
+
+        RandomSource random = RandomSource.create(seed);
+        NichirinParticleManager.beginEvent();
+        try {
+            if (departure != null) {
+                spawnBurst(level, random, departure, start, departureCount);
+            }
+            if (arrival != null) {
+                spawnBurst(level, random, arrival, end, arrivalCount);
+            }
+            if (trail != null) {
+                spawnTrail(level);
+            }
+        } finally {
+            NichirinParticleManager.endEmitter();
+        }
+    }
+
+    @Environment(EnvType.CLIENT)
+    private void spawnBurst(ClientLevel level, RandomSource random, ParticleOptions particle, Vec3 pos, int count) {
+        for (int i = 0; i < count; i++) {
+            NichirinParticleManager.spawn(level, particle,
+                    pos.x + random.nextGaussian() * BURST_SPREAD_XZ,
+                    pos.y + 1 + random.nextGaussian() * BURST_SPREAD_Y,
+                    pos.z + random.nextGaussian() * BURST_SPREAD_XZ,
+                    random.nextGaussian() * BURST_SPEED,
+                    random.nextGaussian() * BURST_SPEED,
+                    random.nextGaussian() * BURST_SPEED);
+        }
+    }
+
+    @Environment(EnvType.CLIENT)
+    private void spawnTrail(ClientLevel level) {
+        Vec3 path = end.subtract(start);
+        double distance = path.length();
+        if (distance < 1.0E-6) return;
+
+        Vec3 step = path.scale(1.0 / distance);
+        int count = (int) (distance * density);
+        for (int i = 0; i < count; i++) {
+            Vec3 pos = start.add(step.scale(i / density));
+            NichirinParticleManager.spawn(level, trail, pos.x, pos.y + 1, pos.z, 0, 0, 0);
+        }
+    }
+
+    private static void writeParticle(FriendlyByteBuf buf, ParticleOptions particle) {
+        buf.writeId(BuiltInRegistries.PARTICLE_TYPE, particle.getType());
+        particle.writeToNetwork(buf);
+    }
+
+    private static ParticleOptions readParticle(FriendlyByteBuf buf) {
+        ParticleType<?> type = buf.readById(BuiltInRegistries.PARTICLE_TYPE);
+        return readParticle(buf, type);
+    }
+
+    private static <T extends ParticleOptions> T readParticle(FriendlyByteBuf buf, ParticleType<T> type) {
+        return type.getDeserializer().fromNetwork(type, buf);
+    }
+}
@@ -0,0 +1,75 @@
+package com.xirc.nichirin.common.network;
+
+import com.xirc.nichirin.BreathOfNichirin;
+import com.xirc.nichirin.client.particle.NichirinParticleManager;
+import com.xirc.nichirin.common.vfx.VfxContext;
+import com.xirc.nichirin.common.vfx.VfxEffect;
+import com.xirc.nichirin.registry.NichirinVfxRegistry;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * One effect event: which program to run, where, and the seed every client runs it with
+ */
+public class VfxEventPacket {
+
+    private final int effectId;
+    private final Vec3 position;
+    private final Vec3 direction;
+    private final float scale;
+    private final long seed;
+
+    public VfxEventPacket(int effectId, Vec3 position, Vec3 direction, float scale, long seed) {
+        this.effectId = effectId;
+        this.position = position;
+        this.direction = direction;
+        this.scale = scale;
+        this.seed = seed;
+    }
+
+    public VfxEventPacket(FriendlyByteBuf buf) {
+        this.effectId = buf.readVarInt();
+        this.position = new Vec3(buf.readDouble(), buf.readDouble(), buf.readDouble());
+        this.direction = new Vec3(buf.readFloat(), buf.readFloat(), buf.readFloat());
+        this.scale = buf.readFloat();
+        this.seed = buf.readLong();
+    }
+
+    public void toBytes(FriendlyByteBuf buf) {
+        buf.writeVarInt(effectId);
+        buf.writeDouble(position.x);
+        buf.writeDouble(position.y);
+        buf.writeDouble(position.z);
+        // Directions and offsets don't need double precision
+        buf.writeFloat((float) direction.x);
+        buf.writeFloat((float) direction.y);
+        buf.writeFloat((float) direction.z);
+        buf.writeFloat(scale);
+        buf.writeLong(seed);
+    }
+
+    @Environment(EnvType.CLIENT)
+    public void handleClient() {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null) return;
+
+        VfxEffect effect = NichirinVfxRegistry.byId(effectId);
+        if (effect == null) {
+            BreathOfNichirin.LOGGER.warn("Received unknown effect id {}", effectId);
+            return;
+        }
+
+        // Each event is budgeted on its own, so one cast can't starve the next
+        NichirinParticleManager.beginEvent();
+        try {
+            effect.program().play(new VfxContext(level, RandomSource.create(seed), position, direction, scale));
+        } finally {
+            NichirinParticleManager.endEmitter();
+        }
+    }
+}
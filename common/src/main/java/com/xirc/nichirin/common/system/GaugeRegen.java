@@ -0,0 +1,78 @@
+package com.xirc.nichirin.common.system;
+
+/**
+ * Closed-form regeneration curve shared by every gauge.
+ * A gauge waits out its delay, regenerates linearly, then tapers off in the last
+ * {@link #TAPER_WINDOW} points and snaps to max once within {@link #MIN_REGEN_THRESHOLD}.
+ */
+public final class GaugeRegen {
+
+    public static final float MIN_REGEN_THRESHOLD = 0.1f; // Stop regen when this close to max
+    public static final float TAPER_WINDOW = 10f; // Regen slows down inside the last 10 points
+
+    private GaugeRegen() {}
+
+    /**
+     * Number of regen steps applied by the given tick, for a gauge last used at useTick
+     */
+    public static long stepsAt(long tick, long useTick, int regenDelay) {
+        // A delay of 0 still waits for the first tick after use
+        return Math.max(0, tick - useTick - Math.max(1, regenDelay) + 1);
+    }
+
+    /**
+     * Tick at which the given number of steps will have been applied
+     */
+    public static long tickForSteps(long steps, long useTick, int regenDelay) {
+        return useTick + Math.max(1, regenDelay) - 1 + steps;
+    }
+
+    /**
+     * Value after applying a number of regen steps to base
+     */
+    public static float valueAfter(float base, float max, float regenRate, long steps) {
+        if (steps <= 0 || base >= max) return Math.min(base, max);
+
+        double missing = max - base;
+        long linearSteps = linearSteps(missing, regenRate);
+
+        if (steps <= linearSteps) {
+            missing -= steps * (double) regenRate;
+        } else {
+            missing = Math.max(0, missing - linearSteps * (double) regenRate);
+            double taper = 1.0 - regenRate / TAPER_WINDOW;
+            missing = taper <= 0 ? 0 : missing * Math.pow(taper, steps - linearSteps);
+        }
+
+        // Stop micro-regeneration near max
+        if (missing < MIN_REGEN_THRESHOLD) return max;
+        return (float) (max - missing);
+    }
+
+    /**
+     * Steps needed to go from base to max, 0 if already full
+     */
+    public static long stepsToFull(float base, float max, float regenRate) {
+        double missing = max - base;
+        if (missing <= 0) return 0;
+
+        long linearSteps = linearSteps(missing, regenRate);
+        missing -= linearSteps * (double) regenRate;
+        if (missing < MIN_REGEN_THRESHOLD) return Math.max(1, linearSteps);
+
+        double taper = 1.0 - regenRate / TAPER_WINDOW;
+        if (taper <= 0) return linearSteps + 1;
+
+        // Smallest k with missing * taper^k < threshold
+        double k = Math.log(MIN_REGEN_THRESHOLD / missing) / Math.log(taper);
+        return linearSteps + (long) Math.floor(k) + 1;
+    }
+
+    /**
+     * Steps taken at the full rate while at least TAPER_WINDOW points are missing
+     */
+    private static long linearSteps(double missing, float regenRate) {
+        if (missing < TAPER_WINDOW) return 0;
+        return (long) Math.floor((missing - TAPER_WINDOW) / regenRate) + 1;
+    }
+}
@@ -0,0 +1,13 @@
+package com.xirc.nichirin.common.system;
+
+/**
+ * Implemented on every Player by PlayerStateMixin.
+ * Use {@link NichirinPlayerState#of} instead of casting directly.
+ */
+public interface INichirinPlayer {
+
+    /**
+     * Gets the Nichirin state stored on this player, creating it on first access
+     */
+    NichirinPlayerState nichirin$getState();
+}
@@ -0,0 +1,110 @@
+package com.xirc.nichirin.common.system;
+
+import com.xirc.nichirin.common.attack.component.IActiveMove;
+import com.xirc.nichirin.common.data.BreathingStyleData;
+import com.xirc.nichirin.common.item.katana.SimpleKatana;
+import com.xirc.nichirin.common.system.slayerabilities.PlayerDoubleJump;
+import dev.architectury.event.events.common.PlayerEvent;
+import lombok.Getter;
+import lombok.Setter;
+import net.minecraft.world.entity.player.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * All per-player Nichirin state, stored directly on the player entity (see PlayerStateMixin).
+ * Systems read it with a field access instead of looking the player up in their own maps,
+ * and it is dropped together with the player object.
+ */
+public class NichirinPlayerState {
+
+    private static final long NO_COOLDOWN = Long.MIN_VALUE;
+
+    // Slot in the PlayerGaugeStore arrays of this player's side (-1 = not resolved yet)
+    int gaugeSlot = -1;
+
+    // Selected breathing style
+    @Getter
+    private final BreathingStyleData styleData = new BreathingStyleData();
+
+    // Double jump tracking
+    @Getter
+    private final PlayerDoubleJump.JumpState jumpState = new PlayerDoubleJump.JumpState();
+
+    // Moveset cooldown end ticks, indexed by move index
+    private long[] moveCooldowns = new long[0];
+
+    // Set while a moveset is executing a move, cleared once breath was consumed
+    @Getter @Setter
+    private boolean executingMove = false;
+
+    // Whether the current Thunderclap and Flash should turn back at the end
+    @Getter @Setter
+    private boolean crouchDash = false;
+
+    // Katana the player last attacked with, and its combo state
+    @Getter @Setter
+    private SimpleKatana katana = null;
+    @Getter @Setter
+    private SimpleKatana.PlayerAttackState attackState = null;
+
+    // Attacks ticked by MoveExecutor
+    @Getter
+    private final List<IActiveMove> activeAttacks = new ArrayList<>();
+
+    /**
+     * Gets the state attached to a player
+     */
+    public static NichirinPlayerState of(Player player) {
+        return ((INichirinPlayer) player).nichirin$getState();
+    }
+
+    /**
+     * Registers the lifecycle events (clone and disconnect)
+     */
+    public static void register() {
+        // Respawning and returning from the End create a new player object
+        PlayerEvent.PLAYER_CLONE.register((oldPlayer, newPlayer, wasDeath) ->
+                of(newPlayer).copyFrom(of(oldPlayer)));
+
+        // Release the slots other systems still keep outside the player
+        PlayerEvent.PLAYER_QUIT.register(player -> {
+            PlayerGaugeStore.release(player);
+            PlayerStateSync.release(player);
+        });
+    }
+
+    /**
+     * Copies the state that should survive onto a new player object.
+     * In-flight attacks and movement state stay with the old player.
+     */
+    public void copyFrom(NichirinPlayerState other) {
+        styleData.copyFrom(other.styleData);
+        moveCooldowns = other.moveCooldowns.clone();
+        katana = other.katana;
+        attackState = other.attackState;
+    }
+
+    /**
+     * Gets the tick at which a move comes off cooldown
+     * @return the end tick, or Long.MIN_VALUE if the move was never used
+     */
+    public long getMoveCooldown(int moveIndex) {
+        return moveIndex < moveCooldowns.length ? moveCooldowns[moveIndex] : NO_COOLDOWN;
+    }
+
+    public void setMoveCooldown(int moveIndex, long cooldownEnd) {
+        if (moveIndex >= moveCooldowns.length) {
+            int oldLength = moveCooldowns.length;
+            moveCooldowns = Arrays.copyOf(moveCooldowns, moveIndex + 1);
+            Arrays.fill(moveCooldowns, oldLength, moveCooldowns.length, NO_COOLDOWN);
+        }
+        moveCooldowns[moveIndex] = cooldownEnd;
+    }
+
+    public void clearMoveCooldowns() {
+        moveCooldowns = new long[0];
+    }
+}
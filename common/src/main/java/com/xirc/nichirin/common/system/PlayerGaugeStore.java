@@ -0,0 +1,391 @@
+package com.xirc.nichirin.common.system;
+
+import com.xirc.nichirin.common.util.Sided;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Dense stamina and breath storage shared by every player.
+ * Each player owns a slot, and both gauges of a slot sit next to each other in
+ * primitive arrays. Values are stored lazily as (value at last change, tick of last change)
+ * and evaluated with {@link GaugeRegen} when read, so no player costs anything per tick.
+ * Each logical side has its own arrays, so the integrated server and the client never share them.
+ * The slot is cached on the player's {@link NichirinPlayerState}; the UUID map is only used
+ * to find it again after a respawn or reconnect.
+ */
+public class PlayerGaugeStore {
+
+    // Gauge indices (index = slot * GAUGE_COUNT + gauge)
+    public static final int STAMINA = 0;
+    public static final int BREATH = 1;
+    private static final int GAUGE_COUNT = 2;
+
+    // Per-gauge defaults
+    private static final float[] DEFAULT_MAX = {100f, 100f};
+    private static final float[] DEFAULT_REGEN_RATE = {1.2f, 0.8f}; // Breath regenerates slower than stamina
+    private static final int[] DEFAULT_REGEN_DELAY = {60, 80}; // 3 and 4 seconds at 20 TPS
+
+    private static final int INITIAL_SLOTS = 16;
+
+    private static final Sided<Gauges> SIDES = new Sided<>(Gauges::new);
+
+    /**
+     * Consumes stamina and breath together - either both are paid or neither is
+     * @return true if successful, false if either gauge is insufficient
+     */
+    public static boolean consume(Player player, float stamina, float breath) {
+        if (player == null) return false;
+
+        Gauges g = SIDES.get(player);
+        int slot = g.slotFor(player);
+        long now = now(player);
+        int staminaIndex = slot * GAUGE_COUNT + STAMINA;
+        int breathIndex = slot * GAUGE_COUNT + BREATH;
+        if (g.valueAt(staminaIndex, now) < stamina || g.valueAt(breathIndex, now) < breath) {
+            // The client predicted enough - correct it
+            g.sync(player, slot, STAMINA, now, false);
+            g.sync(player, slot, BREATH, now, false);
+            return false;
+        }
+
+        if (stamina > 0) {
+            g.spend(staminaIndex, stamina, now);
+            g.sync(player, slot, STAMINA, now, false);
+        }
+        if (breath > 0) {
+            g.spend(breathIndex, breath, now);
+            g.sync(player, slot, BREATH, now, false);
+        }
+        return true;
+    }
+
+    /**
+     * Consumes a single gauge
+     * @return true if successful, false if insufficient
+     */
+    public static boolean consume(Player player, int gauge, float amount) {
+        if (player == null) return false;
+
+        Gauges g = SIDES.get(player);
+        int slot = g.slotFor(player);
+        long now = now(player);
+        int i = slot * GAUGE_COUNT + gauge;
+        if (g.valueAt(i, now) < amount) {
+            // The client predicted enough - correct it
+            g.sync(player, slot, gauge, now, false);
+            return false;
+        }
+
+        g.spend(i, amount, now);
+
+        // Immediate sync on consumption
+        g.sync(player, slot, gauge, now, false);
+        return true;
+    }
+
+    public static float get(Player player, int gauge) {
+        Gauges g = SIDES.get(player);
+        return g.valueAt(g.slotFor(player) * GAUGE_COUNT + gauge, now(player));
+    }
+
+    public static float getMax(Player player, int gauge) {
+        Gauges g = SIDES.get(player);
+        return g.max[g.slotFor(player) * GAUGE_COUNT + gauge];
+    }
+
+    public static float getRegenRate(Player player, int gauge) {
+        Gauges g = SIDES.get(player);
+        return g.regenRate[g.slotFor(player) * GAUGE_COUNT + gauge];
+    }
+
+    public static int getRegenDelay(Player player, int gauge) {
+        Gauges g = SIDES.get(player);
+        return g.regenDelay[g.slotFor(player) * GAUGE_COUNT + gauge];
+    }
+
+    public static int getTimeSinceUse(Player player, int gauge) {
+        Gauges g = SIDES.get(player);
+        return g.timeSinceUse(g.slotFor(player) * GAUGE_COUNT + gauge, now(player));
+    }
+
+    /**
+     * Next tick at which the gauge changes on its own: regen start, or the tick it becomes full.
+     * Returns Long.MAX_VALUE when the gauge is full and nothing will change until it is used.
+     */
+    public static long nextInterestingTick(Player player, int gauge) {
+        Gauges g = SIDES.get(player);
+        int i = g.slotFor(player) * GAUGE_COUNT + gauge;
+        long now = now(player);
+        if (g.valueAt(i, now) >= g.max[i]) return Long.MAX_VALUE;
+
+        long regenStart = GaugeRegen.tickForSteps(1, g.useTick[i], g.regenDelay[i]);
+        return now < regenStart ? regenStart : g.fullTick(i);
+    }
+
+    /**
+     * Sets the current value directly, clamped to [0, max]
+     */
+    public static void set(Player player, int gauge, float value) {
+        Gauges g = SIDES.get(player);
+        int slot = g.slotFor(player);
+        long now = now(player);
+        int i = slot * GAUGE_COUNT + gauge;
+        g.rebase(i, Math.max(0, Math.min(g.max[i], value)), now);
+        g.sync(player, slot, gauge, now, false);
+    }
+
+    /**
+     * Restores an amount instantly
+     */
+    public static void restore(Player player, int gauge, float amount) {
+        Gauges g = SIDES.get(player);
+        int slot = g.slotFor(player);
+        long now = now(player);
+        int i = slot * GAUGE_COUNT + gauge;
+        g.rebase(i, Math.min(g.max[i], g.valueAt(i, now) + amount), now);
+        g.sync(player, slot, gauge, now, false);
+    }
+
+    /**
+     * Fully restores a gauge
+     */
+    public static void restoreFull(Player player, int gauge) {
+        Gauges g = SIDES.get(player);
+        int slot = g.slotFor(player);
+        long now = now(player);
+        int i = slot * GAUGE_COUNT + gauge;
+        g.useTick[i] = now - g.regenDelay[i]; // Allow immediate regen if consumed again
+        g.rebase(i, g.max[i], now);
+        g.sync(player, slot, gauge, now, false);
+    }
+
+    /**
+     * Sets max value and adjusts current if needed
+     */
+    public static void setMax(Player player, int gauge, float value) {
+        Gauges g = SIDES.get(player);
+        int slot = g.slotFor(player);
+        long now = now(player);
+        int i = slot * GAUGE_COUNT + gauge;
+        float current = g.valueAt(i, now);
+        g.max[i] = Math.max(1, value);
+        g.rebase(i, Math.min(current, g.max[i]), now);
+        g.sync(player, slot, gauge, now, false);
+    }
+
+    public static void setRegenRate(Player player, int gauge, float rate) {
+        Gauges g = SIDES.get(player);
+        int slot = g.slotFor(player);
+        long now = now(player);
+        int i = slot * GAUGE_COUNT + gauge;
+        // Bank progress made at the old rate before switching
+        g.rebase(i, g.valueAt(i, now), now);
+        g.regenRate[i] = Math.max(0.1f, rate);
+        g.sync(player, slot, gauge, now, false);
+    }
+
+    public static void setRegenDelay(Player player, int gauge, int delayTicks) {
+        Gauges g = SIDES.get(player);
+        int slot = g.slotFor(player);
+        long now = now(player);
+        int i = slot * GAUGE_COUNT + gauge;
+        g.rebase(i, g.valueAt(i, now), now);
+        g.regenDelay[i] = Math.max(0, delayTicks);
+        g.sync(player, slot, gauge, now, false);
+    }
+
+    /**
+     * Force sync a gauge to the client
+     */
+    public static void forceSync(Player player, int gauge) {
+        Gauges g = SIDES.get(player);
+        g.sync(player, g.slotFor(player), gauge, now(player), true);
+    }
+
+    /**
+     * Saves a gauge to NBT under the given key (only if the player has a slot)
+     */
+    public static void save(Player player, int gauge, CompoundTag tag, String key) {
+        Gauges g = SIDES.get(player);
+        Integer slot = g.slots.get(player.getUUID());
+        if (slot == null) return;
+
+        int i = slot * GAUGE_COUNT + gauge;
+        long now = now(player);
+        CompoundTag gaugeTag = new CompoundTag();
+        gaugeTag.putFloat("current", g.valueAt(i, now));
+        gaugeTag.putFloat("max", g.max[i]);
+        gaugeTag.putFloat("regenRate", g.regenRate[i]);
+        gaugeTag.putInt("regenDelay", g.regenDelay[i]);
+        gaugeTag.putInt("timeSinceUse", g.timeSinceUse(i, now));
+        tag.put(key, gaugeTag);
+    }
+
+    /**
+     * Loads a gauge from NBT under the given key
+     */
+    public static void load(Player player, int gauge, CompoundTag tag, String key) {
+        if (!tag.contains(key)) return;
+
+        CompoundTag gaugeTag = tag.getCompound(key);
+        Gauges g = SIDES.get(player);
+        int slot = g.slotFor(player);
+        long now = now(player);
+        int i = slot * GAUGE_COUNT + gauge;
+        g.max[i] = gaugeTag.getFloat("max");
+        g.regenRate[i] = gaugeTag.getFloat("regenRate");
+        g.regenDelay[i] = gaugeTag.getInt("regenDelay");
+        g.useTick[i] = now - gaugeTag.getInt("timeSinceUse");
+        g.rebase(i, gaugeTag.getFloat("current"), now);
+        g.sync(player, slot, gauge, now, false);
+    }
+
+    /**
+     * Releases the player's slot (on disconnect)
+     */
+    public static void release(Player player) {
+        if (player == null) return;
+        SIDES.get(player).release(player.getUUID());
+    }
+
+    private static long now(Player player) {
+        return player.level().getGameTime();
+    }
+
+    /**
+     * Gauge arrays and slot bookkeeping for one logical side
+     */
+    private static class Gauges {
+
+        // Slot bookkeeping
+        final Map<UUID, Integer> slots = new HashMap<>();
+        Player[] owners = new Player[INITIAL_SLOTS];
+        int[] freeSlots = new int[INITIAL_SLOTS];
+        int freeCount = 0;
+        int slotCount = 0; // High-water mark of allocated slots
+
+        // Gauge data, two entries per slot
+        float[] base = new float[INITIAL_SLOTS * GAUGE_COUNT]; // Value at baseTick
+        long[] baseTick = new long[INITIAL_SLOTS * GAUGE_COUNT]; // Tick of the last change
+        long[] useTick = new long[INITIAL_SLOTS * GAUGE_COUNT]; // Tick of the last consumption
+        float[] max = new float[INITIAL_SLOTS * GAUGE_COUNT];
+        float[] regenRate = new float[INITIAL_SLOTS * GAUGE_COUNT];
+        int[] regenDelay = new int[INITIAL_SLOTS * GAUGE_COUNT];
+
+        /**
+         * Evaluates the regen curve for a gauge at the given tick
+         */
+        float valueAt(int i, long tick) {
+            long steps = GaugeRegen.stepsAt(tick, useTick[i], regenDelay[i])
+                    - GaugeRegen.stepsAt(baseTick[i], useTick[i], regenDelay[i]);
+            return GaugeRegen.valueAfter(base[i], max[i], regenRate[i], steps);
+        }
+
+        /**
+         * Tick at which a gauge reaches max from its current base
+         */
+        long fullTick(int i) {
+            long stepsDone = GaugeRegen.stepsAt(baseTick[i], useTick[i], regenDelay[i]);
+            long stepsNeeded = GaugeRegen.stepsToFull(base[i], max[i], regenRate[i]);
+            return GaugeRegen.tickForSteps(stepsDone + stepsNeeded, useTick[i], regenDelay[i]);
+        }
+
+        int timeSinceUse(int i, long now) {
+            return (int) Math.min(Integer.MAX_VALUE, now - useTick[i]);
+        }
+
+        /**
+         * Moves the stored base to the given value at the given tick
+         */
+        void rebase(int i, float value, long now) {
+            base[i] = value;
+            baseTick[i] = now;
+        }
+
+        void spend(int i, float amount, long now) {
+            useTick[i] = now; // Reset regeneration timer
+            rebase(i, Math.max(0, valueAt(i, now) - amount), now);
+        }
+
+        /**
+         * Gets the player's slot, allocating one with default values if needed
+         */
+        int slotFor(Player player) {
+            // Fast path - the slot is cached on the player
+            NichirinPlayerState state = NichirinPlayerState.of(player);
+            int cached = state.gaugeSlot;
+            if (cached >= 0 && cached < slotCount && owners[cached] == player) {
+                return cached;
+            }
+
+            Integer existing = slots.get(player.getUUID());
+            if (existing != null) {
+                int slot = existing;
+                // Respawns create a new player object - keep the owner current for syncing
+                owners[slot] = player;
+                state.gaugeSlot = slot;
+                return slot;
+            }
+
+            int slot = freeCount > 0 ? freeSlots[--freeCount] : slotCount++;
+            ensureCapacity(slot + 1);
+
+            owners[slot] = player;
+            long now = now(player);
+            for (int gauge = 0; gauge < GAUGE_COUNT; gauge++) {
+                int i = slot * GAUGE_COUNT + gauge;
+                max[i] = DEFAULT_MAX[gauge];
+                regenRate[i] = DEFAULT_REGEN_RATE[gauge];
+                regenDelay[i] = DEFAULT_REGEN_DELAY[gauge];
+                useTick[i] = now - DEFAULT_REGEN_DELAY[gauge];
+                rebase(i, DEFAULT_MAX[gauge], now);
+            }
+
+            slots.put(player.getUUID(), slot);
+            state.gaugeSlot = slot;
+            return slot;
+        }
+
+        void release(UUID playerId) {
+            Integer slot = slots.remove(playerId);
+            if (slot == null) return;
+
+            owners[slot] = null;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        }
+
+        void ensureCapacity(int slotsNeeded) {
+            if (slotsNeeded <= owners.length) return;
+
+            int newSlots = Math.max(slotsNeeded, owners.length * 2);
+            owners = Arrays.copyOf(owners, newSlots);
+            base = Arrays.copyOf(base, newSlots * GAUGE_COUNT);
+            baseTick = Arrays.copyOf(baseTick, newSlots * GAUGE_COUNT);
+            useTick = Arrays.copyOf(useTick, newSlots * GAUGE_COUNT);
+            max = Arrays.copyOf(max, newSlots * GAUGE_COUNT);
+            regenRate = Arrays.copyOf(regenRate, newSlots * GAUGE_COUNT);
+            regenDelay = Arrays.copyOf(regenDelay, newSlots * GAUGE_COUNT);
+        }
+
+        /**
+         * Marks a regen snapshot of one gauge for the end-of-tick player state bundle.
+         * Regeneration itself is never streamed - the client predicts it from the snapshot.
+         */
+        void sync(Player player, int slot, int gauge, long now, boolean force) {
+            if (player instanceof ServerPlayer serverPlayer) {
+                int i = slot * GAUGE_COUNT + gauge;
+                PlayerStateSync.markGauge(serverPlayer, gauge, valueAt(i, now), max[i],
+                        regenRate[i], regenDelay[i], timeSinceUse(i, now), force);
+            }
+        }
+    }
+}
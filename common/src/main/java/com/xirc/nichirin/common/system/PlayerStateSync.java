@@ -0,0 +1,169 @@
+package com.xirc.nichirin.common.system;
+
+import com.xirc.nichirin.common.network.PlayerStateSyncPacket;
+import com.xirc.nichirin.registry.NichirinPacketRegistry;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Outbound sync stage for per-player state.
+ * Systems mark state dirty during the tick and {@link #flush()} sends at most one
+ * {@link PlayerStateSyncPacket} per player at the end of the tick, containing only
+ * the fields whose quantized value changed since the last one.
+ * Gauges are sent as regen snapshots which the client extrapolates on its own.
+ */
+public class PlayerStateSync {
+
+    // Snapshot fields of one gauge (field index = gauge * FIELDS_PER_GAUGE + field)
+    public static final int VALUE = 0;
+    public static final int MAX = 1;
+    public static final int RATE = 2;
+    public static final int DELAY = 3;
+    public static final int SINCE_USE = 4;
+    public static final int FIELDS_PER_GAUGE = 5;
+    public static final int FIELD_COUNT = FIELDS_PER_GAUGE * 2;
+
+    // Gauge values are sent with 0.1 resolution, regen rates with 0.001
+    private static final float VALUE_QUANTUM = 10f;
+    private static final float RATE_QUANTUM = 1000f;
+    private static final int NEVER_SENT = Integer.MIN_VALUE;
+
+    private static final Map<UUID, PendingState> states = new HashMap<>();
+    private static final List<PendingState> dirty = new ArrayList<>();
+
+    /**
+     * Records a regen snapshot of a gauge (see PlayerGaugeStore gauge indices).
+     * Value and time since use anchor the client's prediction and are always sent,
+     * max, rate and delay only when they changed.
+     * @param force send every field of the gauge (joins, explicit resyncs)
+     */
+    public static void markGauge(ServerPlayer player, int gauge, float current, float max,
+                                 float regenRate, int regenDelay, int timeSinceUse, boolean force) {
+        PendingState state = stateFor(player);
+        int first = gauge * FIELDS_PER_GAUGE;
+        state.pending[first + VALUE] = quantize(VALUE, current);
+        state.pending[first + MAX] = quantize(MAX, max);
+        state.pending[first + RATE] = quantize(RATE, regenRate);
+        state.pending[first + DELAY] = regenDelay;
+        state.pending[first + SINCE_USE] = timeSinceUse;
+        state.validMask |= ((1 << FIELDS_PER_GAUGE) - 1) << first;
+
+        state.forceMask |= (1 << (first + VALUE)) | (1 << (first + SINCE_USE));
+        if (force) {
+            state.forceMask |= ((1 << FIELDS_PER_GAUGE) - 1) << first;
+        }
+        markDirty(state);
+    }
+
+    /**
+     * Queues a cooldown display for the player's HUD
+     */
+    public static void queueCooldown(ServerPlayer player, String moveName, int cooldownTicks) {
+        PendingState state = stateFor(player);
+        state.cooldownNames.add(moveName);
+        if (state.cooldownTicks.length == state.cooldownNames.size() - 1) {
+            state.cooldownTicks = Arrays.copyOf(state.cooldownTicks, state.cooldownTicks.length * 2);
+        }
+        state.cooldownTicks[state.cooldownNames.size() - 1] = cooldownTicks;
+        markDirty(state);
+    }
+
+    /**
+     * Sends one bundle per dirty player (call at the END of each server tick)
+     */
+    public static void flush() {
+        for (PendingState state : dirty) {
+            state.dirty = false;
+            if (state.released) continue;
+
+            int mask = state.forceMask;
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                // Only compare gauges that have been marked at least once
+                if ((state.validMask & (1 << field)) != 0 && state.pending[field] != state.sent[field]) {
+                    mask |= 1 << field;
+                }
+            }
+
+            int cooldownCount = state.cooldownNames.size();
+            if (cooldownCount > 0) {
+                mask |= PlayerStateSyncPacket.COOLDOWNS_BIT;
+            }
+
+            if (mask != 0) {
+                PlayerStateSyncPacket packet = new PlayerStateSyncPacket(mask, state.pending.clone(),
+                        new ArrayList<>(state.cooldownNames), Arrays.copyOf(state.cooldownTicks, cooldownCount));
+                NichirinPacketRegistry.sendToPlayer(packet, state.player);
+                System.arraycopy(state.pending, 0, state.sent, 0, FIELD_COUNT);
+            }
+
+            state.forceMask = 0;
+            state.cooldownNames.clear();
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Drops pending state for a disconnected player
+     */
+    public static void release(Player player) {
+        if (player == null) return;
+
+        PendingState state = states.remove(player.getUUID());
+        if (state != null) {
+            state.released = true;
+        }
+    }
+
+    public static int quantize(int field, float value) {
+        return switch (field % FIELDS_PER_GAUGE) {
+            case VALUE, MAX -> Math.max(0, Math.round(value * VALUE_QUANTUM));
+            case RATE -> Math.max(0, Math.round(value * RATE_QUANTUM));
+            default -> (int) value;
+        };
+    }
+
+    public static float dequantize(int field, int value) {
+        return switch (field % FIELDS_PER_GAUGE) {
+            case VALUE, MAX -> value / VALUE_QUANTUM;
+            case RATE -> value / RATE_QUANTUM;
+            default -> value;
+        };
+    }
+
+    private static PendingState stateFor(ServerPlayer player) {
+        PendingState state = states.computeIfAbsent(player.getUUID(), uuid -> new PendingState());
+        // Respawns create a new player object
+        state.player = player;
+        return state;
+    }
+
+    private static void markDirty(PendingState state) {
+        if (!state.dirty) {
+            state.dirty = true;
+            dirty.add(state);
+        }
+    }
+
+    private static class PendingState {
+        ServerPlayer player;
+        final int[] pending = new int[FIELD_COUNT];
+        final int[] sent = new int[FIELD_COUNT];
+        int forceMask;
+        int validMask;
+        final List<String> cooldownNames = new ArrayList<>();
+        int[] cooldownTicks = new int[4];
+        boolean dirty;
+        boolean released;
+
+        PendingState() {
+            Arrays.fill(sent, NEVER_SENT);
+        }
+    }
+}
@@ -1,44 +1,55 @@
 package com.xirc.nichirin.common.system;
 
-import com.xirc.nichirin.common.util.enums.Gauge;
 import lombok.Getter;
-import lombok.Setter;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.entity.player.Player;
 
 /**
- * Manages stamina for physical attacks and movement abilities
+ * Per-player view of the stamina gauge in {@link PlayerGaugeStore}
  */
 @Getter
-@Setter
 public class StaminaSystem {
 
     private final Player player;
-    private float stamina;
-    private float maxStamina;
-    private float regenRate;
-    private int regenDelay; // Ticks before regen starts
-    private int timeSinceUse;
 
-    public StaminaSystem(Player player, float maxStamina, float regenRate, int regenDelay) {
+    public StaminaSystem(Player player) {
         this.player = player;
-        this.maxStamina = maxStamina;
-        this.stamina = maxStamina;
-        this.regenRate = regenRate;
-        this.regenDelay = regenDelay;
-        this.timeSinceUse = regenDelay;
     }
 
-    /**
-     * Ticks the stamina system, handling regeneration
-     */
-    public void tick() {
-        timeSinceUse++;
+    public float getStamina() {
+        return PlayerGaugeStore.get(player, PlayerGaugeStore.STAMINA);
+    }
+
+    public void setStamina(float stamina) {
+        PlayerGaugeStore.set(player, PlayerGaugeStore.STAMINA, stamina);
+    }
+
+    public float getMaxStamina() {
+        return PlayerGaugeStore.getMax(player, PlayerGaugeStore.STAMINA);
+    }
+
+    public void setMaxStamina(float maxStamina) {
+        PlayerGaugeStore.setMax(player, PlayerGaugeStore.STAMINA, maxStamina);
+    }
+
+    public float getRegenRate() {
+        return PlayerGaugeStore.getRegenRate(player, PlayerGaugeStore.STAMINA);
+    }
+
+    public void setRegenRate(float regenRate) {
+        PlayerGaugeStore.setRegenRate(player, PlayerGaugeStore.STAMINA, regenRate);
+    }
+
+    public int getRegenDelay() {
+        return PlayerGaugeStore.getRegenDelay(player, PlayerGaugeStore.STAMINA);
+    }
+
+    public void setRegenDelay(int regenDelay) {
+        PlayerGaugeStore.setRegenDelay(player, PlayerGaugeStore.STAMINA, regenDelay);
+    }
 
-        // Regenerate stamina after delay
-        if (timeSinceUse >= regenDelay && stamina < maxStamina) {
-            stamina = Math.min(maxStamina, stamina + regenRate);
-        }
+    public int getTimeSinceUse() {
+        return PlayerGaugeStore.getTimeSinceUse(player, PlayerGaugeStore.STAMINA);
     }
 
     /**
@@ -46,61 +57,48 @@ public class StaminaSystem {
      * @return true if successful, false if insufficient stamina
      */
     public boolean consume(float amount) {
-        if (stamina >= amount) {
-            stamina -= amount;
-            timeSinceUse = 0;
-            return true;
-        }
-        return false;
+        return PlayerGaugeStore.consume(player, PlayerGaugeStore.STAMINA, amount);
     }
 
     /**
      * Checks if player has enough stamina
      */
     public boolean hasStamina(float amount) {
-        return stamina >= amount;
+        return getStamina() >= amount;
     }
 
     /**
      * Gets stamina as a percentage (0-1)
      */
     public float getStaminaPercentage() {
-        return stamina / maxStamina;
+        return getStamina() / getMaxStamina();
     }
 
     /**
      * Instantly restores stamina
      */
     public void restore(float amount) {
-        stamina = Math.min(maxStamina, stamina + amount);
+        PlayerGaugeStore.restore(player, PlayerGaugeStore.STAMINA, amount);
     }
 
     /**
      * Fully restores stamina
      */
     public void restoreFull() {
-        stamina = maxStamina;
+        PlayerGaugeStore.restoreFull(player, PlayerGaugeStore.STAMINA);
     }
 
     /**
      * Saves stamina data to NBT
      */
     public void save(CompoundTag tag) {
-        tag.putFloat("Stamina", stamina);
-        tag.putFloat("MaxStamina", maxStamina);
-        tag.putFloat("RegenRate", regenRate);
-        tag.putInt("RegenDelay", regenDelay);
-        tag.putInt("TimeSinceUse", timeSinceUse);
+        PlayerGaugeStore.save(player, PlayerGaugeStore.STAMINA, tag, "StaminaData");
     }
 
     /**
      * Loads stamina data from NBT
      */
     public void load(CompoundTag tag) {
-        stamina = tag.getFloat("Stamina");
-        maxStamina = tag.getFloat("MaxStamina");
-        regenRate = tag.getFloat("RegenRate");
-        regenDelay = tag.getInt("RegenDelay");
-        timeSinceUse = tag.getInt("TimeSinceUse");
+        PlayerGaugeStore.load(player, PlayerGaugeStore.STAMINA, tag, "StaminaData");
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.xirc.nichirin.common.system.slayerabilities;
 
+import com.xirc.nichirin.common.system.NichirinPlayerState;
 import com.xirc.nichirin.common.util.StaminaManager;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.protocol.game.ClientboundSetEntityMotionPacket;
@@ -11,15 +12,8 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 public class PlayerDoubleJump {
 
-    // Track jump state for each player
-    private static final Map<UUID, JumpState> jumpStates = new HashMap<>();
-
     // Configuration
     private static final double DOUBLE_JUMP_VELOCITY = 0.42;
     private static final int PARTICLE_COUNT = 40;
@@ -313,27 +307,13 @@ public class PlayerDoubleJump {
 
         // Update current ground state for next tick
         state.wasOnGround = isOnGround;
-
-        // Clean up old states periodically
-        if (player.tickCount % 400 == 0) {
-            cleanupOldStates();
-        }
     }
 
     /**
-     * Get or create jump state for a player
+     * Get the jump state stored on the player
      */
     private static JumpState getOrCreateState(Player player) {
-        return jumpStates.computeIfAbsent(player.getUUID(), uuid -> new JumpState());
-    }
-
-    /**
-     * Remove states for players who are no longer online
-     */
-    private static void cleanupOldStates() {
-        if (jumpStates.size() > 100) {
-            jumpStates.clear();
-        }
+        return NichirinPlayerState.of(player).getJumpState();
     }
 
     /**
@@ -379,9 +359,9 @@ public class PlayerDoubleJump {
     }
 
     /**
-     * Jump state for each player
+     * Jump state for each player (held by NichirinPlayerState)
      */
-    private static class JumpState {
+    public static class JumpState {
         boolean hasDoubleJumped = false;
         boolean wasOnGround = false;
         boolean initialized = false;
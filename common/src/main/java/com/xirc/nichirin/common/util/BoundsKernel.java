@@ -0,0 +1,128 @@
+package com.xirc.nichirin.common.util;
+
+import net.minecraft.world.phys.AABB;
+
+import java.util.Arrays;
+
+/**
+ * Batch overlap tests over bounds packed as a struct of arrays (one double[] per min/max axis).
+ * The loops only read primitive arrays and write matches with a branch-free compaction, so a
+ * whole crowd is tested without touching an entity object, a lambda or an AABB instance.
+ * Callers pass the output array, which must hold at least as many ints as rows tested.
+ */
+public class BoundsKernel {
+
+    /**
+     * Packed min/max bounds of a set of boxes, grown as needed
+     */
+    public static class Packed {
+        public double[] minX, minY, minZ, maxX, maxY, maxZ;
+        public int size = 0;
+
+        public Packed(int capacity) {
+            minX = new double[capacity];
+            minY = new double[capacity];
+            minZ = new double[capacity];
+            maxX = new double[capacity];
+            maxY = new double[capacity];
+            maxZ = new double[capacity];
+        }
+
+        public void clear() {
+            size = 0;
+        }
+
+        /**
+         * Appends a box
+         * @return its row
+         */
+        public int add(AABB box) {
+            if (size == minX.length) {
+                grow(size * 2);
+            }
+            int row = size++;
+            minX[row] = box.minX;
+            minY[row] = box.minY;
+            minZ[row] = box.minZ;
+            maxX[row] = box.maxX;
+            maxY[row] = box.maxY;
+            maxZ[row] = box.maxZ;
+            return row;
+        }
+
+        private void grow(int capacity) {
+            minX = Arrays.copyOf(minX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            minZ = Arrays.copyOf(minZ, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+            maxY = Arrays.copyOf(maxY, capacity);
+            maxZ = Arrays.copyOf(maxZ, capacity);
+        }
+    }
+
+    /**
+     * Rows 0..size-1 whose box, grown by margin, intersects the query box
+     * @return the number of rows written to out
+     */
+    public static int overlapping(Packed bounds, AABB box, double margin, int[] out) {
+        double x0 = box.minX - margin, y0 = box.minY - margin, z0 = box.minZ - margin;
+        double x1 = box.maxX + margin, y1 = box.maxY + margin, z1 = box.maxZ + margin;
+        double[] minX = bounds.minX, minY = bounds.minY, minZ = bounds.minZ;
+        double[] maxX = bounds.maxX, maxY = bounds.maxY, maxZ = bounds.maxZ;
+
+        int n = 0;
+        for (int row = 0, size = bounds.size; row < size; row++) {
+            // Non-short-circuit & keeps the loop free of branches
+            boolean hit = (minX[row] < x1) & (maxX[row] > x0)
+                    & (minY[row] < y1) & (maxY[row] > y0)
+                    & (minZ[row] < z1) & (maxZ[row] > z0);
+            out[n] = row;
+            n += hit ? 1 : 0;
+        }
+        return n;
+    }
+
+    /**
+     * Same as above, for the rows listed in rows[0..count-1] (e.g. gathered from grid cells)
+     */
+    public static int overlapping(Packed bounds, int[] rows, int count, AABB box, double margin, int[] out) {
+        double x0 = box.minX - margin, y0 = box.minY - margin, z0 = box.minZ - margin;
+        double x1 = box.maxX + margin, y1 = box.maxY + margin, z1 = box.maxZ + margin;
+        double[] minX = bounds.minX, minY = bounds.minY, minZ = bounds.minZ;
+        double[] maxX = bounds.maxX, maxY = bounds.maxY, maxZ = bounds.maxZ;
+
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            boolean hit = (minX[row] < x1) & (maxX[row] > x0)
+                    & (minY[row] < y1) & (maxY[row] > y0)
+                    & (minZ[row] < z1) & (maxZ[row] > z0);
+            out[n] = row;
+            n += hit ? 1 : 0;
+        }
+        return n;
+    }
+
+    /**
+     * Listed rows whose feet position (bottom center of the box) lies within radius + margin
+     * of the given point
+     */
+    public static int withinDistance(Packed bounds, int[] rows, int count,
+                                     double x, double y, double z, double radius, double margin, int[] out) {
+        double reach = radius + margin;
+        double reachSq = reach * reach;
+        double[] minX = bounds.minX, minY = bounds.minY, minZ = bounds.minZ;
+        double[] maxX = bounds.maxX, maxZ = bounds.maxZ;
+
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            double dx = (minX[row] + maxX[row]) * 0.5 - x;
+            double dy = minY[row] - y;
+            double dz = (minZ[row] + maxZ[row]) * 0.5 - z;
+            out[n] = row;
+            n += dx * dx + dy * dy + dz * dz <= reachSq ? 1 : 0;
+        }
+        return n;
+    }
+}
@@ -0,0 +1,404 @@
+package com.xirc.nichirin.common.util;
+
+import net.minecraft.world.phys.AABB;
+
+import java.util.Arrays;
+
+/**
+ * Dynamic bounding volume hierarchy of AABBs (insert/remove with surface area heuristic
+ * and AVL style rotations). Nodes live in parallel arrays and are recycled through a free
+ * list, so queries and updates do not allocate once the tree has grown.
+ */
+public class DynamicAabbTree<T> {
+
+    private static final int NULL = -1;
+
+    /**
+     * Receives the leaves overlapping a query
+     */
+    @FunctionalInterface
+    public interface Visitor<T> {
+        void visit(int proxy, T value);
+    }
+
+    private int root = NULL;
+    private int freeList = NULL;
+    private int leafCount = 0;
+
+    private double[] minX, minY, minZ, maxX, maxY, maxZ;
+    private int[] parent;
+    private int[] child1;
+    private int[] child2;
+    private int[] height; // Leaves are 0, free nodes -1
+    private Object[] values;
+
+    private int[] stack = new int[64];
+
+    public DynamicAabbTree() {
+        allocateArrays(16);
+    }
+
+    /**
+     * Adds a leaf
+     * @return the proxy id used to update or remove it
+     */
+    public int insert(AABB box, T value) {
+        int leaf = allocateNode();
+        setBox(leaf, box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ);
+        values[leaf] = value;
+        height[leaf] = 0;
+        insertLeaf(leaf);
+        leafCount++;
+        return leaf;
+    }
+
+    public void remove(int proxy) {
+        removeLeaf(proxy);
+        values[proxy] = null;
+        freeNode(proxy);
+        leafCount--;
+    }
+
+    /**
+     * Changes the box of a leaf
+     */
+    public void update(int proxy, AABB box) {
+        removeLeaf(proxy);
+        setBox(proxy, box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ);
+        insertLeaf(proxy);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int proxy) {
+        return (T) values[proxy];
+    }
+
+    public int size() {
+        return leafCount;
+    }
+
+    public boolean isEmpty() {
+        return root == NULL;
+    }
+
+    /**
+     * Visits every leaf whose box overlaps the given one.
+     * The tree must not be modified from the visitor.
+     */
+    @SuppressWarnings("unchecked")
+    public void query(AABB box, Visitor<T> visitor) {
+        if (root == NULL) return;
+
+        int top = 0;
+        stack[top++] = root;
+        while (top > 0) {
+            int node = stack[--top];
+            if (!overlaps(node, box)) continue;
+
+            if (child1[node] == NULL) {
+                visitor.visit(node, (T) values[node]);
+            } else {
+                if (top + 2 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = child1[node];
+                stack[top++] = child2[node];
+            }
+        }
+    }
+
+    /**
+     * Whether the box overlaps the bounds of the whole tree
+     */
+    public boolean overlapsRoot(AABB box) {
+        return root != NULL && overlaps(root, box);
+    }
+
+    private boolean overlaps(int node, AABB box) {
+        return minX[node] < box.maxX && maxX[node] > box.minX
+                && minY[node] < box.maxY && maxY[node] > box.minY
+                && minZ[node] < box.maxZ && maxZ[node] > box.minZ;
+    }
+
+    private void insertLeaf(int leaf) {
+        if (root == NULL) {
+            root = leaf;
+            parent[leaf] = NULL;
+            return;
+        }
+
+        // Find the cheapest sibling (surface area heuristic, branch and bound)
+        int index = root;
+        while (child1[index] != NULL) {
+            int c1 = child1[index];
+            int c2 = child2[index];
+
+            double area = area(index);
+            double combinedArea = unionArea(index, leaf);
+
+            // Cost of pairing the leaf with this node, and of pushing it further down
+            double cost = 2.0 * combinedArea;
+            double inheritanceCost = 2.0 * (combinedArea - area);
+
+            double cost1 = descendCost(c1, leaf) + inheritanceCost;
+            double cost2 = descendCost(c2, leaf) + inheritanceCost;
+
+            if (cost < cost1 && cost < cost2) break;
+            index = cost1 < cost2 ? c1 : c2;
+        }
+
+        int sibling = index;
+        int oldParent = parent[sibling];
+        int newParent = allocateNode();
+        parent[newParent] = oldParent;
+        values[newParent] = null;
+        setUnion(newParent, leaf, sibling);
+        height[newParent] = height[sibling] + 1;
+
+        if (oldParent != NULL) {
+            if (child1[oldParent] == sibling) {
+                child1[oldParent] = newParent;
+            } else {
+                child2[oldParent] = newParent;
+            }
+        } else {
+            root = newParent;
+        }
+        child1[newParent] = sibling;
+        child2[newParent] = leaf;
+        parent[sibling] = newParent;
+        parent[leaf] = newParent;
+
+        refitFrom(parent[leaf]);
+    }
+
+    private double descendCost(int child, int leaf) {
+        if (child1[child] == NULL) {
+            return unionArea(child, leaf);
+        }
+        return unionArea(child, leaf) - area(child);
+    }
+
+    private void removeLeaf(int leaf) {
+        if (leaf == root) {
+            root = NULL;
+            return;
+        }
+
+        int leafParent = parent[leaf];
+        int grandParent = parent[leafParent];
+        int sibling = child1[leafParent] == leaf ? child2[leafParent] : child1[leafParent];
+
+        if (grandParent != NULL) {
+            // Replace the parent with the sibling
+            if (child1[grandParent] == leafParent) {
+                child1[grandParent] = sibling;
+            } else {
+                child2[grandParent] = sibling;
+            }
+            parent[sibling] = grandParent;
+            freeNode(leafParent);
+            refitFrom(grandParent);
+        } else {
+            root = sibling;
+            parent[sibling] = NULL;
+            freeNode(leafParent);
+        }
+    }
+
+    /**
+     * Rebalances and refits the ancestors of a node
+     */
+    private void refitFrom(int index) {
+        while (index != NULL) {
+            index = balance(index);
+
+            int c1 = child1[index];
+            int c2 = child2[index];
+            height[index] = 1 + Math.max(height[c1], height[c2]);
+            setUnion(index, c1, c2);
+
+            index = parent[index];
+        }
+    }
+
+    /**
+     * Rotates the subtree at a if it is imbalanced
+     * @return the new root of the subtree
+     */
+    private int balance(int a) {
+        if (child1[a] == NULL || height[a] < 2) return a;
+
+        int b = child1[a];
+        int c = child2[a];
+        int diff = height[c] - height[b];
+
+        // Rotate c up
+        if (diff > 1) {
+            int f = child1[c];
+            int g = child2[c];
+
+            child1[c] = a;
+            parent[c] = parent[a];
+            parent[a] = c;
+            replaceChild(parent[c], a, c);
+
+            if (height[f] > height[g]) {
+                child2[c] = f;
+                child2[a] = g;
+                parent[g] = a;
+                setUnion(a, b, g);
+                setUnion(c, a, f);
+                height[a] = 1 + Math.max(height[b], height[g]);
+                height[c] = 1 + Math.max(height[a], height[f]);
+            } else {
+                child2[c] = g;
+                child2[a] = f;
+                parent[f] = a;
+                setUnion(a, b, f);
+                setUnion(c, a, g);
+                height[a] = 1 + Math.max(height[b], height[f]);
+                height[c] = 1 + Math.max(height[a], height[g]);
+            }
+            return c;
+        }
+
+        // Rotate b up
+        if (diff < -1) {
+            int d = child1[b];
+            int e = child2[b];
+
+            child1[b] = a;
+            parent[b] = parent[a];
+            parent[a] = b;
+            replaceChild(parent[b], a, b);
+
+            if (height[d] > height[e]) {
+                child2[b] = d;
+                child1[a] = e;
+                parent[e] = a;
+                setUnion(a, c, e);
+                setUnion(b, a, d);
+                height[a] = 1 + Math.max(height[c], height[e]);
+                height[b] = 1 + Math.max(height[a], height[d]);
+            } else {
+                child2[b] = e;
+                child1[a] = d;
+                parent[d] = a;
+                setUnion(a, c, d);
+                setUnion(b, a, e);
+                height[a] = 1 + Math.max(height[c], height[d]);
+                height[b] = 1 + Math.max(height[a], height[e]);
+            }
+            return b;
+        }
+
+        return a;
+    }
+
+    private void replaceChild(int node, int oldChild, int newChild) {
+        if (node == NULL) {
+            root = newChild;
+        } else if (child1[node] == oldChild) {
+            child1[node] = newChild;
+        } else {
+            child2[node] = newChild;
+        }
+    }
+
+    private void setBox(int node, double x0, double y0, double z0, double x1, double y1, double z1) {
+        minX[node] = x0;
+        minY[node] = y0;
+        minZ[node] = z0;
+        maxX[node] = x1;
+        maxY[node] = y1;
+        maxZ[node] = z1;
+    }
+
+    private void setUnion(int node, int a, int b) {
+        setBox(node,
+                Math.min(minX[a], minX[b]), Math.min(minY[a], minY[b]), Math.min(minZ[a], minZ[b]),
+                Math.max(maxX[a], maxX[b]), Math.max(maxY[a], maxY[b]), Math.max(maxZ[a], maxZ[b]));
+    }
+
+    private double area(int node) {
+        return surface(maxX[node] - minX[node], maxY[node] - minY[node], maxZ[node] - minZ[node]);
+    }
+
+    private double unionArea(int a, int b) {
+        return surface(
+                Math.max(maxX[a], maxX[b]) - Math.min(minX[a], minX[b]),
+                Math.max(maxY[a], maxY[b]) - Math.min(minY[a], minY[b]),
+                Math.max(maxZ[a], maxZ[b]) - Math.min(minZ[a], minZ[b]));
+    }
+
+    private static double surface(double dx, double dy, double dz) {
+        return 2.0 * (dx * dy + dy * dz + dz * dx);
+    }
+
+    private int allocateNode() {
+        if (freeList == NULL) {
+            int oldCapacity = parent.length;
+            allocateArrays(oldCapacity * 2);
+            // Chain the new nodes into the free list
+            for (int i = oldCapacity; i < parent.length - 1; i++) {
+                parent[i] = i + 1;
+                height[i] = -1;
+            }
+            parent[parent.length - 1] = NULL;
+            height[parent.length - 1] = -1;
+            freeList = oldCapacity;
+        }
+
+        int node = freeList;
+        freeList = parent[node];
+        parent[node] = NULL;
+        child1[node] = NULL;
+        child2[node] = NULL;
+        height[node] = 0;
+        return node;
+    }
+
+    private void freeNode(int node) {
+        parent[node] = freeList;
+        height[node] = -1;
+        freeList = node;
+    }
+
+    private void allocateArrays(int capacity) {
+        if (parent == null) {
+            minX = new double[capacity];
+            minY = new double[capacity];
+            minZ = new double[capacity];
+            maxX = new double[capacity];
+            maxY = new double[capacity];
+            maxZ = new double[capacity];
+            parent = new int[capacity];
+            child1 = new int[capacity];
+            child2 = new int[capacity];
+            height = new int[capacity];
+            values = new Object[capacity];
+
+            for (int i = 0; i < capacity - 1; i++) {
+                parent[i] = i + 1;
+                height[i] = -1;
+            }
+            parent[capacity - 1] = NULL;
+            height[capacity - 1] = -1;
+            freeList = 0;
+            return;
+        }
+
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        minZ = Arrays.copyOf(minZ, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        maxZ = Arrays.copyOf(maxZ, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        child1 = Arrays.copyOf(child1, capacity);
+        child2 = Arrays.copyOf(child2, capacity);
+        height = Arrays.copyOf(height, capacity);
+        values = Arrays.copyOf(values, capacity);
+    }
+}
@@ -0,0 +1,111 @@
+package com.xirc.nichirin.common.util;
+
+import net.minecraft.world.entity.Entity;
+
+import java.util.Arrays;
+
+/**
+ * Set of entities already hit by an attack, keyed by network entity id.
+ * Open addressing over an int array, so adding and checking never box or allocate,
+ * and clear() just starts a new generation instead of wiping or rehashing the table.
+ * Holds no references, so removed entities are not kept alive by a lingering attack.
+ */
+public class EntityHitSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] ids;
+    private int[] generations; // A slot is used when its generation is the current one
+    private int generation = 1;
+    private int size = 0;
+
+    public EntityHitSet() {
+        this(MIN_CAPACITY);
+    }
+
+    public EntityHitSet(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expected * 2 - 1)) << 1;
+        ids = new int[capacity];
+        generations = new int[capacity];
+    }
+
+    /**
+     * Adds an entity
+     * @return true if it was not in the set yet
+     */
+    public boolean add(Entity entity) {
+        return add(entity.getId());
+    }
+
+    public boolean add(int id) {
+        int slot = findSlot(id);
+        if (generations[slot] == generation) return false;
+
+        // Keep the table at most half full
+        if ((size + 1) * 2 > ids.length) {
+            grow();
+            slot = findSlot(id);
+        }
+        ids[slot] = id;
+        generations[slot] = generation;
+        size++;
+        return true;
+    }
+
+    public boolean contains(Entity entity) {
+        return contains(entity.getId());
+    }
+
+    public boolean contains(int id) {
+        return generations[findSlot(id)] == generation;
+    }
+
+    /**
+     * Empties the set in constant time
+     */
+    public void clear() {
+        size = 0;
+        generation++;
+        if (generation == 0) {
+            // Wrapped around - old stamps could look current again
+            Arrays.fill(generations, 0);
+            generation = 1;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Slot holding the id, or the free slot where it would go
+     */
+    private int findSlot(int id) {
+        int mask = ids.length - 1;
+        int hash = id * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (generations[slot] == generation && ids[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        int[] oldIds = ids;
+        int[] oldGenerations = generations;
+        ids = new int[oldIds.length * 2];
+        generations = new int[oldIds.length * 2];
+
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldGenerations[i] == generation) {
+                int slot = findSlot(oldIds[i]);
+                ids[slot] = oldIds[i];
+                generations[slot] = generation;
+            }
+        }
+    }
+}
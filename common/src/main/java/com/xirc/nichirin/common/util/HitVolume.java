@@ -0,0 +1,298 @@
+package com.xirc.nichirin.common.util;
+
+import com.xirc.nichirin.common.attack.EntityBroadphase;
+import com.xirc.nichirin.common.attack.EntityHistory;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Hit volume that is not tied to the world axes - an oriented box or a capsule.
+ * Queries prefilter with the volume's bounding AABB through the EntityBroadphase and then
+ * run the exact overlap test against each candidate's bounding box.
+ */
+public abstract class HitVolume {
+
+    /**
+     * Axis aligned box enclosing the volume (used for the broadphase)
+     */
+    public abstract AABB getBounds();
+
+    /**
+     * Exact overlap test against an axis aligned box
+     */
+    public abstract boolean intersects(AABB box);
+
+    /**
+     * Living entities overlapping the volume that pass the filter
+     */
+    public List<LivingEntity> getEntities(Level level, Predicate<? super LivingEntity> filter) {
+        return EntityBroadphase.getEntities(level, getBounds(),
+                entity -> intersects(entity.getBoundingBox()) && filter.test(entity));
+    }
+
+    /**
+     * Living entities overlapping the volume as the attacker saw them - each candidate is
+     * tested with its box rewound by the attacker's latency (see EntityHistory)
+     */
+    public List<LivingEntity> getEntitiesSeenBy(LivingEntity attacker, Predicate<? super LivingEntity> filter) {
+        float rewind = EntityHistory.rewindTicks(attacker);
+        if (rewind <= 0) {
+            return getEntities(attacker.level(), filter);
+        }
+
+        // Widen the broadphase by how far a target may have moved since
+        AABB search = getBounds().inflate(EntityHistory.maxDisplacement(attacker.level(), rewind));
+        return EntityBroadphase.getEntities(attacker.level(), search,
+                entity -> intersects(EntityHistory.boxAt(entity, rewind)) && filter.test(entity));
+    }
+
+    /**
+     * Living entities other than the attacker overlapping the volume as the attacker saw them.
+     * Same as above without a filter lambda - the broadphase narrows the candidates in a batch
+     * and only the survivors get the exact test.
+     */
+    public List<LivingEntity> getEntitiesSeenBy(LivingEntity attacker) {
+        float rewind = EntityHistory.rewindTicks(attacker);
+        AABB search = rewind <= 0 ? getBounds()
+                : getBounds().inflate(EntityHistory.maxDisplacement(attacker.level(), rewind));
+        List<LivingEntity> candidates = EntityBroadphase.getEntities(attacker.level(), search, attacker);
+
+        // Compact the exact hits in place
+        int kept = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            LivingEntity entity = candidates.get(i);
+            AABB box = rewind <= 0 ? entity.getBoundingBox() : EntityHistory.boxAt(entity, rewind);
+            if (intersects(box)) {
+                candidates.set(kept++, entity);
+            }
+        }
+        candidates.subList(kept, candidates.size()).clear();
+        return candidates;
+    }
+
+    /**
+     * Box with half extents along the basis' right, up and forward axes
+     */
+    public static HitVolume box(Vec3 center, Basis basis, double halfRight, double halfUp, double halfForward) {
+        return new OrientedBox(center, basis, halfRight, halfUp, halfForward);
+    }
+
+    /**
+     * Box swept from start to end - a box of the given cross-section aligned with the path,
+     * so a whole dash is one query instead of one box per sample
+     */
+    public static HitVolume sweep(Vec3 start, Vec3 end, double halfWidth, double halfHeight) {
+        Vec3 path = end.subtract(start);
+        Vec3 center = start.add(path.scale(0.5));
+        return new OrientedBox(center, Basis.along(path), halfWidth, halfHeight, path.length() / 2 + halfWidth);
+    }
+
+    /**
+     * Sphere swept from start to end
+     */
+    public static HitVolume capsule(Vec3 start, Vec3 end, double radius) {
+        return new Capsule(start, end, radius);
+    }
+
+    public static HitVolume sphere(Vec3 center, double radius) {
+        return new Capsule(center, center, radius);
+    }
+
+    /**
+     * Orthonormal right/up/forward frame, computed once per query from a look direction
+     */
+    public record Basis(Vec3 right, Vec3 up, Vec3 forward) {
+
+        private static final Vec3 WORLD_UP = new Vec3(0, 1, 0);
+
+        // The world axes, for boxes that should not turn
+        public static final Basis WORLD = new Basis(new Vec3(1, 0, 0), WORLD_UP, new Vec3(0, 0, 1));
+
+        /**
+         * Basis of an entity's look direction
+         */
+        public static Basis of(Entity entity) {
+            return along(entity.getLookAngle());
+        }
+
+        /**
+         * Basis whose forward axis points along a direction
+         */
+        public static Basis along(Vec3 direction) {
+            Vec3 forward = direction.lengthSqr() < 1.0E-8 ? new Vec3(0, 0, 1) : direction.normalize();
+            Vec3 right = forward.cross(WORLD_UP);
+            if (right.lengthSqr() < 1.0E-8) {
+                // Looking straight up or down - any horizontal right axis works
+                right = new Vec3(1, 0, 0);
+            }
+            right = right.normalize();
+            Vec3 up = right.cross(forward);
+            return new Basis(right, up, forward);
+        }
+    }
+
+    /**
+     * Oriented box, tested against AABBs with the separating axis theorem
+     */
+    private static class OrientedBox extends HitVolume {
+        private static final double EPSILON = 1.0E-6;
+
+        private final double[] center = new double[3];
+        private final double[][] axes = new double[3][]; // right, up, forward
+        private final double[] extents;
+        private final AABB bounds;
+
+        OrientedBox(Vec3 center, Basis basis, double halfRight, double halfUp, double halfForward) {
+            this.center[0] = center.x;
+            this.center[1] = center.y;
+            this.center[2] = center.z;
+            this.axes[0] = new double[]{basis.right().x, basis.right().y, basis.right().z};
+            this.axes[1] = new double[]{basis.up().x, basis.up().y, basis.up().z};
+            this.axes[2] = new double[]{basis.forward().x, basis.forward().y, basis.forward().z};
+            this.extents = new double[]{halfRight, halfUp, halfForward};
+
+            // Projected extent on each world axis
+            double[] reach = new double[3];
+            for (int i = 0; i < 3; i++) {
+                reach[i] = Math.abs(axes[0][i]) * extents[0]
+                        + Math.abs(axes[1][i]) * extents[1]
+                        + Math.abs(axes[2][i]) * extents[2];
+            }
+            this.bounds = new AABB(center.x - reach[0], center.y - reach[1], center.z - reach[2],
+                    center.x + reach[0], center.y + reach[1], center.z + reach[2]);
+        }
+
+        @Override
+        public AABB getBounds() {
+            return bounds;
+        }
+
+        @Override
+        public boolean intersects(AABB box) {
+            if (!bounds.intersects(box)) return false;
+
+            double[] half = {box.getXsize() / 2, box.getYsize() / 2, box.getZsize() / 2};
+            double[] t = {
+                    center[0] - (box.minX + half[0]),
+                    center[1] - (box.minY + half[1]),
+                    center[2] - (box.minZ + half[2])
+            };
+
+            // r[i][j] = world axis i dotted with box axis j
+            double[][] r = new double[3][3];
+            double[][] absR = new double[3][3];
+            for (int i = 0; i < 3; i++) {
+                for (int j = 0; j < 3; j++) {
+                    r[i][j] = axes[j][i];
+                    absR[i][j] = Math.abs(r[i][j]) + EPSILON;
+                }
+            }
+
+            // World axes
+            for (int i = 0; i < 3; i++) {
+                double rb = extents[0] * absR[i][0] + extents[1] * absR[i][1] + extents[2] * absR[i][2];
+                if (Math.abs(t[i]) > half[i] + rb) return false;
+            }
+
+            // Box axes
+            for (int j = 0; j < 3; j++) {
+                double ra = half[0] * absR[0][j] + half[1] * absR[1][j] + half[2] * absR[2][j];
+                double dist = t[0] * r[0][j] + t[1] * r[1][j] + t[2] * r[2][j];
+                if (Math.abs(dist) > ra + extents[j]) return false;
+            }
+
+            // Cross products of world axis i and box axis j
+            for (int i = 0; i < 3; i++) {
+                int i1 = (i + 1) % 3;
+                int i2 = (i + 2) % 3;
+                for (int j = 0; j < 3; j++) {
+                    int j1 = (j + 1) % 3;
+                    int j2 = (j + 2) % 3;
+                    double ra = half[i1] * absR[i2][j] + half[i2] * absR[i1][j];
+                    double rb = extents[j1] * absR[i][j2] + extents[j2] * absR[i][j1];
+                    double dist = t[i2] * r[i1][j] - t[i1] * r[i2][j];
+                    if (Math.abs(dist) > ra + rb) return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Segment with a radius, tested by the distance between the segment and the box
+     */
+    private static class Capsule extends HitVolume {
+        private static final int SEARCH_STEPS = 24;
+        private static final double GOLDEN = 0.6180339887498949;
+
+        private final Vec3 start;
+        private final Vec3 end;
+        private final double radius;
+        private final AABB bounds;
+
+        Capsule(Vec3 start, Vec3 end, double radius) {
+            this.start = start;
+            this.end = end;
+            this.radius = radius;
+            this.bounds = new AABB(start, end).inflate(radius);
+        }
+
+        @Override
+        public AABB getBounds() {
+            return bounds;
+        }
+
+        @Override
+        public boolean intersects(AABB box) {
+            if (!bounds.intersects(box)) return false;
+
+            double radiusSq = radius * radius;
+            if (distanceSq(box, 0) <= radiusSq || distanceSq(box, 1) <= radiusSq) return true;
+            if (start.equals(end)) return false;
+
+            // Distance to a convex box along a segment is convex - golden section search for the minimum
+            double low = 0;
+            double high = 1;
+            double a = high - GOLDEN * (high - low);
+            double b = low + GOLDEN * (high - low);
+            double fa = distanceSq(box, a);
+            double fb = distanceSq(box, b);
+            for (int step = 0; step < SEARCH_STEPS; step++) {
+                if (fa <= radiusSq || fb <= radiusSq) return true;
+                if (fa < fb) {
+                    high = b;
+                    b = a;
+                    fb = fa;
+                    a = high - GOLDEN * (high - low);
+                    fa = distanceSq(box, a);
+                } else {
+                    low = a;
+                    a = b;
+                    fa = fb;
+                    b = low + GOLDEN * (high - low);
+                    fb = distanceSq(box, b);
+                }
+            }
+            return Math.min(fa, fb) <= radiusSq;
+        }
+
+        /**
+         * Squared distance from the point at t along the segment to the box
+         */
+        private double distanceSq(AABB box, double t) {
+            double x = start.x + (end.x - start.x) * t;
+            double y = start.y + (end.y - start.y) * t;
+            double z = start.z + (end.z - start.z) * t;
+            double dx = Math.max(Math.max(box.minX - x, 0), x - box.maxX);
+            double dy = Math.max(Math.max(box.minY - y, 0), y - box.maxY);
+            double dz = Math.max(Math.max(box.minZ - z, 0), z - box.maxZ);
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package com.xirc.nichirin.common.util;
 
+import com.xirc.nichirin.common.attack.LingeringHitManager;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.With;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
+import java.util.function.Predicate;
+
 /**
  * Data class for configuring attack hitboxes
  */
@@ -16,7 +22,7 @@ public class HitboxData {
     private final float size;
     private final Vec3 offset;
     private final HitboxShape shape;
-    private final float duration; // How long the hitbox stays active
+    private final float duration; // How long the hitbox stays active, in ticks
 
     /**
      * Creates a basic cubic hitbox
@@ -33,7 +39,7 @@ public class HitboxData {
     }
 
     /**
-     * Generates the AABB for this hitbox at the given position
+     * Generates the AABB for this hitbox at the given position (shapes on the world axes)
      */
     public AABB createAABB(Vec3 center) {
         Vec3 finalCenter = center.add(offset);
@@ -84,6 +90,36 @@ public class HitboxData {
         }
     }
 
+    /**
+     * Generates the hit volume for this hitbox turned to the given basis, so a LONG
+     * thrust extends along the look direction whichever way the user faces.
+     * The offset is read in the basis as (right, up, forward).
+     */
+    public HitVolume createVolume(Vec3 center, HitVolume.Basis basis) {
+        Vec3 finalCenter = center
+                .add(basis.right().scale(offset.x))
+                .add(basis.up().scale(offset.y))
+                .add(basis.forward().scale(offset.z));
+
+        return switch (shape) {
+            case WIDE -> HitVolume.box(finalCenter, basis, size * 1.5, size * 0.5, size);
+            case TALL -> HitVolume.box(finalCenter, basis, size * 0.5, size * 1.5, size * 0.5);
+            case LONG -> HitVolume.box(finalCenter, basis, size * 0.5, size * 0.5, size * 1.5);
+            default -> HitVolume.box(finalCenter, basis, size, size, size);
+        };
+    }
+
+    /**
+     * Places this hitbox in the level for its duration, hitting each entity that enters it once
+     * @param owner entity that is never hit by the hitbox
+     * @param onHit returns whether the entity was hit; entities it rejects are tested again
+     */
+    public LingeringHitManager.LingeringHit spawnLingering(ServerLevel level, LivingEntity owner, Vec3 center,
+                                                           HitVolume.Basis basis, Predicate<LivingEntity> onHit) {
+        return LingeringHitManager.spawn(level, owner, createVolume(center, basis),
+                Math.max(1, Mth.ceil(duration)), onHit);
+    }
+
     /**
      * Different hitbox shapes for various attack types
      */
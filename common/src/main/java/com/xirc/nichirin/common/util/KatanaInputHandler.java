@@ -4,6 +4,7 @@ import com.xirc.nichirin.client.gui.CooldownHUD;
 import com.xirc.nichirin.common.attack.moves.thunder.ThunderClapFlashAttack;
 import com.xirc.nichirin.common.data.BreathingStyleHelper;
 import com.xirc.nichirin.common.item.katana.SimpleKatana;
+import com.xirc.nichirin.common.system.NichirinPlayerState;
 import com.xirc.nichirin.common.util.AnimationUtils;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
@@ -19,18 +20,11 @@ import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.InteractionHand;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * Handles input for katana attacks
  */
 public class KatanaInputHandler {
 
-    // Store SimpleKatana instances per player for tracking
-    private static final Map<UUID, SimpleKatana> PLAYER_SIMPLE_KATANAS = new HashMap<>();
-
     // Network packet IDs
     private static final ResourceLocation LEFT_CLICK_PACKET = new ResourceLocation("nichirin", "left_click");
     private static final ResourceLocation RIGHT_CLICK_PACKET = new ResourceLocation("nichirin", "right_click");
@@ -85,13 +79,6 @@ public class KatanaInputHandler {
                 tickPlayer(player);
             }
         });
-
-        // Clean up when player leaves
-        PlayerEvent.PLAYER_QUIT.register(player -> {
-            if (!player.level().isClientSide) {
-                cleanupPlayer(player);
-            }
-        });
     }
 
     /**
@@ -318,15 +305,16 @@ public class KatanaInputHandler {
      */
     private static void tickPlayer(Player player) {
         // Tick SimpleKatana if player has one
-        SimpleKatana katana = PLAYER_SIMPLE_KATANAS.get(player.getUUID());
+        NichirinPlayerState state = NichirinPlayerState.of(player);
+        SimpleKatana katana = state.getKatana();
         if (katana != null) {
             // Check if player still has the katana
             ItemStack mainHand = player.getMainHandItem();
             if (mainHand.getItem() instanceof SimpleKatana) {
                 katana.tick(player);
             } else {
-                // Player no longer holding katana, remove from map
-                PLAYER_SIMPLE_KATANAS.remove(player.getUUID());
+                // Player no longer holding katana, stop tracking it
+                state.setKatana(null);
             }
         }
     }
@@ -335,12 +323,12 @@ public class KatanaInputHandler {
      * Gets or stores a SimpleKatana instance for tracking per-player state
      */
     private static SimpleKatana getSimpleKatanaForPlayer(Player player, SimpleKatana itemKatana) {
-        UUID playerId = player.getUUID();
-        SimpleKatana katana = PLAYER_SIMPLE_KATANAS.get(playerId);
+        NichirinPlayerState state = NichirinPlayerState.of(player);
+        SimpleKatana katana = state.getKatana();
 
         // If no katana tracked or it's a different one, use the item's instance
         if (katana == null || katana != itemKatana) {
-            PLAYER_SIMPLE_KATANAS.put(playerId, itemKatana);
+            state.setKatana(itemKatana);
             return itemKatana;
         }
 
@@ -348,9 +336,9 @@ public class KatanaInputHandler {
     }
 
     /**
-     * Cleans up when player leaves
+     * Stops tracking the player's katana
      */
     public static void cleanupPlayer(Player player) {
-        PLAYER_SIMPLE_KATANAS.remove(player.getUUID());
+        NichirinPlayerState.of(player).setKatana(null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.xirc.nichirin.common.util;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds one instance of some state per logical side.
+ * In singleplayer and LAN the integrated server thread and the client thread each get
+ * their own container, so no mutable map is ever shared between the two threads.
+ */
+public final class Sided<T> {
+
+    private final T server;
+    private final T client;
+
+    public Sided(Supplier<T> factory) {
+        this.server = factory.get();
+        this.client = factory.get();
+    }
+
+    public T get(boolean clientSide) {
+        return clientSide ? client : server;
+    }
+
+    public T get(Level level) {
+        return get(level.isClientSide);
+    }
+
+    public T get(Entity entity) {
+        return get(entity.level().isClientSide);
+    }
+
+    public T server() {
+        return server;
+    }
+
+    public T client() {
+        return client;
+    }
+}
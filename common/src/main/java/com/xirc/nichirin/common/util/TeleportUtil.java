@@ -1,6 +1,10 @@
 package com.xirc.nichirin.common.util;
 
+import com.xirc.nichirin.common.network.TeleportTrailPacket;
+import com.xirc.nichirin.registry.NichirinPacketRegistry;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.protocol.game.ClientboundSetEntityMotionPacket;
@@ -9,16 +13,24 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.phys.AABB;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.VoxelShape;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
@@ -50,11 +62,6 @@ public class TeleportUtil {
             options.preTeleport.accept(entity);
         }
 
-        // Create departure effects
-        if (world instanceof ServerLevel serverLevel && options.departureParticles != null) {
-            createParticleTrail(serverLevel, startPos, options.departureParticles, options.departureParticleCount);
-        }
-
         // Play departure sound
         if (options.departureSound != null) {
             world.playSound(null, startPos.x, startPos.y, startPos.z,
@@ -74,20 +81,15 @@ public class TeleportUtil {
             serverPlayer.connection.send(new ClientboundSetEntityMotionPacket(entity));
         }
 
-        // Create arrival effects
-        if (world instanceof ServerLevel serverLevel && options.arrivalParticles != null) {
-            createParticleTrail(serverLevel, targetPos, options.arrivalParticles, options.arrivalParticleCount);
-        }
-
         // Play arrival sound
         if (options.arrivalSound != null) {
             world.playSound(null, targetPos.x, targetPos.y, targetPos.z,
                     options.arrivalSound, SoundSource.PLAYERS, options.soundVolume, options.soundPitch);
         }
 
-        // Create trail if specified
-        if (options.createTrail && world instanceof ServerLevel serverLevel) {
-            createTeleportTrail(serverLevel, startPos, targetPos, options.trailParticles, options.trailDensity);
+        // Departure, arrival and trail particles, expanded by the clients from one packet
+        if (world instanceof ServerLevel serverLevel) {
+            sendTeleportParticles(serverLevel, startPos, targetPos, options);
         }
 
         // Post-teleport callback
@@ -103,63 +105,114 @@ public class TeleportUtil {
         return true;
     }
 
-    /**
-     * Checks if the path between two points is clear of blocks (but can go through entities)
-     */
-    private static boolean isPathClear(Level level, Vec3 start, Vec3 end) {
-        // Check multiple points along the path
-        double distance = start.distanceTo(end);
-        int steps = (int) Math.ceil(distance * 2); // Check every 0.5 blocks
+    // Blocks up or down searched for a safe position
+    private static final int SAFE_SEARCH_HEIGHT = 2;
+    private static final Map<Integer, int[]> SAFE_OFFSETS = new ConcurrentHashMap<>();
 
-        for (int i = 0; i <= steps; i++) {
-            double progress = i / (double) steps;
-            Vec3 checkPos = start.lerp(end, progress);
+    // Players further than this from a teleport path don't receive its particles
+    private static final double PARTICLE_VIEW_DISTANCE = 64.0;
 
-            // Check if there's a solid block at this position
-            BlockPos blockPos = new BlockPos((int)checkPos.x, (int)checkPos.y, (int)checkPos.z);
-            BlockState blockState = level.getBlockState(blockPos);
+    // How far before an obstruction a dash stops
+    private static final double OBSTRUCTION_BACKOFF = 0.5;
+    // Overlap below which a shape does not count as blocking (e.g. the block being stood on)
+    private static final double CONTACT_EPSILON = 1.0E-3;
 
-            // Also check the block above (for player height)
-            BlockPos blockPosAbove = blockPos.above();
-            BlockState blockStateAbove = level.getBlockState(blockPosAbove);
+    /**
+     * Finds the furthest position along a path that the entity's body can reach before hitting a block.
+     * One Amanatides-Woo walk over the blocks the feet pass through, testing the collision shapes
+     * of the blocks the body occupies in each of them (its full height, not just head and feet).
+     * Unloaded blocks count as obstructions. Package-private for the tests.
+     */
+    static Vec3 findFurthestClearPosition(Entity entity, Vec3 start, Vec3 direction, double maxDistance) {
+        double length = direction.length();
+        if (length < 1.0E-8 || maxDistance <= 0) {
+            return start;
+        }
+        double dx = direction.x / length;
+        double dy = direction.y / length;
+        double dz = direction.z / length;
 
-            // If either block is solid and not passable, path is blocked
-            if (!blockState.isAir() && blockState.isSolidRender(level, blockPos)) {
-                return false;
+        Level level = entity.level();
+        CollisionContext context = CollisionContext.of(entity);
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        double height = entity.getBbHeight();
+
+        int stepX = dx > 0 ? 1 : dx < 0 ? -1 : 0;
+        int stepY = dy > 0 ? 1 : dy < 0 ? -1 : 0;
+        int stepZ = dz > 0 ? 1 : dz < 0 ? -1 : 0;
+        // Mth.floor, not (int), so negative coordinates land in the right block. On a block
+        // boundary, start in the block the path moves into, not the one behind it.
+        int x = startBlock(start.x, stepX);
+        int y = startBlock(start.y, stepY);
+        int z = startBlock(start.z, stepZ);
+
+        // Distance along the path at which the next boundary on each axis is crossed, and per block
+        double deltaX = stepX == 0 ? Double.MAX_VALUE : 1.0 / Math.abs(dx);
+        double deltaY = stepY == 0 ? Double.MAX_VALUE : 1.0 / Math.abs(dy);
+        double deltaZ = stepZ == 0 ? Double.MAX_VALUE : 1.0 / Math.abs(dz);
+        double nextX = stepX == 0 ? Double.MAX_VALUE : (stepX > 0 ? x + 1 - start.x : start.x - x) * deltaX;
+        double nextY = stepY == 0 ? Double.MAX_VALUE : (stepY > 0 ? y + 1 - start.y : start.y - y) * deltaY;
+        double nextZ = stepZ == 0 ? Double.MAX_VALUE : (stepZ > 0 ? z + 1 - start.z : start.z - z) * deltaZ;
+
+        double enter = 0;
+        while (true) {
+            double exit = Math.min(Math.min(nextX, nextY), Math.min(nextZ, maxDistance));
+
+            // Vertical span of the body while the feet are in this block
+            double feetEnter = start.y + dy * enter;
+            double feetExit = start.y + dy * exit;
+            if (isBodyBlocked(level, cursor, context, x, z,
+                    Math.min(feetEnter, feetExit), Math.max(feetEnter, feetExit) + height)) {
+                double clear = Math.max(0, enter - OBSTRUCTION_BACKOFF);
+                return start.add(dx * clear, dy * clear, dz * clear);
             }
-            if (!blockStateAbove.isAir() && blockStateAbove.isSolidRender(level, blockPosAbove)) {
-                return false;
+            if (exit >= maxDistance) break;
+
+            if (nextX <= nextY && nextX <= nextZ) {
+                x += stepX;
+                enter = nextX;
+                nextX += deltaX;
+            } else if (nextY <= nextZ) {
+                y += stepY;
+                enter = nextY;
+                nextY += deltaY;
+            } else {
+                z += stepZ;
+                enter = nextZ;
+                nextZ += deltaZ;
             }
         }
 
-        return true;
+        return start.add(dx * maxDistance, dy * maxDistance, dz * maxDistance);
+    }
+
+    private static int startBlock(double coordinate, int step) {
+        return step < 0 ? Mth.ceil(coordinate) - 1 : Mth.floor(coordinate);
     }
 
     /**
-     * Finds the furthest clear position along a path before hitting a block
+     * Whether any block in the column at x, z has a collision shape overlapping [bottom, top)
      */
-    private static Vec3 findFurthestClearPosition(Level level, Vec3 start, Vec3 direction, double maxDistance) {
-        Vec3 end = start.add(direction.scale(maxDistance));
-
-        // Binary search for the furthest clear position
-        double low = 0;
-        double high = maxDistance;
-        double bestDistance = 0;
-
-        while (high - low > 0.1) { // 0.1 block precision
-            double mid = (low + high) / 2;
-            Vec3 testPos = start.add(direction.scale(mid));
-
-            if (isPathClear(level, start, testPos)) {
-                bestDistance = mid;
-                low = mid;
-            } else {
-                high = mid;
+    private static boolean isBodyBlocked(Level level, BlockPos.MutableBlockPos cursor, CollisionContext context,
+                                         int x, int z, double bottom, double top) {
+        int maxY = Mth.floor(top - CONTACT_EPSILON);
+        for (int by = Mth.floor(bottom); by <= maxY; by++) {
+            cursor.set(x, by, z);
+            if (!level.isLoaded(cursor)) return true;
+
+            BlockState state = level.getBlockState(cursor);
+            if (state.isAir()) continue;
+
+            VoxelShape shape = state.getCollisionShape(level, cursor, context);
+            if (shape.isEmpty()) continue;
+
+            double shapeBottom = by + shape.min(Direction.Axis.Y);
+            double shapeTop = by + shape.max(Direction.Axis.Y);
+            if (shapeTop > bottom + CONTACT_EPSILON && shapeBottom < top - CONTACT_EPSILON) {
+                return true;
             }
         }
-
-        // Return position slightly before the obstruction
-        return start.add(direction.scale(Math.max(0, bestDistance - 0.5)));
+        return false;
     }
 
     /**
@@ -173,14 +226,13 @@ public class TeleportUtil {
      * Teleport in look direction
      */
     public static boolean teleportInDirection(LivingEntity entity, float distance, TeleportOptions options) {
-        Level level = entity.level();
         Vec3 startPos = entity.position();
         Vec3 lookVec = entity.getLookAngle();
 
         // Find the actual teleport destination (accounting for blocks)
         Vec3 targetPos;
         if (options.requireSafe) { // Check blocks if safety is required
-            targetPos = findFurthestClearPosition(level, startPos, lookVec, distance);
+            targetPos = findFurthestClearPosition(entity, startPos, lookVec, distance);
             double actualDistance = startPos.distanceTo(targetPos);
 
             // If we couldn't teleport at least 1 block, don't teleport at all
@@ -218,60 +270,170 @@ public class TeleportUtil {
      * Check if position is safe for teleportation
      */
     private static boolean isSafePosition(Level world, Vec3 pos, Entity entity) {
-        BlockPos blockPos = new BlockPos((int)pos.x, (int)pos.y, (int)pos.z);
-        BlockState state = world.getBlockState(blockPos);
-        BlockState stateAbove = world.getBlockState(blockPos.above());
-
-        // Check if blocks are passable
-        boolean canStand = state.isCollisionShapeFullBlock(world, blockPos) ||
-                !state.getCollisionShape(world, blockPos, CollisionContext.of(entity)).isEmpty();
-        boolean headClear = world.getBlockState(blockPos.above()).isAir();
+        return isSafePosition(new SectionCache(world), new BlockPos.MutableBlockPos(), CollisionContext.of(entity),
+                Mth.floor(pos.x), Mth.floor(pos.y), Mth.floor(pos.z));
+    }
 
-        return !canStand && headClear;
+    /**
+     * Safe when the block at the feet has no collision and the block above is air.
+     * Unloaded blocks are never safe.
+     */
+    private static boolean isSafePosition(SectionCache blocks, BlockPos.MutableBlockPos cursor,
+                                          CollisionContext context, int x, int y, int z) {
+        // Head first - it is a plain air check and rules most wall and cave candidates out
+        BlockState above = blocks.get(x, y + 1, z);
+        if (above == null || !above.isAir()) return false;
+
+        BlockState state = blocks.get(x, y, z);
+        if (state == null) return false;
+        if (state.isAir()) return true;
+
+        cursor.set(x, y, z);
+        return state.getCollisionShape(blocks.level, cursor, context).isEmpty();
     }
 
     /**
-     * Find nearest safe position for teleportation
+     * Find nearest safe position for teleportation.
+     * Candidates come from a precomputed table of block offsets sorted by distance,
+     * so the first safe one is the nearest and the search stops there.
      */
     private static Vec3 findNearestSafePosition(Level world, Vec3 pos, Entity entity, float maxRadius) {
-        // Search in expanding circles
-        for (float r = 0.5f; r <= maxRadius; r += 0.5f) {
-            for (int angle = 0; angle < 360; angle += 30) {
-                double rad = Math.toRadians(angle);
-                Vec3 checkPos = pos.add(Math.cos(rad) * r, 0, Math.sin(rad) * r);
-
-                // Check positions at different heights
-                for (int y = -2; y <= 2; y++) {
-                    Vec3 testPos = checkPos.add(0, y, 0);
-                    if (isSafePosition(world, testPos, entity)) {
-                        return testPos;
-                    }
-                }
+        int[] offsets = safeOffsets(maxRadius);
+        SectionCache blocks = new SectionCache(world);
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        CollisionContext context = CollisionContext.of(entity);
+
+        int baseX = Mth.floor(pos.x);
+        int baseY = Mth.floor(pos.y);
+        int baseZ = Mth.floor(pos.z);
+        for (int i = 0; i < offsets.length; i += 3) {
+            if (isSafePosition(blocks, cursor, context,
+                    baseX + offsets[i], baseY + offsets[i + 1], baseZ + offsets[i + 2])) {
+                // Keep the position within the block
+                return pos.add(offsets[i], offsets[i + 1], offsets[i + 2]);
             }
         }
         return null;
     }
 
     /**
-     * Create particle trail for teleportation
+     * Offset table for a search radius, built on first use.
+     * Keyed by the radius in half blocks.
+     */
+    private static int[] safeOffsets(float maxRadius) {
+        int halfBlocks = Math.max(1, Mth.ceil(maxRadius * 2));
+        return SAFE_OFFSETS.computeIfAbsent(halfBlocks, key -> buildSafeOffsets(key / 2.0));
+    }
+
+    /**
+     * Block offsets (x, y, z triples) within the horizontal radius and SAFE_SEARCH_HEIGHT
+     * blocks up or down, sorted by distance with the same height preferred on ties
      */
-    private static void createTeleportTrail(ServerLevel world, Vec3 start, Vec3 end, ParticleOptions particle, float density) {
-        Vec3 direction = end.subtract(start);
-        double distance = direction.length();
-        Vec3 step = direction.normalize();
-
-        int particleCount = (int)(distance * density);
-        for (int i = 0; i < particleCount; i++) {
-            Vec3 pos = start.add(step.scale(i / density));
-            world.sendParticles(particle, pos.x, pos.y + 1, pos.z, 1, 0, 0, 0, 0);
+    private static int[] buildSafeOffsets(double radius) {
+        int reach = Mth.ceil(radius);
+        double radiusSq = radius * radius;
+
+        List<int[]> offsets = new ArrayList<>();
+        for (int dx = -reach; dx <= reach; dx++) {
+            for (int dz = -reach; dz <= reach; dz++) {
+                if (dx * dx + dz * dz > radiusSq) continue;
+                for (int dy = -SAFE_SEARCH_HEIGHT; dy <= SAFE_SEARCH_HEIGHT; dy++) {
+                    offsets.add(new int[]{dx, dy, dz});
+                }
+            }
+        }
+        offsets.sort(Comparator.<int[]>comparingInt(o -> o[0] * o[0] + o[1] * o[1] + o[2] * o[2])
+                .thenComparingInt(o -> Math.abs(o[1])));
+
+        int[] table = new int[offsets.size() * 3];
+        for (int i = 0; i < offsets.size(); i++) {
+            System.arraycopy(offsets.get(i), 0, table, i * 3, 3);
         }
+        return table;
     }
 
     /**
-     * Create particle burst at position
+     * Block reads through the last few chunk sections used, for one search
      */
-    private static void createParticleTrail(ServerLevel world, Vec3 pos, ParticleOptions particle, int count) {
-        world.sendParticles(particle, pos.x, pos.y + 1, pos.z, count, 0.3, 0.5, 0.3, 0.1);
+    private static class SectionCache {
+        private static final int SIZE = 8;
+
+        final Level level;
+        private final long[] keys = new long[SIZE];
+        private final LevelChunkSection[] sections = new LevelChunkSection[SIZE];
+        private final boolean[] loaded = new boolean[SIZE];
+        private int used = 0;
+        private int last = 0;
+
+        SectionCache(Level level) {
+            this.level = level;
+        }
+
+        /**
+         * @return the state, or null if the chunk is not loaded
+         */
+        BlockState get(int x, int y, int z) {
+            int sx = x >> 4;
+            int sy = y >> 4;
+            int sz = z >> 4;
+            long key = SectionPos.asLong(sx, sy, sz);
+
+            int slot = -1;
+            if (used > 0 && keys[last] == key) {
+                slot = last;
+            } else {
+                for (int i = 0; i < used; i++) {
+                    if (keys[i] == key) {
+                        slot = i;
+                        break;
+                    }
+                }
+            }
+            if (slot < 0) {
+                // Fill, then replace round robin
+                slot = used < SIZE ? used++ : (last + 1) % SIZE;
+                keys[slot] = key;
+                LevelChunk chunk = level.getChunkSource().getChunkNow(sx, sz);
+                loaded[slot] = chunk != null;
+                int index = level.getSectionIndexFromSectionY(sy);
+                sections[slot] = chunk != null && index >= 0 && index < chunk.getSectionsCount()
+                        ? chunk.getSection(index) : null;
+            }
+            last = slot;
+
+            if (!loaded[slot]) return null;
+            LevelChunkSection section = sections[slot];
+            if (section == null || section.hasOnlyAir()) return Blocks.AIR.defaultBlockState();
+            return section.getBlockState(x & 15, y & 15, z & 15);
+        }
+    }
+
+    /**
+     * Sends the particles of a teleport to the players that can see some part of it
+     */
+    private static void sendTeleportParticles(ServerLevel world, Vec3 start, Vec3 end, TeleportOptions options) {
+        TeleportTrailPacket packet = new TeleportTrailPacket(start, end, world.random.nextLong(),
+                options.departureParticles, options.departureParticleCount,
+                options.arrivalParticles, options.arrivalParticleCount,
+                options.createTrail ? options.trailParticles : null, options.trailDensity);
+        if (packet.isEmpty()) return;
+
+        List<ServerPlayer> viewers = new ArrayList<>();
+        for (ServerPlayer player : world.players()) {
+            if (distanceToSegmentSqr(player.position(), start, end) <= PARTICLE_VIEW_DISTANCE * PARTICLE_VIEW_DISTANCE) {
+                viewers.add(player);
+            }
+        }
+        if (!viewers.isEmpty()) {
+            NichirinPacketRegistry.sendToPlayers(packet, viewers);
+        }
+    }
+
+    private static double distanceToSegmentSqr(Vec3 point, Vec3 start, Vec3 end) {
+        Vec3 path = end.subtract(start);
+        double lengthSq = path.lengthSqr();
+        double t = lengthSq < 1.0E-8 ? 0 : Mth.clamp(point.subtract(start).dot(path) / lengthSq, 0, 1);
+        return point.distanceToSqr(start.add(path.scale(t)));
     }
 
     /**
@@ -280,22 +442,16 @@ public class TeleportUtil {
     private static void damageEntitiesInPath(LivingEntity attacker, Vec3 start, Vec3 end, TeleportOptions options) {
         if (!options.damageAlongPath || options.pathDamage <= 0) return;
 
-        Vec3 direction = end.subtract(start).normalize();
-        double distance = start.distanceTo(end);
-
-        for (double d = 0; d < distance; d += 0.5) {
-            Vec3 checkPos = start.add(direction.scale(d));
-            AABB hitbox = new AABB(checkPos.add(-1, -1, -1), checkPos.add(1, 1, 1));
+        // One box swept along the whole path (same 1 block reach the sampled boxes had)
+        HitVolume path = HitVolume.sweep(start, end, 1.0, 1.0);
+        List<LivingEntity> targets = path.getEntities(attacker.level(),
+                entity -> entity != attacker && entity.isAlive());
 
-            List<LivingEntity> targets = attacker.level().getEntitiesOfClass(LivingEntity.class, hitbox,
-                    entity -> entity != attacker && entity.isAlive());
-
-            for (LivingEntity target : targets) {
-                if (options.pathDamageCallback != null) {
-                    options.pathDamageCallback.accept(target);
-                } else {
-                    target.hurt(attacker.damageSources().playerAttack((Player)attacker), options.pathDamage);
-                }
+        for (LivingEntity target : targets) {
+            if (options.pathDamageCallback != null) {
+                options.pathDamageCallback.accept(target);
+            } else {
+                target.hurt(attacker.damageSources().playerAttack((Player)attacker), options.pathDamage);
             }
         }
     }
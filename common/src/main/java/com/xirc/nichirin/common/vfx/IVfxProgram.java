@@ -0,0 +1,15 @@
+package com.xirc.nichirin.common.vfx;
+
+/**
+ * A named visual effect, run on each receiving client from a VfxEventPacket.
+ * Programs must only draw from the context's random source, so every client
+ * expands the same event into the same particles.
+ */
+@FunctionalInterface
+public interface IVfxProgram {
+
+    /**
+     * Spawns the effect's particles
+     */
+    void play(VfxContext context);
+}
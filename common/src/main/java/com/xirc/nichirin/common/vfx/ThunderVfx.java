@@ -0,0 +1,168 @@
+package com.xirc.nichirin.common.vfx;
+
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Effect programs of the Thunder Breathing forms.
+ * Each one reproduces the particles the form used to send from the server.
+ */
+public class ThunderVfx {
+
+    /**
+     * Thunder Swarm slash: sweeps around the center, a spark cloud and a falling bolt of end rods
+     */
+    public static void swarmSlash(VfxContext context) {
+        RandomSource random = context.getRandom();
+        Vec3 center = context.getPosition();
+
+        for (int i = 0; i < 3; i++) {
+            context.single(ParticleTypes.SWEEP_ATTACK, center.add(
+                    (random.nextFloat() - 0.5) * 2,
+                    (random.nextFloat() - 0.5) * 2,
+                    (random.nextFloat() - 0.5) * 2));
+        }
+        context.burst(ParticleTypes.ELECTRIC_SPARK, center, 30, 1.0, 1.0, 1.0, 0.2);
+        context.burst(ParticleTypes.END_ROD, center.add(0, 3, 0), 5, 0.1, 2.0, 0.1, 0.1);
+    }
+
+    /**
+     * Sparks on a struck target, 20 per unit of scale
+     */
+    public static void sparkHit(VfxContext context) {
+        int count = Math.max(1, Math.round(20 * context.getScale()));
+        context.burst(ParticleTypes.ELECTRIC_SPARK, context.getPosition(), count, 0.5, 0.5, 0.5, 0.1);
+    }
+
+    /**
+     * Rice Spirit slash at the position, with a trail back to the user (direction = offset to the user)
+     */
+    public static void riceSpiritSlash(VfxContext context) {
+        Vec3 slash = context.getPosition();
+        context.single(ParticleTypes.SWEEP_ATTACK, slash);
+        context.burst(ParticleTypes.ELECTRIC_SPARK, slash, 15, 0.3, 0.3, 0.3, 0.1);
+
+        Vec3 from = slash.add(context.getDirection());
+        int count = 10;
+        for (int i = 0; i < count; i++) {
+            context.single(ParticleTypes.ELECTRIC_SPARK, from.lerp(slash, i / (double) count));
+        }
+    }
+
+    /**
+     * Heat Lightning rising slash: a vertical line of sweeps, scale blocks high
+     */
+    public static void risingSlash(VfxContext context) {
+        Vec3 base = context.getPosition();
+        for (int i = 0; i <= 10; i++) {
+            Vec3 pos = base.add(0, i / 10.0 * context.getScale(), 0);
+            context.single(ParticleTypes.SWEEP_ATTACK, pos);
+            if (i % 2 == 0) {
+                context.burst(ParticleTypes.ELECTRIC_SPARK, pos, 5, 0.2, 0.2, 0.2, 0.05);
+            }
+        }
+    }
+
+    /**
+     * Lightning landing on a target
+     */
+    public static void lightningHit(VfxContext context) {
+        context.burst(ParticleTypes.ELECTRIC_SPARK, context.getPosition(), 30, 0.5, 0.5, 0.5, 0.2);
+    }
+
+    /**
+     * Rumble and Flash impact at a target's feet (scale = target height)
+     */
+    public static void rumbleImpact(VfxContext context) {
+        Vec3 feet = context.getPosition();
+        context.burst(ParticleTypes.ELECTRIC_SPARK, feet.add(0, 1, 0), 50, 1.0, 1.0, 1.0, 0.3);
+        context.burst(ParticleTypes.END_ROD, feet.add(0, context.getScale(), 0), 30, 0.5, 0.5, 0.5, 0.2);
+    }
+
+    /**
+     * Distant Thunder strike at a target's feet (scale = target height)
+     */
+    public static void strikeImpact(VfxContext context) {
+        Vec3 feet = context.getPosition();
+        context.burst(ParticleTypes.ELECTRIC_SPARK, feet, 50, 1.0, 2.0, 1.0, 0.5);
+        context.burst(ParticleTypes.END_ROD, feet.add(0, context.getScale(), 0), 20, 0.3, 0.3, 0.3, 0.1);
+    }
+
+    /**
+     * Dark clouds over a square of scale blocks radius
+     */
+    public static void stormClouds(VfxContext context) {
+        RandomSource random = context.getRandom();
+        Vec3 center = context.getPosition();
+        float radius = context.getScale();
+
+        for (int i = 0; i < 50; i++) {
+            double offsetX = (random.nextDouble() - 0.5) * radius * 2;
+            double offsetZ = (random.nextDouble() - 0.5) * radius * 2;
+            context.burst(ParticleTypes.LARGE_SMOKE, center.add(offsetX, 15, offsetZ), 1, 0, -0.1, 0, 0.05);
+        }
+    }
+
+    /**
+     * Sparks falling from the storm over a square of scale blocks radius
+     */
+    public static void stormSparks(VfxContext context) {
+        RandomSource random = context.getRandom();
+        Vec3 center = context.getPosition();
+        float radius = context.getScale();
+
+        for (int i = 0; i < 20; i++) {
+            double offsetX = (random.nextDouble() - 0.5) * radius * 2;
+            double offsetZ = (random.nextDouble() - 0.5) * radius * 2;
+            double height = 10 + random.nextDouble() * 5;
+            context.burst(ParticleTypes.ELECTRIC_SPARK, center.add(offsetX, height, offsetZ), 1, 0, -0.2, 0, 0.1);
+        }
+    }
+
+    /**
+     * Honoikazuchi no Kami hit on a target
+     */
+    public static void ultimateHit(VfxContext context) {
+        Vec3 pos = context.getPosition();
+        context.single(ParticleTypes.EXPLOSION_EMITTER, pos);
+        context.burst(ParticleTypes.ELECTRIC_SPARK, pos, 100, 1.0, 1.0, 1.0, 0.5);
+    }
+
+    /**
+     * Serpentine dragon of sparks along the direction, scale blocks long
+     */
+    public static void thunderDragon(VfxContext context) {
+        Vec3 start = context.getPosition();
+        Vec3 look = context.getDirection();
+        Vec3 side = look.cross(new Vec3(0, 1, 0)).normalize();
+
+        for (int i = 0; i < 50; i++) {
+            double progress = i / 50.0;
+            double wave = Math.sin(progress * Math.PI * 4) * 2; // Serpentine motion
+
+            Vec3 pos = start.add(look.scale(progress * context.getScale()))
+                    .add(side.scale(wave))
+                    .add(0, 1 + progress * 2, 0);
+            context.burst(ParticleTypes.ELECTRIC_SPARK, pos, 5, 0.2, 0.2, 0.2, 0.1);
+            if (i % 5 == 0) {
+                context.burst(ParticleTypes.END_ROD, pos, 3, 0.3, 0.3, 0.3, 0.05);
+            }
+        }
+    }
+
+    /**
+     * Explosion with a ring of sparks out to 10 blocks
+     */
+    public static void thunderExplosion(VfxContext context) {
+        Vec3 pos = context.getPosition();
+        context.burst(ParticleTypes.EXPLOSION_EMITTER, pos.add(0, 1, 0), 3, 0, 0, 0, 0);
+
+        for (int angle = 0; angle < 360; angle += 10) {
+            double rad = Math.toRadians(angle);
+            for (double r = 2; r < 10; r += 0.5) {
+                context.single(ParticleTypes.ELECTRIC_SPARK, pos.add(Math.cos(rad) * r, 0.5, Math.sin(rad) * r));
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.xirc.nichirin.common.vfx;
+
+import com.xirc.nichirin.client.particle.NichirinParticleManager;
+import lombok.Getter;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Inputs of one effect event and the particle helpers programs are written with.
+ * Particles go through the client particle budget.
+ */
+@Getter
+public class VfxContext {
+    private final Level level;
+    private final RandomSource random;
+    private final Vec3 position;
+    private final Vec3 direction; // Program specific - a look direction or an offset to another point
+    private final float scale;
+
+    public VfxContext(Level level, RandomSource random, Vec3 position, Vec3 direction, float scale) {
+        this.level = level;
+        this.random = random;
+        this.position = position;
+        this.direction = direction;
+        this.scale = scale;
+    }
+
+    /**
+     * One particle at rest
+     */
+    public void single(ParticleOptions particle, Vec3 pos) {
+        NichirinParticleManager.spawn(level, particle, pos.x, pos.y, pos.z, 0, 0, 0);
+    }
+
+    /**
+     * Same spread and speed as ServerLevel.sendParticles with a non-zero count:
+     * gaussian offsets scaled by the spread and gaussian velocities scaled by the speed
+     */
+    public void burst(ParticleOptions particle, Vec3 pos, int count,
+                      double spreadX, double spreadY, double spreadZ, double speed) {
+        for (int i = 0; i < count; i++) {
+            NichirinParticleManager.spawn(level, particle,
+                    pos.x + random.nextGaussian() * spreadX,
+                    pos.y + random.nextGaussian() * spreadY,
+                    pos.z + random.nextGaussian() * spreadZ,
+                    random.nextGaussian() * speed,
+                    random.nextGaussian() * speed,
+                    random.nextGaussian() * speed);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.xirc.nichirin.common.vfx;
+
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Handle of a registered effect program; the network id is its registration index
+ */
+public record VfxEffect(int id, ResourceLocation name, IVfxProgram program) {}
@@ -0,0 +1,26 @@
+package com.xirc.nichirin.mixin;
+
+import com.xirc.nichirin.common.system.INichirinPlayer;
+import com.xirc.nichirin.common.system.NichirinPlayerState;
+import net.minecraft.world.entity.player.Player;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+/**
+ * Stores the per-player Nichirin state directly on the player entity
+ */
+@Mixin(Player.class)
+public class PlayerStateMixin implements INichirinPlayer {
+
+    @Unique
+    private NichirinPlayerState nichirin$state;
+
+    @Override
+    public NichirinPlayerState nichirin$getState() {
+        // Created lazily so players that never touch Nichirin cost nothing
+        if (nichirin$state == null) {
+            nichirin$state = new NichirinPlayerState();
+        }
+        return nichirin$state;
+    }
+}
@@ -1,7 +1,8 @@
 package com.xirc.nichirin.mixin.client;
 
+import com.xirc.nichirin.client.ClientGaugePredictor;
 import com.xirc.nichirin.common.system.slayerabilities.PlayerDoubleJump;
-import com.xirc.nichirin.common.util.StaminaManager;
+import com.xirc.nichirin.common.system.PlayerGaugeStore;
 import com.xirc.nichirin.common.network.DoubleJumpPacket;
 import com.xirc.nichirin.registry.NichirinPacketRegistry;
 import net.minecraft.client.player.LocalPlayer;
@@ -45,7 +46,8 @@ public class ClientPlayerDoubleJumpMixin {
 
             // STRICT CHECK: Must not be on ground
             if (player.onGround()) {
-            } else if (!StaminaManager.hasStamina(player, PlayerDoubleJump.getStaminaCost())) {
+            } else if (ClientGaugePredictor.get(PlayerGaugeStore.STAMINA) < PlayerDoubleJump.getStaminaCost()) {
+                // Client-side stamina comes from the server snapshot, not the client's own store
             } else if (PlayerDoubleJump.canDoubleJump(player)) {
 
                 // Set cooldown to prevent spam
@@ -5,7 +5,9 @@ import com.xirc.nichirin.common.network.*;
 import dev.architectury.networking.NetworkManager;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.server.MinecraftServer;
 import io.netty.buffer.Unpooled;
 
@@ -26,8 +28,11 @@ public class NichirinPacketRegistry {
     public static final ResourceLocation DOUBLE_JUMP_ID = new ResourceLocation(BreathOfNichirin.MOD_ID, "double_jump");
     public static final ResourceLocation BREATHING_MOVE_ID = new ResourceLocation(BreathOfNichirin.MOD_ID, "breathing_move");
     public static final ResourceLocation BREATHING_EFFECT_ID = new ResourceLocation(BreathOfNichirin.MOD_ID, "breathing_effect");
-    public static final ResourceLocation SYNC_BREATH_ID = new ResourceLocation(BreathOfNichirin.MOD_ID, "sync_breath");
-    public static final ResourceLocation SYNC_STAMINA_ID = new ResourceLocation(BreathOfNichirin.MOD_ID, "sync_stamina");
+    public static final ResourceLocation PLAYER_STATE_ID = new ResourceLocation(BreathOfNichirin.MOD_ID, "player_state");
+    public static final ResourceLocation TELEPORT_TRAIL_ID = new ResourceLocation(BreathOfNichirin.MOD_ID, "teleport_trail");
+    public static final ResourceLocation VFX_EVENT_ID = new ResourceLocation(BreathOfNichirin.MOD_ID, "vfx_event");
+    public static final ResourceLocation SHOCKED_STATUS_ID = new ResourceLocation(BreathOfNichirin.MOD_ID, "shocked_status");
+    public static final ResourceLocation LIGHTNING_BOLT_ID = new ResourceLocation(BreathOfNichirin.MOD_ID, "lightning_bolt");
 
     // Initialize packet registry
     public static void init() {
@@ -44,13 +49,32 @@ public class NichirinPacketRegistry {
                     // Handle on client side
                 });
 
-        registerS2C(SYNC_BREATH_ID, SyncBreathPacket.class, SyncBreathPacket::new,
+        // Register bundled player state packet (stamina, breath, cooldowns)
+        registerS2C(PLAYER_STATE_ID, PlayerStateSyncPacket.class, PlayerStateSyncPacket::new,
                 () -> {
-                    // Handle on client side
+                    // Handled in the packet's handleClient method
+                });
+
+        // Register teleport particles packet (expanded on the client)
+        registerS2C(TELEPORT_TRAIL_ID, TeleportTrailPacket.class, TeleportTrailPacket::new,
+                () -> {
+                    // Handled in the packet's handleClient method
+                });
+
+        // Register effect event packet (program run on the client from a seed)
+        registerS2C(VFX_EVENT_ID, VfxEventPacket.class, VfxEventPacket::new,
+                () -> {
+                    // Handled in the packet's handleClient method
                 });
 
-        // Register Stamina Sync packet
-        registerS2C(SYNC_STAMINA_ID, StaminaSyncPacket.class, StaminaSyncPacket::new,
+        // Register shocked status packet (crackle drawn on the client)
+        registerS2C(SHOCKED_STATUS_ID, ShockedStatusPacket.class, ShockedStatusPacket::new,
+                () -> {
+                    // Handled in the packet's handleClient method
+                });
+
+        // Register visual lightning packet (bolts drawn on the client)
+        registerS2C(LIGHTNING_BOLT_ID, LightningBoltPacket.class, LightningBoltPacket::new,
                 () -> {
                     // Handled in the packet's handleClient method
                 });
@@ -82,13 +106,28 @@ public class NichirinPacketRegistry {
             context.queue(() -> packet.handleClient());
         });
 
-        NetworkManager.registerReceiver(NetworkManager.Side.S2C, SYNC_BREATH_ID, (buf, context) -> {
-            SyncBreathPacket packet = new SyncBreathPacket(buf);
+        NetworkManager.registerReceiver(NetworkManager.Side.S2C, PLAYER_STATE_ID, (buf, context) -> {
+            PlayerStateSyncPacket packet = new PlayerStateSyncPacket(buf);
             context.queue(() -> packet.handleClient());
         });
 
-        NetworkManager.registerReceiver(NetworkManager.Side.S2C, SYNC_STAMINA_ID, (buf, context) -> {
-            StaminaSyncPacket packet = new StaminaSyncPacket(buf);
+        NetworkManager.registerReceiver(NetworkManager.Side.S2C, TELEPORT_TRAIL_ID, (buf, context) -> {
+            TeleportTrailPacket packet = new TeleportTrailPacket(buf);
+            context.queue(() -> packet.handleClient());
+        });
+
+        NetworkManager.registerReceiver(NetworkManager.Side.S2C, VFX_EVENT_ID, (buf, context) -> {
+            VfxEventPacket packet = new VfxEventPacket(buf);
+            context.queue(() -> packet.handleClient());
+        });
+
+        NetworkManager.registerReceiver(NetworkManager.Side.S2C, SHOCKED_STATUS_ID, (buf, context) -> {
+            ShockedStatusPacket packet = new ShockedStatusPacket(buf);
+            context.queue(() -> packet.handleClient());
+        });
+
+        NetworkManager.registerReceiver(NetworkManager.Side.S2C, LIGHTNING_BOLT_ID, (buf, context) -> {
+            LightningBoltPacket packet = new LightningBoltPacket(buf);
             context.queue(() -> packet.handleClient());
         });
     }
@@ -131,12 +170,18 @@ public class NichirinPacketRegistry {
             Object packet = decoder.apply(buf); // Decode the packet
 
             // Handle special packets with their own client handlers
-            if (packet instanceof StaminaSyncPacket staminaPacket) {
-                staminaPacket.handleClient();
-            } else if (packet instanceof SyncBreathPacket breathPacket) {
-                breathPacket.handleClient();
+            if (packet instanceof PlayerStateSyncPacket statePacket) {
+                statePacket.handleClient();
             } else if (packet instanceof BreathingEffectPacket effectPacket) {
                 effectPacket.handleClient();
+            } else if (packet instanceof TeleportTrailPacket trailPacket) {
+                trailPacket.handleClient();
+            } else if (packet instanceof VfxEventPacket vfxPacket) {
+                vfxPacket.handleClient();
+            } else if (packet instanceof ShockedStatusPacket shockedPacket) {
+                shockedPacket.handleClient();
+            } else if (packet instanceof LightningBoltPacket boltPacket) {
+                boltPacket.handleClient();
             } else if (handler != null) {
                 handler.run(); // Use the registered handler
             }
@@ -152,6 +197,25 @@ public class NichirinPacketRegistry {
         }
     }
 
+    // Encodes once for any number of players
+    public static void sendToPlayers(Object packet, Iterable<ServerPlayer> players) {
+        ResourceLocation id = PACKET_IDS.get(packet.getClass());
+        if (id != null) {
+            FriendlyByteBuf buf = encodePacket(packet);
+            NetworkManager.sendToPlayers(players, id, buf);
+        }
+    }
+
+    // Sends to every player tracking the entity, and to the entity itself if it is a player
+    public static void sendToTrackingAndSelf(Object packet, Entity entity) {
+        ResourceLocation id = PACKET_IDS.get(packet.getClass());
+        if (id != null && entity.level() instanceof ServerLevel serverLevel) {
+            FriendlyByteBuf buf = encodePacket(packet);
+            serverLevel.getChunkSource().broadcastAndSend(entity,
+                    NetworkManager.toPacket(NetworkManager.Side.S2C, id, buf));
+        }
+    }
+
     public static void sendToServer(Object packet) {
         ResourceLocation id = PACKET_IDS.get(packet.getClass());
         if (id != null) {
@@ -179,9 +243,15 @@ public class NichirinPacketRegistry {
             p.toBytes(buf);
         } else if (packet instanceof BreathingEffectPacket p) {
             p.toBytes(buf);
-        } else if (packet instanceof SyncBreathPacket p) {
+        } else if (packet instanceof PlayerStateSyncPacket p) {
+            p.toBytes(buf);
+        } else if (packet instanceof TeleportTrailPacket p) {
+            p.toBytes(buf);
+        } else if (packet instanceof VfxEventPacket p) {
+            p.toBytes(buf);
+        } else if (packet instanceof ShockedStatusPacket p) {
             p.toBytes(buf);
-        } else if (packet instanceof StaminaSyncPacket p) {
+        } else if (packet instanceof LightningBoltPacket p) {
             p.toBytes(buf);
         }
 
@@ -0,0 +1,117 @@
+package com.xirc.nichirin.registry;
+
+import com.xirc.nichirin.BreathOfNichirin;
+import com.xirc.nichirin.common.network.LightningBoltPacket;
+import com.xirc.nichirin.common.network.VfxEventPacket;
+import com.xirc.nichirin.common.vfx.IVfxProgram;
+import com.xirc.nichirin.common.vfx.ThunderVfx;
+import com.xirc.nichirin.common.vfx.VfxEffect;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registry of the named effect programs breathing forms play.
+ * The server only sends the effect id, a position, a direction, a scale and a seed;
+ * each client runs the program itself. Both sides register the same programs in the
+ * same order, so an effect's registration index is its network id.
+ */
+public class NichirinVfxRegistry {
+
+    private static final List<VfxEffect> EFFECTS = new ArrayList<>();
+
+    // Players further than this from an effect don't receive it
+    private static final double VIEW_DISTANCE = 64.0;
+    // Lightning is seen from much further (vanilla tracks bolts 16 chunks away)
+    private static final double BOLT_VIEW_DISTANCE = 256.0;
+
+    // Thunder Breathing
+    public static final VfxEffect THUNDER_SWARM_SLASH = register("thunder_swarm_slash", ThunderVfx::swarmSlash);
+    public static final VfxEffect SPARK_HIT = register("spark_hit", ThunderVfx::sparkHit);
+    public static final VfxEffect RICE_SPIRIT_SLASH = register("rice_spirit_slash", ThunderVfx::riceSpiritSlash);
+    public static final VfxEffect RISING_SLASH = register("rising_slash", ThunderVfx::risingSlash);
+    public static final VfxEffect LIGHTNING_HIT = register("lightning_hit", ThunderVfx::lightningHit);
+    public static final VfxEffect RUMBLE_IMPACT = register("rumble_impact", ThunderVfx::rumbleImpact);
+    public static final VfxEffect STRIKE_IMPACT = register("strike_impact", ThunderVfx::strikeImpact);
+    public static final VfxEffect STORM_CLOUDS = register("storm_clouds", ThunderVfx::stormClouds);
+    public static final VfxEffect STORM_SPARKS = register("storm_sparks", ThunderVfx::stormSparks);
+    public static final VfxEffect ULTIMATE_HIT = register("ultimate_hit", ThunderVfx::ultimateHit);
+    public static final VfxEffect THUNDER_DRAGON = register("thunder_dragon", ThunderVfx::thunderDragon);
+    public static final VfxEffect THUNDER_EXPLOSION = register("thunder_explosion", ThunderVfx::thunderExplosion);
+
+    /**
+     * Registers an effect program under the next id
+     */
+    public static VfxEffect register(String name, IVfxProgram program) {
+        VfxEffect effect = new VfxEffect(EFFECTS.size(),
+                new ResourceLocation(BreathOfNichirin.MOD_ID, name), program);
+        EFFECTS.add(effect);
+        return effect;
+    }
+
+    /**
+     * Gets an effect by its network id
+     */
+    @Nullable
+    public static VfxEffect byId(int id) {
+        return id >= 0 && id < EFFECTS.size() ? EFFECTS.get(id) : null;
+    }
+
+    /**
+     * Plays an effect with no particular direction
+     */
+    public static void play(ServerLevel level, VfxEffect effect, Vec3 pos, float scale) {
+        play(level, effect, pos, Vec3.ZERO, scale);
+    }
+
+    /**
+     * Sends an effect to every player close enough to see it, as a single packet
+     */
+    public static void play(ServerLevel level, VfxEffect effect, Vec3 pos, Vec3 direction, float scale) {
+        List<ServerPlayer> viewers = new ArrayList<>();
+        double maxDistanceSq = VIEW_DISTANCE * VIEW_DISTANCE;
+        for (ServerPlayer player : level.players()) {
+            if (player.distanceToSqr(pos) <= maxDistanceSq) {
+                viewers.add(player);
+            }
+        }
+        if (viewers.isEmpty()) return;
+
+        VfxEventPacket packet = new VfxEventPacket(effect.id(), pos, direction, scale, level.random.nextLong());
+        NichirinPacketRegistry.sendToPlayers(packet, viewers);
+    }
+
+    /**
+     * Visual-only lightning at each position, drawn by clients as one strike
+     * (replaces spawning LightningBolt entities with setVisualOnly)
+     */
+    public static void strikeBolts(ServerLevel level, List<Vec3> positions) {
+        if (positions.isEmpty()) return;
+
+        List<ServerPlayer> viewers = new ArrayList<>();
+        double maxDistanceSq = BOLT_VIEW_DISTANCE * BOLT_VIEW_DISTANCE;
+        for (ServerPlayer player : level.players()) {
+            for (Vec3 pos : positions) {
+                if (player.distanceToSqr(pos) <= maxDistanceSq) {
+                    viewers.add(player);
+                    break;
+                }
+            }
+        }
+        if (viewers.isEmpty()) return;
+
+        NichirinPacketRegistry.sendToPlayers(new LightningBoltPacket(positions, level.random.nextLong()), viewers);
+    }
+
+    /**
+     * Loads the class, registering the effects
+     */
+    public static void init() {
+        BreathOfNichirin.LOGGER.info("Registered {} effect programs", EFFECTS.size());
+    }
+}
@@ -0,0 +1,137 @@
+package com.xirc.nichirin.common.system;
+
+import com.xirc.nichirin.common.util.Sided;
+import com.xirc.nichirin.testutil.MinecraftTest;
+import net.minecraft.world.entity.player.Player;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stress test for the side split: in singleplayer the integrated server thread and the
+ * client thread hit the same static systems at once, with the same player UUID.
+ * Each side must only ever see its own writes.
+ */
+class SideIsolationTest {
+
+    private static final int ROUNDS = 50_000;
+    private static final long GAME_TIME = 1000;
+
+    @BeforeAll
+    static void setUp() {
+        MinecraftTest.bootstrap();
+    }
+
+    @Test
+    void sidedGivesEachSideItsOwnContainer() throws Exception {
+        Sided<Map<Integer, Integer>> sided = new Sided<>(HashMap::new);
+        assertNotSame(sided.server(), sided.client());
+
+        runOnBothSides(clientSide -> {
+            Map<Integer, Integer> map = sided.get(clientSide);
+            int sign = clientSide ? -1 : 1;
+            for (int i = 0; i < ROUNDS; i++) {
+                map.put(i, sign * i);
+                assertEquals(sign * i, map.get(i));
+            }
+        });
+
+        // A HashMap shared by both threads would lose entries or end up with the other side's values
+        assertEquals(ROUNDS, sided.server().size());
+        assertEquals(ROUNDS, sided.client().size());
+        for (int i = 0; i < ROUNDS; i++) {
+            assertEquals(i, sided.server().get(i));
+            assertEquals(-i, sided.client().get(i));
+        }
+    }
+
+    @Test
+    void gaugeWritesStayOnTheirSide() throws Exception {
+        // The integrated server and the client know the player under the same UUID
+        UUID id = UUID.randomUUID();
+        Player serverPlayer = MinecraftTest.player(MinecraftTest.level(false, GAME_TIME), id);
+        Player clientPlayer = MinecraftTest.player(MinecraftTest.level(true, GAME_TIME), id);
+
+        try {
+            runOnBothSides(clientSide -> {
+                Player player = clientSide ? clientPlayer : serverPlayer;
+                float max = clientSide ? 200f : 100f;
+                float offset = clientSide ? 0.5f : 0.25f;
+                PlayerGaugeStore.setMax(player, PlayerGaugeStore.STAMINA, max);
+
+                for (int i = 0; i < ROUNDS; i++) {
+                    float stamina = (i % 80) + offset;
+                    PlayerGaugeStore.set(player, PlayerGaugeStore.STAMINA, stamina);
+                    PlayerGaugeStore.set(player, PlayerGaugeStore.BREATH, 90 - stamina);
+                    assertEquals(stamina, PlayerGaugeStore.get(player, PlayerGaugeStore.STAMINA));
+                    assertEquals(90 - stamina, PlayerGaugeStore.get(player, PlayerGaugeStore.BREATH));
+
+                    assertTrue(PlayerGaugeStore.consume(player, 0.25f, 0.25f));
+                    assertEquals(stamina - 0.25f, PlayerGaugeStore.get(player, PlayerGaugeStore.STAMINA));
+                    assertEquals(90 - stamina - 0.25f, PlayerGaugeStore.get(player, PlayerGaugeStore.BREATH));
+                    assertEquals(max, PlayerGaugeStore.getMax(player, PlayerGaugeStore.STAMINA));
+                }
+            });
+
+            // Each side ends on its own last write
+            assertEquals(79.25f - 0.25f, PlayerGaugeStore.get(serverPlayer, PlayerGaugeStore.STAMINA));
+            assertEquals(79.5f - 0.25f, PlayerGaugeStore.get(clientPlayer, PlayerGaugeStore.STAMINA));
+        } finally {
+            PlayerGaugeStore.release(serverPlayer);
+            PlayerGaugeStore.release(clientPlayer);
+        }
+    }
+
+    /**
+     * Runs the task on a "server" and a "client" thread at the same time
+     */
+    private static void runOnBothSides(SideTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?> server = executor.submit(() -> {
+                start.await();
+                task.run(false);
+                return null;
+            });
+            Future<?> client = executor.submit(() -> {
+                start.await();
+                task.run(true);
+                return null;
+            });
+            start.countDown();
+            await(server);
+            await(client);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(Future<?> future) throws Exception {
+        try {
+            future.get(60, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            // Surface the failed assertion itself
+            if (e.getCause() instanceof Error error) throw error;
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SideTask {
+        void run(boolean clientSide) throws Exception;
+    }
+}
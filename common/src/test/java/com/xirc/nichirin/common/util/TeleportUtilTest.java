@@ -0,0 +1,131 @@
+package com.xirc.nichirin.common.util;
+
+import com.xirc.nichirin.testutil.MinecraftTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The clear path walk of dashes, on flat stone ground (y 63 and below) with the given walls
+ */
+class TeleportUtilTest {
+
+    private static final double EPSILON = 1.0E-9;
+    private static final double DIAGONAL_BACKOFF = 0.5 / Math.sqrt(2);
+
+    @BeforeAll
+    static void bootstrap() {
+        MinecraftTest.bootstrap();
+    }
+
+    @Test
+    void openPathGoesTheFullDistance() {
+        Entity entity = entity(new HashSet<>());
+        Vec3 end = TeleportUtil.findFurthestClearPosition(entity, new Vec3(-3.5, 64, -3.5), new Vec3(0, 0, -1), 6);
+        assertVec(new Vec3(-3.5, 64, -9.5), end);
+    }
+
+    @Test
+    void axisAlignedPathStopsBeforeWall() {
+        Set<BlockPos> walls = new HashSet<>();
+        walls.add(new BlockPos(5, 64, 0));
+        Entity entity = entity(walls);
+        Vec3 end = TeleportUtil.findFurthestClearPosition(entity, new Vec3(0.5, 64, 0.5), new Vec3(1, 0, 0), 10);
+        assertVec(new Vec3(4.5, 64, 0.5), end);
+    }
+
+    @Test
+    void headHeightWallBlocksTheBody() {
+        Set<BlockPos> walls = new HashSet<>();
+        walls.add(new BlockPos(0, 65, 5));
+        Entity entity = entity(walls);
+        Vec3 end = TeleportUtil.findFurthestClearPosition(entity, new Vec3(0.5, 64, 0.5), new Vec3(0, 0, 1), 10);
+        assertVec(new Vec3(0.5, 64, 4.5), end);
+    }
+
+    @Test
+    void negativeAxisAlignedPathStopsBeforeWall() {
+        Set<BlockPos> walls = new HashSet<>();
+        walls.add(new BlockPos(-5, 64, -1));
+        Entity entity = entity(walls);
+        Vec3 end = TeleportUtil.findFurthestClearPosition(entity, new Vec3(-0.5, 64, -0.5), new Vec3(-1, 0, 0), 10);
+        assertVec(new Vec3(-3.5, 64, -0.5), end);
+    }
+
+    @Test
+    void negativeDiagonalPathStopsBeforeWall() {
+        // A wall along x = -15, reached when the feet cross x = -14
+        Set<BlockPos> walls = new HashSet<>();
+        for (int z = -25; z <= 0; z++) {
+            walls.add(new BlockPos(-15, 64, z));
+        }
+        Entity entity = entity(walls);
+        Vec3 end = TeleportUtil.findFurthestClearPosition(entity, new Vec3(-10.3, 64, -7.7), new Vec3(-1, 0, -1), 10);
+        assertVec(new Vec3(-14 + DIAGONAL_BACKOFF, 64, -11.4 + DIAGONAL_BACKOFF), end);
+    }
+
+    @Test
+    void startOnBoundaryMovingAwayFromWall() {
+        // Feet on the face of the block behind - the path starts in the block it moves into
+        Set<BlockPos> walls = new HashSet<>();
+        walls.add(new BlockPos(2, 64, 0));
+        Entity entity = entity(walls);
+        Vec3 end = TeleportUtil.findFurthestClearPosition(entity, new Vec3(2.0, 64, 0.5), new Vec3(-1, 0, 0), 3);
+        assertVec(new Vec3(-1.0, 64, 0.5), end);
+    }
+
+    @Test
+    void startOnBoundaryMovingTowardsWall() {
+        Set<BlockPos> walls = new HashSet<>();
+        walls.add(new BlockPos(1, 64, 0));
+        walls.add(new BlockPos(5, 64, 0));
+        Entity entity = entity(walls);
+        Vec3 end = TeleportUtil.findFurthestClearPosition(entity, new Vec3(2.0, 64, 0.5), new Vec3(1, 0, 0), 10);
+        assertVec(new Vec3(4.5, 64, 0.5), end);
+    }
+
+    @Test
+    void startOnNegativeBoundaryMovingAwayFromWall() {
+        Set<BlockPos> walls = new HashSet<>();
+        walls.add(new BlockPos(0, 64, -2));
+        Entity entity = entity(walls);
+        Vec3 end = TeleportUtil.findFurthestClearPosition(entity, new Vec3(0.5, 64, -2.0), new Vec3(0, 0, -1), 4);
+        assertVec(new Vec3(0.5, 64, -6.0), end);
+    }
+
+    /**
+     * A player sized entity in a loaded level of stone ground plus the given walls
+     */
+    private static Entity entity(Set<BlockPos> walls) {
+        Level level = MinecraftTest.level(false, 0);
+        when(level.isLoaded(any(BlockPos.class))).thenReturn(true);
+        when(level.getBlockState(any(BlockPos.class))).thenAnswer(invocation -> {
+            BlockPos pos = invocation.getArgument(0);
+            return pos.getY() <= 63 || walls.contains(pos)
+                    ? Blocks.STONE.defaultBlockState() : Blocks.AIR.defaultBlockState();
+        });
+
+        Entity entity = mock(Entity.class);
+        when(entity.level()).thenReturn(level);
+        when(entity.getBbHeight()).thenReturn(1.8f);
+        return entity;
+    }
+
+    private static void assertVec(Vec3 expected, Vec3 actual) {
+        assertEquals(expected.x, actual.x, EPSILON, "x of " + actual);
+        assertEquals(expected.y, actual.y, EPSILON, "y of " + actual);
+        assertEquals(expected.z, actual.z, EPSILON, "z of " + actual);
+    }
+}
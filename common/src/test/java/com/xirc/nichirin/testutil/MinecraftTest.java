@@ -0,0 +1,64 @@
+package com.xirc.nichirin.testutil;
+
+import com.xirc.nichirin.common.system.INichirinPlayer;
+import com.xirc.nichirin.common.system.NichirinPlayerState;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+
+import java.lang.reflect.Field;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Shared setup for tests that touch Minecraft classes without a running game
+ */
+public final class MinecraftTest {
+
+    private static boolean bootstrapped = false;
+
+    private MinecraftTest() {}
+
+    /**
+     * Loads the vanilla registries, once per test JVM
+     */
+    public static synchronized void bootstrap() {
+        if (bootstrapped) return;
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        bootstrapped = true;
+    }
+
+    /**
+     * A level on the given logical side, frozen at the given game time
+     */
+    public static Level level(boolean clientSide, long gameTime) {
+        Level level = mock(Level.class);
+        // isClientSide is a final field, so the mock can't stub it
+        try {
+            Field field = Level.class.getDeclaredField("isClientSide");
+            field.setAccessible(true);
+            field.setBoolean(level, clientSide);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Can't set the level side", e);
+        }
+        when(level.getGameTime()).thenReturn(gameTime);
+        return level;
+    }
+
+    /**
+     * A player in the given level, carrying its own state like PlayerStateMixin attaches
+     */
+    public static Player player(Level level, UUID id) {
+        Player player = mock(Player.class, withSettings().extraInterfaces(INichirinPlayer.class));
+        NichirinPlayerState state = new NichirinPlayerState();
+        when(((INichirinPlayer) player).nichirin$getState()).thenReturn(state);
+        when(player.level()).thenReturn(level);
+        when(player.getUUID()).thenReturn(id);
+        return player;
+    }
+}